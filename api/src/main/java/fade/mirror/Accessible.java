@@ -112,6 +112,19 @@ public interface Accessible<Self extends Accessible<Self>> {
 
     @NotNull Self makeAccessible(@Nullable Object instance);
 
+    /**
+     * Discards any accessibility this object has resolved and cached, so that it is checked again, and granted again if
+     * necessary, on the next access. The mirror implementations resolve the accessibility of a member once, on its
+     * first access; this is only needed if access to the member may have changed since, for example because its
+     * package has been opened in the meantime.
+     *
+     * @return the wrapper.
+     */
+    @SuppressWarnings("unchecked")
+    default @NotNull Self refreshAccessibility() {
+        return (Self) this;
+    }
+
     @Contract(pure = true)
     boolean isAccessible(@Nullable Object instance);
 
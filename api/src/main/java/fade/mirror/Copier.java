@@ -0,0 +1,64 @@
+package fade.mirror;
+
+import fade.mirror.exception.InvocationException;
+import fade.mirror.exception.MismatchedArgumentsException;
+import fade.mirror.internal.impl.BasicCopier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Copies the non-static fields of a class and its superclasses from one instance to another. Copies are shallow: the
+ * values of reference fields are shared between the instances, not copied themselves.
+ * <p>
+ * A copier is compiled once, when it is created, and can be reused and shared between threads. Copying involves no
+ * reflective lookups and does not box primitive values.
+ * </p>
+ *
+ * @param <Type> the type of the instances.
+ * @author fade
+ * @see MClass#copier()
+ */
+public sealed interface Copier<Type>
+        permits BasicCopier {
+
+    /**
+     * Returns the class whose fields this copier copies.
+     *
+     * @return the class.
+     */
+    @Contract(pure = true)
+    @NotNull MClass<Type> getDeclaringClass();
+
+    /**
+     * Copies every field from the source to the target.
+     *
+     * @param source the instance to copy from.
+     * @param target the instance to copy to.
+     * @return the target.
+     * @throws MismatchedArgumentsException if either instance is not an instance of the copier's class.
+     */
+    @NotNull Type copy(@NotNull Type source, @NotNull Type target);
+
+    /**
+     * Copies every primitive field, and every reference field that is not {@code null} in the source, from the source
+     * to the target. Fields that are {@code null} in the source keep their value in the target.
+     *
+     * @param source the instance to copy from.
+     * @param target the instance to copy to.
+     * @return the target.
+     * @throws MismatchedArgumentsException if either instance is not an instance of the copier's class.
+     */
+    @NotNull Type merge(@NotNull Type source, @NotNull Type target);
+
+    /**
+     * Creates a shallow copy of the source. The copy is created with the class' constructor without parameters, which
+     * may be private, and then has every field copied to it.
+     *
+     * @param source the instance to copy.
+     * @return the copy.
+     * @throws MismatchedArgumentsException if the instance is not exactly of the copier's class; the copy of an instance
+     *                                      of a subclass would lose the fields of the subclass.
+     * @throws InvocationException          if the class has no constructor without parameters, or it fails.
+     */
+    @NotNull Type copy(@NotNull Type source);
+}
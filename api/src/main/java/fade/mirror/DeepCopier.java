@@ -0,0 +1,82 @@
+package fade.mirror;
+
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.exception.InvocationException;
+import fade.mirror.internal.impl.BasicDeepCopier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Copies object graphs. Every object reachable from the source through non-static fields, array elements and the
+ * elements of collections and maps is copied exactly once, so shared references and cycles are preserved in the copy.
+ * <p>
+ * Objects are copied by creating a new instance of their class with its constructor without parameters, which may be
+ * private, and then copying its fields with the class' compiled field plan. Arrays are copied element by element,
+ * collections and maps are copied into a new instance of their class. The unmodifiable and fixed-size collections and
+ * maps of the JDK, such as those of {@link java.util.List#of()}, {@link java.util.Arrays#asList(Object[])} and
+ * {@link java.util.Collections#unmodifiableList(java.util.List)}, are copied into a view of the same kind. Records are
+ * copied with their canonical constructor from copies of their components; a record that is reachable from its own
+ * components cannot be copied. Graphs are walked iteratively, so deep structures such as long linked lists do not
+ * overflow the stack.
+ * </p>
+ * <p>
+ * Instances of immutable types are shared between the source and the copy rather than copied. By default, these are
+ * strings, primitive wrappers, enums, classes, {@link java.math.BigInteger}, {@link java.math.BigDecimal},
+ * {@link java.util.UUID} and the types of {@code java.time}; more can be added with {@link #immutable(Predicate)}.
+ * </p>
+ * <p>
+ * Deep copiers are immutable: the configuration methods return a new copier. A copier can be reused and shared between
+ * threads, and it should be, since the copy plans it derives for the classes it encounters are kept with it.
+ * </p>
+ *
+ * @param <Type> the type of the objects.
+ * @author fade
+ * @see Mirror#deepCopier(Class)
+ */
+public sealed interface DeepCopier<Type>
+        permits BasicDeepCopier {
+
+    /**
+     * Returns a copier that shares the values of the fields that match the given filter, rather than copying them.
+     *
+     * @param filter      the filter to apply.
+     * @param <FieldType> the type of the fields.
+     * @return the new copier.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    <FieldType> @NotNull DeepCopier<Type> share(@NotNull Predicate<MField<FieldType>> filter);
+
+    /**
+     * Returns a copier that skips the fields that match the given filter. Skipped fields keep the value the
+     * constructor of the copy assigned to them.
+     *
+     * @param filter      the filter to apply.
+     * @param <FieldType> the type of the fields.
+     * @return the new copier.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    <FieldType> @NotNull DeepCopier<Type> skip(@NotNull Predicate<MField<FieldType>> filter);
+
+    /**
+     * Returns a copier that shares instances of the types that match the given filter, rather than copying them.
+     *
+     * @param filter the filter to apply to the runtime class of every object.
+     * @return the new copier.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    @NotNull DeepCopier<Type> immutable(@NotNull Predicate<Class<?>> filter);
+
+    /**
+     * Copies the graph reachable from the given object.
+     *
+     * @param source the object to copy.
+     * @return the copy, or {@code null} if the source is {@code null}.
+     * @throws InvocationException   if an object has no constructor without parameters, or it fails.
+     * @throws InaccessibleException if a field of an object is inaccessible.
+     */
+    @Contract("null -> null; !null -> !null")
+    @Nullable Type copy(@Nullable Type source);
+}
@@ -0,0 +1,44 @@
+package fade.mirror;
+
+import fade.mirror.internal.impl.BasicEquivalence;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compares instances of a class by the values of their fields, like the {@code equals} and {@code hashCode} methods of
+ * a record. Primitive fields are compared and hashed without boxing, {@code float} and {@code double} fields like
+ * {@link Float#compare(float, float)} and {@link Double#compare(double, double)}; reference fields are compared with
+ * {@link java.util.Objects#deepEquals(Object, Object)}, so arrays are compared by their elements.
+ * <p>
+ * Two instances are only equivalent if they are of the same class. An equivalence is compiled once, when it is
+ * created, and can be reused and shared between threads.
+ * </p>
+ *
+ * @param <Type> the type of the instances.
+ * @author fade
+ * @see MClass#equivalence()
+ */
+public sealed interface Equivalence<Type>
+        permits BasicEquivalence {
+
+    /**
+     * Checks if the given instances are equivalent, i.e. if they are of the same class and all of their compared fields
+     * are equal. Two {@code null} values are equivalent.
+     *
+     * @param first  the first instance.
+     * @param second the second instance.
+     * @return {@code true} if the instances are equivalent, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    boolean equivalent(@Nullable Type first, @Nullable Type second);
+
+    /**
+     * Computes the hash code of the given instance from its compared fields. Equivalent instances have the same hash
+     * code; the hash code of {@code null} is {@code 0}.
+     *
+     * @param instance the instance.
+     * @return the hash code.
+     */
+    @Contract(pure = true)
+    int hash(@Nullable Type instance);
+}
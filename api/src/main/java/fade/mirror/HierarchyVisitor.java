@@ -0,0 +1,98 @@
+package fade.mirror;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Visits the classes of a hierarchy and their members. See {@link MClass#walk(HierarchyVisitor)} for the order in
+ * which they are visited. Every method continues the walk by default, so a visitor only overrides the methods for the
+ * elements it is interested in.
+ *
+ * @author fade
+ */
+public interface HierarchyVisitor {
+
+    /**
+     * Visits a class. If the result is {@link Result#Prune}, neither the members of the class nor the classes reached
+     * through it are visited, unless they are also reached through another class.
+     *
+     * @param clazz    the class.
+     * @param relation how the class was reached from the class it was found through.
+     * @return how to continue the walk.
+     */
+    default @NotNull Result visitClass(@NotNull MClass<?> clazz, @NotNull Relation relation) {
+        return Result.Continue;
+    }
+
+    /**
+     * Visits a public constructor of a visited class. If the result is {@link Result#Prune}, the remaining members of
+     * the class are skipped.
+     *
+     * @param constructor the constructor.
+     * @return how to continue the walk.
+     */
+    default @NotNull Result visitConstructor(@NotNull MConstructor<?> constructor) {
+        return Result.Continue;
+    }
+
+    /**
+     * Visits a declared field of a visited class. If the result is {@link Result#Prune}, the remaining members of the
+     * class are skipped.
+     *
+     * @param field the field.
+     * @return how to continue the walk.
+     */
+    default @NotNull Result visitField(@NotNull MField<?> field) {
+        return Result.Continue;
+    }
+
+    /**
+     * Visits a declared method of a visited class. If the result is {@link Result#Prune}, the remaining members of the
+     * class are skipped.
+     *
+     * @param method the method.
+     * @return how to continue the walk.
+     */
+    default @NotNull Result visitMethod(@NotNull MMethod<?> method) {
+        return Result.Continue;
+    }
+
+    /**
+     * How to continue a walk after visiting an element.
+     */
+    enum Result {
+        /**
+         * Continue the walk.
+         */
+        Continue,
+        /**
+         * Skip what lies below the visited element; see the visit methods.
+         */
+        Prune,
+        /**
+         * Stop the walk.
+         */
+        Terminate
+    }
+
+    /**
+     * How a visited class was reached.
+     */
+    enum Relation {
+        /**
+         * The class the walk started at.
+         */
+        Self,
+        /**
+         * The superclass of the class it was found through.
+         */
+        Superclass,
+        /**
+         * An interface of the class it was found through.
+         */
+        Interface,
+        /**
+         * A class declared in the class it was found through.
+         */
+        InnerClass
+    }
+}
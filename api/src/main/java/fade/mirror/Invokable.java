@@ -29,8 +29,113 @@ public interface Invokable<Type> {
 
     @Nullable Type invokeWithInstance(@Nullable Object instance, @Nullable Object... arguments);
 
+    /**
+     * Invokes the method or constructor represented by this object with no arguments. Unlike
+     * {@link #invokeWithInstance(Object, Object...)}, this does not require an argument array, which allows
+     * implementations to invoke the method or constructor without allocating.
+     *
+     * @param instance the instance to invoke the method on, or {@code null} for static methods and constructors.
+     * @return the result of the method or constructor.
+     */
+    default @Nullable Type invoke0(@Nullable Object instance) {
+        return this.invokeWithInstance(instance);
+    }
+
+    /**
+     * Invokes the method or constructor represented by this object with the given argument, without an
+     * argument array; see {@link #invoke0(Object)}.
+     *
+     * @param instance  the instance to invoke the method on, or {@code null} for static methods and constructors.
+     * @param argument0 the first argument.
+     * @return the result of the method or constructor.
+     */
+    default @Nullable Type invoke1(@Nullable Object instance, @Nullable Object argument0) {
+        return this.invokeWithInstance(instance, argument0);
+    }
+
+    /**
+     * Invokes the method or constructor represented by this object with the given 2 arguments, without an
+     * argument array; see {@link #invoke0(Object)}.
+     *
+     * @param instance  the instance to invoke the method on, or {@code null} for static methods and constructors.
+     * @param argument0 the first argument.
+     * @param argument1 the second argument.
+     * @return the result of the method or constructor.
+     */
+    default @Nullable Type invoke2(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1) {
+        return this.invokeWithInstance(instance, argument0, argument1);
+    }
+
+    /**
+     * Invokes the method or constructor represented by this object with the given 3 arguments, without an
+     * argument array; see {@link #invoke0(Object)}.
+     *
+     * @param instance  the instance to invoke the method on, or {@code null} for static methods and constructors.
+     * @param argument0 the first argument.
+     * @param argument1 the second argument.
+     * @param argument2 the third argument.
+     * @return the result of the method or constructor.
+     */
+    default @Nullable Type invoke3(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2) {
+        return this.invokeWithInstance(instance, argument0, argument1, argument2);
+    }
+
+    /**
+     * Invokes the method or constructor represented by this object with the given 4 arguments, without an
+     * argument array; see {@link #invoke0(Object)}.
+     *
+     * @param instance  the instance to invoke the method on, or {@code null} for static methods and constructors.
+     * @param argument0 the first argument.
+     * @param argument1 the second argument.
+     * @param argument2 the third argument.
+     * @param argument3 the fourth argument.
+     * @return the result of the method or constructor.
+     */
+    default @Nullable Type invoke4(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3) {
+        return this.invokeWithInstance(instance, argument0, argument1, argument2, argument3);
+    }
+
+    /**
+     * Invokes the method or constructor represented by this object with the given 5 arguments, without an
+     * argument array; see {@link #invoke0(Object)}.
+     *
+     * @param instance  the instance to invoke the method on, or {@code null} for static methods and constructors.
+     * @param argument0 the first argument.
+     * @param argument1 the second argument.
+     * @param argument2 the third argument.
+     * @param argument3 the fourth argument.
+     * @param argument4 the fifth argument.
+     * @return the result of the method or constructor.
+     */
+    default @Nullable Type invoke5(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3, @Nullable Object argument4) {
+        return this.invokeWithInstance(instance, argument0, argument1, argument2, argument3, argument4);
+    }
+
+    /**
+     * Invokes the method or constructor represented by this object with the given 6 arguments, without an
+     * argument array; see {@link #invoke0(Object)}.
+     *
+     * @param instance  the instance to invoke the method on, or {@code null} for static methods and constructors.
+     * @param argument0 the first argument.
+     * @param argument1 the second argument.
+     * @param argument2 the third argument.
+     * @param argument3 the fourth argument.
+     * @param argument4 the fifth argument.
+     * @param argument5 the sixth argument.
+     * @return the result of the method or constructor.
+     */
+    default @Nullable Type invoke6(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3, @Nullable Object argument4, @Nullable Object argument5) {
+        return this.invokeWithInstance(instance, argument0, argument1, argument2, argument3, argument4, argument5);
+    }
+
     /**
      * Tests whether the method or constructor represented by this object can be invoked with the given arguments.
+     * <p>
+     * The mirror implementations accept {@code null} for every reference parameter, and any wrapper whose value can be
+     * unboxed and widened to a primitive parameter; an {@link Integer} can be passed for a {@code long} parameter, for
+     * example. The trailing parameter of a variable arity method or constructor may be passed either as an array or
+     * as separate arguments.
+     * </p>
      *
      * @param arguments the arguments to test.
      * @return whether the method or constructor can be invoked with the given arguments.
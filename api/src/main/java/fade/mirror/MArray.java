@@ -0,0 +1,303 @@
+package fade.mirror;
+
+import fade.mirror.exception.MismatchedArgumentsException;
+import fade.mirror.internal.impl.BasicMirrorArray;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents an array class. Elements are accessed through the array's element {@link java.lang.invoke.VarHandle}
+ * rather than {@link java.lang.reflect.Array}; the primitive-specialized accessors, such as {@link #getInt(Object, int)}
+ * and {@link #setInt(Object, int, int)}, do not box.
+ * <p>
+ * The primitive getters accept every array whose component type widens to the requested type, e.g. {@code getLong} on a
+ * {@code byte[]}; the primitive setters accept every value that widens to the component type. Indices outside the
+ * array throw an {@link ArrayIndexOutOfBoundsException}, as with regular array access.
+ * </p>
+ *
+ * @param <Type> the type of the array, e.g. {@code int[]}.
+ * @author fade
+ * @see MClass#asArray()
+ */
+public sealed interface MArray<Type>
+        permits BasicMirrorArray {
+
+    /**
+     * Returns the array class.
+     *
+     * @return the array class.
+     */
+    @Contract(pure = true)
+    @NotNull MClass<Type> getDeclaringClass();
+
+    /**
+     * Returns the component type of the array class.
+     *
+     * @return the component type.
+     */
+    @Contract(pure = true)
+    @NotNull Class<?> getComponentType();
+
+    /**
+     * Creates a new array of the given length.
+     *
+     * @param length the length.
+     * @return the array.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    @NotNull Type newInstance(int length);
+
+    /**
+     * Returns the length of the given array.
+     *
+     * @param array the array.
+     * @return the length.
+     * @throws MismatchedArgumentsException if the array is not an instance of the array class.
+     */
+    @Contract(pure = true)
+    int getLength(@NotNull Object array);
+
+    /**
+     * Returns the element at the given index, boxing primitive values.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @return the element.
+     * @throws MismatchedArgumentsException if the array is not an instance of the array class.
+     */
+    @Nullable Object get(@NotNull Object array, int index);
+
+    /**
+     * Sets the element at the given index. Primitive values are unboxed and widened to the component type.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @param value the value.
+     * @return this array mirror.
+     * @throws MismatchedArgumentsException if the array is not an instance of the array class, or the value cannot be
+     *                                      assigned to its elements.
+     */
+    @NotNull MArray<Type> set(@NotNull Object array, int index, @Nullable Object value);
+
+    /**
+     * Returns the element at the given index of a {@code boolean[]} array, without boxing it.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @return the element.
+     * @throws MismatchedArgumentsException if the array is not an instance of the array class, or its elements are not
+     *                                      of the type {@code boolean}.
+     */
+    boolean getBoolean(@NotNull Object array, int index);
+
+    /**
+     * Returns the element at the given index as a {@code byte}, without boxing it. See
+     * {@link #getBoolean(Object, int)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @return the element.
+     */
+    byte getByte(@NotNull Object array, int index);
+
+    /**
+     * Returns the element at the given index as a {@code char}, without boxing it. See
+     * {@link #getBoolean(Object, int)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @return the element.
+     */
+    char getChar(@NotNull Object array, int index);
+
+    /**
+     * Returns the element at the given index as a {@code short}, without boxing it. See
+     * {@link #getBoolean(Object, int)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @return the element.
+     */
+    short getShort(@NotNull Object array, int index);
+
+    /**
+     * Returns the element at the given index as a {@code int}, without boxing it. See
+     * {@link #getBoolean(Object, int)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @return the element.
+     */
+    int getInt(@NotNull Object array, int index);
+
+    /**
+     * Returns the element at the given index as a {@code long}, without boxing it. See
+     * {@link #getBoolean(Object, int)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @return the element.
+     */
+    long getLong(@NotNull Object array, int index);
+
+    /**
+     * Returns the element at the given index as a {@code float}, without boxing it. See
+     * {@link #getBoolean(Object, int)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @return the element.
+     */
+    float getFloat(@NotNull Object array, int index);
+
+    /**
+     * Returns the element at the given index as a {@code double}, without boxing it. See
+     * {@link #getBoolean(Object, int)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @return the element.
+     */
+    double getDouble(@NotNull Object array, int index);
+
+    /**
+     * Sets the element at the given index of a {@code boolean[]} array, without boxing it.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @param value the value.
+     * @return this array mirror.
+     * @throws MismatchedArgumentsException if the array is not an instance of the array class, or its elements are not
+     *                                      of the type {@code boolean}.
+     */
+    @NotNull MArray<Type> setBoolean(@NotNull Object array, int index, boolean value);
+
+    /**
+     * Sets the element at the given index to a {@code byte}, without boxing it. See
+     * {@link #setBoolean(Object, int, boolean)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @param value the value.
+     * @return this array mirror.
+     */
+    @NotNull MArray<Type> setByte(@NotNull Object array, int index, byte value);
+
+    /**
+     * Sets the element at the given index to a {@code char}, without boxing it. See
+     * {@link #setBoolean(Object, int, boolean)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @param value the value.
+     * @return this array mirror.
+     */
+    @NotNull MArray<Type> setChar(@NotNull Object array, int index, char value);
+
+    /**
+     * Sets the element at the given index to a {@code short}, without boxing it. See
+     * {@link #setBoolean(Object, int, boolean)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @param value the value.
+     * @return this array mirror.
+     */
+    @NotNull MArray<Type> setShort(@NotNull Object array, int index, short value);
+
+    /**
+     * Sets the element at the given index to a {@code int}, without boxing it. See
+     * {@link #setBoolean(Object, int, boolean)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @param value the value.
+     * @return this array mirror.
+     */
+    @NotNull MArray<Type> setInt(@NotNull Object array, int index, int value);
+
+    /**
+     * Sets the element at the given index to a {@code long}, without boxing it. See
+     * {@link #setBoolean(Object, int, boolean)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @param value the value.
+     * @return this array mirror.
+     */
+    @NotNull MArray<Type> setLong(@NotNull Object array, int index, long value);
+
+    /**
+     * Sets the element at the given index to a {@code float}, without boxing it. See
+     * {@link #setBoolean(Object, int, boolean)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @param value the value.
+     * @return this array mirror.
+     */
+    @NotNull MArray<Type> setFloat(@NotNull Object array, int index, float value);
+
+    /**
+     * Sets the element at the given index to a {@code double}, without boxing it. See
+     * {@link #setBoolean(Object, int, boolean)}.
+     *
+     * @param array the array.
+     * @param index the index.
+     * @param value the value.
+     * @return this array mirror.
+     */
+    @NotNull MArray<Type> setDouble(@NotNull Object array, int index, double value);
+
+    /**
+     * Sets every element of the given array to the given value.
+     *
+     * @param array the array.
+     * @param value the value.
+     * @return this array mirror.
+     * @throws MismatchedArgumentsException if the array is not an instance of the array class, or the value cannot be
+     *                                      assigned to its elements.
+     */
+    default @NotNull MArray<Type> fill(@NotNull Object array, @Nullable Object value) {
+        return this.fill(array, 0, this.getLength(array), value);
+    }
+
+    /**
+     * Sets the elements of the given array from index {@code from}, inclusive, to index {@code to}, exclusive, to the
+     * given value.
+     *
+     * @param array the array.
+     * @param from  the first index to set.
+     * @param to    the index after the last index to set.
+     * @param value the value.
+     * @return this array mirror.
+     * @throws MismatchedArgumentsException if the array is not an instance of the array class, or the value cannot be
+     *                                      assigned to its elements.
+     */
+    @NotNull MArray<Type> fill(@NotNull Object array, int from, int to, @Nullable Object value);
+
+    /**
+     * Copies elements from one array to another, like {@link System#arraycopy(Object, int, Object, int, int)}.
+     *
+     * @param source      the array to copy from.
+     * @param sourceIndex the first index to copy from.
+     * @param target      the array to copy to.
+     * @param targetIndex the first index to copy to.
+     * @param length      the number of elements to copy.
+     * @return this array mirror.
+     * @throws MismatchedArgumentsException if either array is not an instance of the array class.
+     */
+    @NotNull MArray<Type> copy(@NotNull Object source, int sourceIndex, @NotNull Object target, int targetIndex, int length);
+
+    /**
+     * Creates a copy of the given array with the given length, truncated or padded with default values.
+     *
+     * @param array  the array.
+     * @param length the length of the copy.
+     * @return the copy.
+     * @throws MismatchedArgumentsException if the array is not an instance of the array class.
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    @NotNull Type copyOf(@NotNull Object array, int length);
+}
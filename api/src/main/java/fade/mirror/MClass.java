@@ -4,6 +4,7 @@ import fade.mirror.internal.impl.BasicMirrorClass;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -29,12 +30,34 @@ public sealed interface MClass<Type>
     @Contract(pure = true)
     @NotNull Class<Type> getRawClass();
 
+    /**
+     * Returns a stream of the superclasses of this class, from the nearest to the farthest. {@link Object} is not
+     * included, unless it is this class itself.
+     *
+     * @return a superclass stream.
+     */
     @Contract(pure = true)
     @NotNull Stream<MClass<?>> getSuperclasses();
 
     @Contract(pure = true)
     @NotNull Stream<MClass<?>> getSuperclasses(@NotNull MClass.IncludeSelf includeSelf);
 
+    /**
+     * Returns a stream of all supertypes of this class, each exactly once: its superclasses from the nearest up to
+     * {@link Object}, followed by all of its superinterfaces. The interfaces of this class come first, in declaration
+     * order, each followed by its own superinterfaces, then those inherited from the superclasses, in the order of the
+     * superclasses. The linearization is computed once per class from those of its superclass and interfaces.
+     *
+     * @return a supertype stream.
+     */
+    @Contract(pure = true)
+    default @NotNull Stream<MClass<?>> getSupertypes() {
+        return this.getSupertypes(IncludeSelf.No);
+    }
+
+    @Contract(pure = true)
+    @NotNull Stream<MClass<?>> getSupertypes(@NotNull MClass.IncludeSelf includeSelf);
+
     @Contract(pure = true)
     @SuppressWarnings("unchecked")
     default @NotNull Optional<MClass<Type>> getSuperclassAsThis() {
@@ -61,6 +84,20 @@ public sealed interface MClass<Type>
     @Contract(pure = true)
     boolean isSuperclassOf(@NotNull Class<?> clazz);
 
+    /**
+     * Checks whether this class is the given class, or a subclass or implementation of it. Checks against classes
+     * compare a single entry of the superclasses of this class by depth, checks against interfaces are a set lookup.
+     *
+     * @param clazz the class or interface.
+     * @return {@code true} if the given class is a supertype of this class or this class itself, {@code false}
+     * otherwise.
+     */
+    @Contract(pure = true)
+    boolean isSubtypeOf(@NotNull MClass<?> clazz);
+
+    @Contract(pure = true)
+    boolean isSubtypeOf(@NotNull Class<?> clazz);
+
     @Contract(pure = true)
     <SuperType extends Type> @NotNull Type cast(@NotNull SuperType object);
 
@@ -72,9 +109,38 @@ public sealed interface MClass<Type>
         return this.getInnerClasses(RecurseInnerClasses.No, IncludeSelf.No);
     }
 
+    /**
+     * Returns the classes declared in this class. The stream is lazy; when recursing, the classes declared in an inner
+     * class follow it directly, and are only looked up once the stream reaches them.
+     *
+     * @param recurseInnerClasses whether to include the classes declared in inner classes.
+     * @param includeSelf         whether to start the stream with this class.
+     * @return the inner classes.
+     */
     @Contract(pure = true)
     @NotNull Stream<MClass<?>> getInnerClasses(@NotNull MClass.RecurseInnerClasses recurseInnerClasses, @NotNull MClass.IncludeSelf includeSelf);
 
+    /**
+     * Walks the hierarchy of this class depth-first, starting at this class. For every class, the visitor visits the
+     * class, then its public constructors, declared fields and declared methods, and the walk then follows the
+     * superclass, the interfaces and the inner classes of the class, in that order. Every class is visited once, so an
+     * interface reached through several paths is only visited the first time. Classes are discovered as the walk
+     * reaches them, so pruning or terminating early skips the work for the rest of the hierarchy.
+     *
+     * @param visitor the visitor.
+     * @return {@code false} if the visitor terminated the walk, {@code true} otherwise.
+     */
+    boolean walk(@NotNull HierarchyVisitor visitor);
+
+    /**
+     * Returns a lazy stream of the classes {@link #walk(HierarchyVisitor)} visits, in the same order. Short-circuiting
+     * operations such as {@link Stream#findFirst()} stop the walk.
+     *
+     * @return the classes of the hierarchy, starting with this class.
+     */
+    @Contract(pure = true)
+    @NotNull Stream<MClass<?>> walk();
+
     default @NotNull Optional<MClass<?>> getInnerClass(@NotNull Predicate<MClass<?>> filter) {
         return this.getInnerClasses().filter(filter).findFirst();
     }
@@ -101,6 +167,33 @@ public sealed interface MClass<Type>
         return this.getInnerClasses(recurseInnerClasses, includeSelf).filter(filter).findFirst();
     }
 
+    /**
+     * Returns an optional containing the record view of this class. The optional is empty if this class is not a
+     * record. The view is created on first use and shared by every subsequent call.
+     *
+     * @return the record view.
+     */
+    @Contract(pure = true)
+    @NotNull Optional<MRecord<Type>> asRecord();
+
+    /**
+     * Returns an optional containing the enum view of this class. The optional is empty if this class is not an enum.
+     * The view is created on first use and shared by every subsequent call.
+     *
+     * @return the enum view.
+     */
+    @Contract(pure = true)
+    @NotNull Optional<MEnum<Type>> asEnum();
+
+    /**
+     * Returns an optional containing the array view of this class. The optional is empty if this class is not an array
+     * class. The view is created on first use and shared by every subsequent call.
+     *
+     * @return the array view.
+     */
+    @Contract(pure = true)
+    @NotNull Optional<MArray<Type>> asArray();
+
     /**
      * Returns an optional containing the first constructor of this class that matches the given filter. The optional
      * may be empty if the class has no constructors that match the filter. The optional will never be {@code null}.
@@ -147,6 +240,17 @@ public sealed interface MClass<Type>
         return this.getConstructors().filter(filter);
     }
 
+    /**
+     * Returns a stream of all constructors of this class that are annotated with the given annotation type. The stream
+     * is ordered by the declaration order of the constructors in the source code. The constructors are looked up in an
+     * index of the class, which is built on first use.
+     *
+     * @param annotation the annotation type.
+     * @return a constructor stream.
+     */
+    @Contract(pure = true)
+    @NotNull Stream<MConstructor<Type>> getConstructorsAnnotatedWith(@NotNull Class<? extends Annotation> annotation);
+
     /**
      * Returns the number of constructors of this class.
      *
@@ -160,7 +264,8 @@ public sealed interface MClass<Type>
      * constructors in the source code. The stream may be empty if the class has no constructors. The stream will never
      * be {@code null}.
      * <p>
-     * Unlike {@link #getConstructors()}, this method returns the raw constructors.
+     * Unlike {@link #getConstructors()}, this method returns the raw constructors. Every call returns new constructor
+     * objects, so changing their accessibility does not affect other callers.
      * </p>
      *
      * @return a raw constructor stream.
@@ -189,6 +294,11 @@ public sealed interface MClass<Type>
      * Returns a stream of all fields of this class that match the given filter. The stream is ordered by the
      * declaration order of the fields in the source code. The stream may be empty if the class has no fields that match
      * the filter. The stream will never be {@code null}.
+     * <p>
+     * If the filter is a field filter with a name, the field is looked up in the name index of the class rather than
+     * testing the filter against every field. Likewise, if it is a field filter with annotations, only the fields
+     * annotated with one of them are tested.
+     * </p>
      *
      * @param filter      the filter to apply.
      * @param <FieldType> the type of the field.
@@ -215,6 +325,22 @@ public sealed interface MClass<Type>
         return this.getField(filter, MClass.IncludeSuperclasses.No);
     }
 
+    /**
+     * Returns a stream of all fields of this class that are annotated with the given annotation type. The stream is
+     * ordered by the declaration order of the fields in the source code. The fields are looked up in an index of the
+     * class, which is built on first use.
+     *
+     * @param annotation the annotation type.
+     * @return a field stream.
+     */
+    @Contract(pure = true)
+    default @NotNull Stream<MField<?>> getFieldsAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+        return this.getFieldsAnnotatedWith(annotation, MClass.IncludeSuperclasses.No);
+    }
+
+    @Contract(pure = true)
+    @NotNull Stream<MField<?>> getFieldsAnnotatedWith(@NotNull Class<? extends Annotation> annotation, @NotNull MClass.IncludeSuperclasses includeSuperclasses);
+
     /**
      * Returns whether this class has any fields.
      *
@@ -245,7 +371,8 @@ public sealed interface MClass<Type>
      * Returns a stream of all raw fields of this class. The stream is ordered by the declaration order of the fields in
      * the source code. The stream may be empty if the class has no fields. The stream will never be {@code null}.
      * <p>
-     * Unlike {@link #getFields()}, this method returns the raw fields.
+     * Unlike {@link #getFields()}, this method returns the raw fields. Every call returns new field objects, so
+     * changing their accessibility does not affect other callers.
      * </p>
      *
      * @return a raw field stream.
@@ -256,6 +383,76 @@ public sealed interface MClass<Type>
     @Contract(pure = true)
     @NotNull Stream<Field> getRawFields(@NotNull MClass.IncludeSuperclasses includeSuperclasses);
 
+    /**
+     * Returns a copier for all non-static fields of this class and its superclasses. The copier is compiled on first
+     * use and shared by every subsequent call.
+     *
+     * @return the copier.
+     * @throws fade.mirror.exception.InaccessibleException if a field is inaccessible.
+     */
+    @Contract(pure = true)
+    @NotNull Copier<Type> copier();
+
+    /**
+     * Returns a copier for the non-static fields of this class and its superclasses that match the given filter. The
+     * copier is compiled every time this method is called, so it should be kept rather than requested repeatedly.
+     *
+     * @param filter      the filter to apply.
+     * @param <FieldType> the type of the fields.
+     * @return the copier.
+     * @throws fade.mirror.exception.InaccessibleException if a matching field is inaccessible.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    <FieldType> @NotNull Copier<Type> copier(@NotNull Predicate<MField<FieldType>> filter);
+
+    /**
+     * Returns an equivalence that compares all non-static fields of this class and its superclasses. The equivalence
+     * is compiled on first use and shared by every subsequent call. Fields are only read, so final fields and the
+     * components of records are supported.
+     *
+     * @return the equivalence.
+     * @throws fade.mirror.exception.InaccessibleException if a field is inaccessible.
+     */
+    @Contract(pure = true)
+    @NotNull Equivalence<Type> equivalence();
+
+    /**
+     * Returns an equivalence that compares the non-static fields of this class, and optionally its superclasses, that
+     * match the given filter. The equivalence is compiled every time this method is called.
+     *
+     * @param filter              the filter to apply.
+     * @param includeSuperclasses whether to compare the fields of superclasses.
+     * @param <FieldType>         the type of the fields.
+     * @return the equivalence.
+     * @throws fade.mirror.exception.InaccessibleException if a matching field is inaccessible.
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    <FieldType> @NotNull Equivalence<Type> equivalence(@NotNull Predicate<MField<FieldType>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses);
+
+    /**
+     * Returns a stringifier that describes all non-static fields of this class and its superclasses. The stringifier
+     * is compiled on first use and shared by every subsequent call. Fields are only read, so final fields and the
+     * components of records are supported.
+     *
+     * @return the stringifier.
+     * @throws fade.mirror.exception.InaccessibleException if a field is inaccessible.
+     */
+    @Contract(pure = true)
+    @NotNull Stringifier<Type> stringifier();
+
+    /**
+     * Returns a stringifier that describes the non-static fields of this class, and optionally its superclasses, that
+     * match the given filter. The stringifier is compiled every time this method is called.
+     *
+     * @param filter              the filter to apply.
+     * @param includeSuperclasses whether to describe the fields of superclasses.
+     * @param <FieldType>         the type of the fields.
+     * @return the stringifier.
+     * @throws fade.mirror.exception.InaccessibleException if a matching field is inaccessible.
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    <FieldType> @NotNull Stringifier<Type> stringifier(@NotNull Predicate<MField<FieldType>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses);
+
     /**
      * Returns a stream of all methods of this class. The stream is ordered by the declaration order of the methods in
      * the source code. The stream may be empty if the class has no methods. The stream will never be {@code null}.
@@ -265,6 +462,14 @@ public sealed interface MClass<Type>
     @Contract(pure = true)
     @NotNull Stream<MMethod<?>> getMethods();
 
+    /**
+     * Returns a stream of the methods of this class, and optionally its superclasses. {@link Object} is not one of
+     * them, so its methods are only included for {@code Object} itself; use
+     * {@link #getEffectiveMethod(String, Class[])} to resolve a method that may be inherited from it.
+     *
+     * @param includeSuperclasses whether to include the methods of superclasses.
+     * @return a method stream.
+     */
     @Contract(pure = true)
     @NotNull Stream<MMethod<?>> getMethods(@NotNull MClass.IncludeSuperclasses includeSuperclasses);
 
@@ -272,6 +477,11 @@ public sealed interface MClass<Type>
      * Returns a stream of all methods of this class that match the given filter. The stream is ordered by the
      * declaration order of the methods in the source code. The stream may be empty if the class has no methods that
      * match the filter. The stream will never be {@code null}.
+     * <p>
+     * If the filter is a method filter with a name, only the methods with that name are looked up in the name index of
+     * the class and tested against the filter. Likewise, if it is a method filter with annotations, only the methods
+     * annotated with one of them are tested.
+     * </p>
      *
      * @param filter the filter to apply.
      * @return a method stream.
@@ -295,6 +505,62 @@ public sealed interface MClass<Type>
     @Contract(pure = true)
     <FieldType> @NotNull Optional<MMethod<FieldType>> getMethod(@NotNull Predicate<MMethod<FieldType>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses);
 
+    /**
+     * Returns an optional containing the method declared by this class with the given name and exactly the given
+     * parameter types. The method is looked up in a signature index of the class, which is built on first use, so
+     * resolving a known overload takes a single lookup. If the class also declares bridge methods with the signature,
+     * the method they bridge to is returned. The optional will never be {@code null}.
+     *
+     * @param name           the name of the method.
+     * @param parameterTypes the parameter types of the method, in order.
+     * @param <MethodType>   the return type of the method.
+     * @return the method with the signature.
+     */
+    @Contract(pure = true)
+    <MethodType> @NotNull Optional<MMethod<MethodType>> getMethod(@NotNull String name, @NotNull Class<?>... parameterTypes);
+
+    /**
+     * Returns a stream of the effective methods of this class: every non-private instance method that can be invoked on
+     * an instance of this class, including those inherited from superclasses and interfaces, once per signature. Each
+     * method is the implementation a virtual call with its signature dispatches to, which may be a default method of an
+     * interface. The table behind the stream is derived once per class from the tables of its superclass and
+     * interfaces.
+     *
+     * @return an effective method stream.
+     */
+    @Contract(pure = true)
+    @NotNull Stream<MMethod<?>> getEffectiveMethods();
+
+    /**
+     * Returns an optional containing the effective method of this class with the given name and exactly the given
+     * parameter types, that is, the implementation a virtual call with the signature dispatches to. The optional will
+     * never be {@code null}.
+     *
+     * @param name           the name of the method.
+     * @param parameterTypes the parameter types of the method, in order.
+     * @param <MethodType>   the return type of the method.
+     * @return the effective method with the signature.
+     * @see #getEffectiveMethods()
+     */
+    @Contract(pure = true)
+    <MethodType> @NotNull Optional<MMethod<MethodType>> getEffectiveMethod(@NotNull String name, @NotNull Class<?>... parameterTypes);
+
+    /**
+     * Returns a stream of all methods of this class that are annotated with the given annotation type. The stream is
+     * ordered by the declaration order of the methods in the source code. The methods are looked up in an index of the
+     * class, which is built on first use.
+     *
+     * @param annotation the annotation type.
+     * @return a method stream.
+     */
+    @Contract(pure = true)
+    default @NotNull Stream<MMethod<?>> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+        return this.getMethodsAnnotatedWith(annotation, MClass.IncludeSuperclasses.No);
+    }
+
+    @Contract(pure = true)
+    @NotNull Stream<MMethod<?>> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation, @NotNull MClass.IncludeSuperclasses includeSuperclasses);
+
     /**
      * Returns whether this class has any methods.
      *
@@ -321,7 +587,8 @@ public sealed interface MClass<Type>
      * Returns a stream of all raw methods of this class. The stream is ordered by the declaration order of the methods
      * in the source code. The stream may be empty if the class has no methods. The stream will never be {@code null}.
      * <p>
-     * Unlike {@link #getMethods()}, this method returns the raw methods.
+     * Unlike {@link #getMethods()}, this method returns the raw methods. Every call returns new method objects, so
+     * changing their accessibility does not affect other callers.
      * </p>
      *
      * @return a raw method stream.
@@ -367,6 +634,10 @@ public sealed interface MClass<Type>
     @Override
     @NotNull String getName();
 
+    /**
+     * Whether a query covers the {@link #getSuperclasses() superclasses} of a class, which never include
+     * {@link Object}, as well as the class itself.
+     */
     enum IncludeSuperclasses
             implements MClass.Include {
         Yes, No;
@@ -1,10 +1,13 @@
 package fade.mirror;
 
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.exception.MismatchedArgumentsException;
 import fade.mirror.internal.impl.BasicMirrorConstructor;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Constructor;
+import java.util.function.Supplier;
 
 /**
  * Represents a constructor of a {@link MClass}. A constructor has parameters and may also have annotations.
@@ -24,4 +27,36 @@ public sealed interface MConstructor<Type>
     @Contract(pure = true)
     @NotNull Constructor<Type> getRawConstructor();
 
+    /**
+     * Returns a {@link Supplier} that invokes this constructor.
+     *
+     * @return the supplier.
+     * @throws MismatchedArgumentsException if this constructor has parameters.
+     * @see #asFactory(Class)
+     */
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    default @NotNull Supplier<Type> asSupplier() {
+        return this.asFactory(Supplier.class);
+    }
+
+    /**
+     * Returns an instance of the given functional interface that invokes this constructor with the arguments passed to
+     * the interface method.
+     * <p>
+     * The instance is generated with {@link java.lang.invoke.LambdaMetafactory} where possible, which makes calling it
+     * as cheap as calling a hand-written lambda. Creating it is expensive though, so it should be created once and
+     * reused.
+     * </p>
+     *
+     * @param type the functional interface.
+     * @param <F>  the type of the functional interface. A class literal such as {@code Function.class} is raw, so
+     *             assigning the result to a {@code Function<String, Integer>} is an unchecked conversion.
+     * @return the functional interface instance.
+     * @throws MismatchedArgumentsException if {@code type} is not a functional interface or its method is not
+     *                                      compatible with this constructor.
+     * @throws InaccessibleException        if this constructor is inaccessible.
+     */
+    @Contract(pure = true)
+    <F> @NotNull F asFactory(@NotNull Class<F> type);
 }
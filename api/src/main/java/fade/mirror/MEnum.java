@@ -0,0 +1,132 @@
+package fade.mirror;
+
+import fade.mirror.exception.MismatchedArgumentsException;
+import fade.mirror.internal.impl.BasicMirrorEnum;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Represents an enum class, i.e. its constants. The constants are resolved once, when the view is created, and are
+ * looked up by ordinal and name in constant time.
+ *
+ * @param <Type> the type of the enum.
+ * @author fade
+ * @see MClass#asEnum()
+ */
+public sealed interface MEnum<Type>
+        permits BasicMirrorEnum {
+
+    /**
+     * Returns the enum class.
+     *
+     * @return the enum class.
+     */
+    @Contract(pure = true)
+    @NotNull MClass<Type> getDeclaringClass();
+
+    /**
+     * Returns all constants of the enum, in ordinal order. Unlike {@code values()}, this method does not copy the
+     * constants; the returned list is shared and unmodifiable.
+     *
+     * @return the constants.
+     */
+    @Contract(pure = true)
+    @NotNull List<Type> getConstants();
+
+    /**
+     * Returns the number of constants of the enum.
+     *
+     * @return the number of constants.
+     */
+    @Contract(pure = true)
+    int getConstantCount();
+
+    /**
+     * Returns the constant with the given ordinal.
+     *
+     * @param ordinal the ordinal.
+     * @return the constant.
+     * @throws MismatchedArgumentsException if the enum has no constant with the given ordinal.
+     */
+    @Contract(pure = true)
+    @NotNull Type getConstant(int ordinal);
+
+    /**
+     * Returns an optional containing the constant with the given name. The optional is empty if the enum has no such
+     * constant.
+     *
+     * @param name the name.
+     * @return the constant with the given name.
+     */
+    @Contract(pure = true)
+    default @NotNull Optional<Type> getConstant(@NotNull String name) {
+        return Optional.ofNullable(this.getConstantOrNull(name));
+    }
+
+    /**
+     * Returns the constant with the given name, or {@code null} if the enum has no such constant. Unlike
+     * {@link #getConstant(String)}, this method does not allocate.
+     *
+     * @param name the name.
+     * @return the constant with the given name, or {@code null}.
+     */
+    @Contract(pure = true)
+    @Nullable Type getConstantOrNull(@NotNull String name);
+
+    /**
+     * Returns the constant whose name equals the given name ignoring case, or {@code null} if the enum has no such
+     * constant. If several constants only differ in case, the first declared one is returned. The case-insensitive
+     * index is built on first use.
+     *
+     * @param name the name.
+     * @return the constant with the given name, or {@code null}.
+     */
+    @Contract(pure = true)
+    @Nullable Type getConstantIgnoreCaseOrNull(@NotNull String name);
+
+    /**
+     * Creates a new, empty {@link java.util.EnumMap} for the constants of the enum.
+     *
+     * @param <Value> the type of the values.
+     * @return the map.
+     */
+    @Contract(value = " -> new", pure = true)
+    <Value> @NotNull Map<Type, Value> newEnumMap();
+
+    /**
+     * Creates a new, empty {@link java.util.EnumSet} for the constants of the enum.
+     *
+     * @return the set.
+     */
+    @Contract(value = " -> new", pure = true)
+    @NotNull Set<Type> newEnumSet();
+
+    /**
+     * Encodes the given constants as a bit mask, in which the bit at the index of each constant's ordinal is set. This
+     * is only supported for enums with at most 64 constants.
+     *
+     * @param constants the constants.
+     * @return the bit mask.
+     * @throws MismatchedArgumentsException if the enum has more than 64 constants.
+     */
+    @Contract(pure = true)
+    long toBitMask(@NotNull Iterable<? extends Type> constants);
+
+    /**
+     * Decodes the given bit mask into a new {@link java.util.EnumSet}, containing the constants whose ordinals have
+     * their bit set. Bits beyond the last ordinal are ignored. This is only supported for enums with at most 64
+     * constants.
+     *
+     * @param bitMask the bit mask.
+     * @return the set.
+     * @throws MismatchedArgumentsException if the enum has more than 64 constants.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    @NotNull Set<Type> fromBitMask(long bitMask);
+}
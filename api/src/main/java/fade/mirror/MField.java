@@ -1,10 +1,16 @@
 package fade.mirror;
 
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.exception.MismatchedArgumentsException;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 /**
  * Represents a field inside a {@link MClass}. A field has a name, a type and a value. It may also have annotations.
@@ -88,4 +94,443 @@ public interface MField<Type>
      */
     @Contract(pure = true)
     boolean hasValue(@Nullable Object object);
+
+    /**
+     * Gets the value of the field in the given instance, or {@code null} if it has none. Unlike
+     * {@link #getValue(Object)}, this does not wrap the value in an {@link Optional}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value, or {@code null}.
+     * @throws MismatchedArgumentsException if the field is not static and {@code instance} is not an instance of its
+     *                                      declaring class.
+     * @throws InaccessibleException        if the field is inaccessible.
+     */
+    @Nullable Type getValueOrNull(@Nullable Object instance);
+
+    /**
+     * Gets the value of a {@code boolean} field in the given instance, without boxing it.
+     * <p>
+     * This and the other primitive getters follow {@link java.lang.reflect.Field#getInt(Object)} and friends: they can
+     * read any primitive field whose type widens to their own, so {@link #getLong(Object)} can read an {@code int}
+     * field, for example.
+     * </p>
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     * @throws MismatchedArgumentsException if the field cannot be read as a {@code boolean}, or if it is not static
+     *                                      and {@code instance} is not an instance of its declaring class.
+     * @throws InaccessibleException        if the field is inaccessible.
+     */
+    boolean getBoolean(@Nullable Object instance);
+
+    /**
+     * Gets the value of a {@code byte} field in the given instance, without boxing it. See {@link #getBoolean(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     */
+    byte getByte(@Nullable Object instance);
+
+    /**
+     * Gets the value of a {@code char} field in the given instance, without boxing it. See {@link #getBoolean(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     */
+    char getChar(@Nullable Object instance);
+
+    /**
+     * Gets the value of a {@code short} field in the given instance, without boxing it. See {@link #getBoolean(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     */
+    short getShort(@Nullable Object instance);
+
+    /**
+     * Gets the value of a {@code int} field in the given instance, without boxing it. See {@link #getBoolean(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     */
+    int getInt(@Nullable Object instance);
+
+    /**
+     * Gets the value of a {@code long} field in the given instance, without boxing it. See {@link #getBoolean(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     */
+    long getLong(@Nullable Object instance);
+
+    /**
+     * Gets the value of a {@code float} field in the given instance, without boxing it. See {@link #getBoolean(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     */
+    float getFloat(@Nullable Object instance);
+
+    /**
+     * Gets the value of a {@code double} field in the given instance, without boxing it. See {@link #getBoolean(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     */
+    double getDouble(@Nullable Object instance);
+
+    /**
+     * Sets the value of a {@code boolean} field in the given instance, without boxing it.
+     * <p>
+     * This and the other primitive setters follow {@link java.lang.reflect.Field#setInt(Object, int)} and friends: they
+     * can write any primitive field their own type widens to, so {@link #setInt(Object, int)} can write a {@code long}
+     * field, for example.
+     * </p>
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     * @throws MismatchedArgumentsException if the field cannot be written as a {@code boolean}, or if it is not static
+     *                                      and {@code instance} is not an instance of its declaring class.
+     * @throws InaccessibleException        if the field is inaccessible, or static and final.
+     */
+    @NotNull MField<Type> setBoolean(@Nullable Object instance, boolean value);
+
+    /**
+     * Sets the value of a {@code byte} field in the given instance, without boxing it. See
+     * {@link #setBoolean(Object, boolean)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     */
+    @NotNull MField<Type> setByte(@Nullable Object instance, byte value);
+
+    /**
+     * Sets the value of a {@code char} field in the given instance, without boxing it. See
+     * {@link #setBoolean(Object, boolean)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     */
+    @NotNull MField<Type> setChar(@Nullable Object instance, char value);
+
+    /**
+     * Sets the value of a {@code short} field in the given instance, without boxing it. See
+     * {@link #setBoolean(Object, boolean)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     */
+    @NotNull MField<Type> setShort(@Nullable Object instance, short value);
+
+    /**
+     * Sets the value of a {@code int} field in the given instance, without boxing it. See
+     * {@link #setBoolean(Object, boolean)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     */
+    @NotNull MField<Type> setInt(@Nullable Object instance, int value);
+
+    /**
+     * Sets the value of a {@code long} field in the given instance, without boxing it. See
+     * {@link #setBoolean(Object, boolean)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     */
+    @NotNull MField<Type> setLong(@Nullable Object instance, long value);
+
+    /**
+     * Sets the value of a {@code float} field in the given instance, without boxing it. See
+     * {@link #setBoolean(Object, boolean)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     */
+    @NotNull MField<Type> setFloat(@Nullable Object instance, float value);
+
+    /**
+     * Sets the value of a {@code double} field in the given instance, without boxing it. See
+     * {@link #setBoolean(Object, boolean)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     */
+    @NotNull MField<Type> setDouble(@Nullable Object instance, double value);
+
+    /**
+     * Reads the field in the given instance with plain memory semantics, as if the field were declared
+     * non-{@code volatile}. Unlike {@link #getValue(Object)}, this and the other access mode methods go through a
+     * {@link java.lang.invoke.VarHandle}, so non-public fields are only accessible if their package is open to this
+     * library.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     * @throws MismatchedArgumentsException if the field is not static and {@code instance} is not an instance of its
+     *                                      declaring class.
+     * @throws InaccessibleException        if the field is inaccessible.
+     * @see java.lang.invoke.VarHandle#get(Object...)
+     */
+    @Nullable Type getPlain(@Nullable Object instance);
+
+    /**
+     * Reads the field in the given instance with opaque memory semantics: the read is coherent and happens in program
+     * order, but imposes no ordering with respect to other fields. See {@link #getPlain(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     * @see java.lang.invoke.VarHandle#getOpaque(Object...)
+     */
+    @Nullable Type getOpaque(@Nullable Object instance);
+
+    /**
+     * Reads the field in the given instance with acquire memory semantics: no later reads or writes can be reordered
+     * before it. Paired with {@link #setRelease(Object, Object)}, this publishes everything written before the release
+     * to the reader. See {@link #getPlain(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     * @see java.lang.invoke.VarHandle#getAcquire(Object...)
+     */
+    @Nullable Type getAcquire(@Nullable Object instance);
+
+    /**
+     * Reads the field in the given instance with volatile memory semantics, as if the field were declared
+     * {@code volatile}. See {@link #getPlain(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @return the field value.
+     * @see java.lang.invoke.VarHandle#getVolatile(Object...)
+     */
+    @Nullable Type getVolatile(@Nullable Object instance);
+
+    /**
+     * Writes the field in the given instance with plain memory semantics, as if the field were declared
+     * non-{@code volatile}. Primitive fields accept any wrapper whose value widens to the field's type.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     * @throws MismatchedArgumentsException if the field is not static and {@code instance} is not an instance of its
+     *                                      declaring class, or if {@code value} cannot be assigned to the field.
+     * @throws InaccessibleException        if the field is inaccessible or final.
+     * @see java.lang.invoke.VarHandle#set(Object...)
+     */
+    @NotNull MField<Type> setPlain(@Nullable Object instance, @Nullable Type value);
+
+    /**
+     * Writes the field in the given instance with opaque memory semantics. See {@link #setPlain(Object, Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     * @see java.lang.invoke.VarHandle#setOpaque(Object...)
+     */
+    @NotNull MField<Type> setOpaque(@Nullable Object instance, @Nullable Type value);
+
+    /**
+     * Writes the field in the given instance with release memory semantics: no earlier reads or writes can be
+     * reordered after it. See {@link #setPlain(Object, Object)} and {@link #getAcquire(Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     * @see java.lang.invoke.VarHandle#setRelease(Object...)
+     */
+    @NotNull MField<Type> setRelease(@Nullable Object instance, @Nullable Type value);
+
+    /**
+     * Writes the field in the given instance with volatile memory semantics, as if the field were declared
+     * {@code volatile}. See {@link #setPlain(Object, Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return this field.
+     * @see java.lang.invoke.VarHandle#setVolatile(Object...)
+     */
+    @NotNull MField<Type> setVolatile(@Nullable Object instance, @Nullable Type value);
+
+    /**
+     * Atomically sets the field in the given instance to {@code value} if it currently holds {@code expected}, with
+     * volatile memory semantics. Reference fields are compared by identity, primitive fields by value.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param expected the expected value.
+     * @param value    the new value.
+     * @return {@code true} if the field was set, {@code false} otherwise.
+     * @throws MismatchedArgumentsException if the field is not static and {@code instance} is not an instance of its
+     *                                      declaring class, or if a value cannot be assigned to the field.
+     * @throws InaccessibleException        if the field is inaccessible or final.
+     * @see java.lang.invoke.VarHandle#compareAndSet(Object...)
+     */
+    boolean compareAndSet(@Nullable Object instance, @Nullable Type expected, @Nullable Type value);
+
+    /**
+     * Like {@link #compareAndSet(Object, Object, Object)}, but may fail spuriously, which can make it cheaper on some
+     * platforms. Should be used in a loop.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param expected the expected value.
+     * @param value    the new value.
+     * @return {@code true} if the field was set, {@code false} otherwise.
+     * @see java.lang.invoke.VarHandle#weakCompareAndSet(Object...)
+     */
+    boolean weakCompareAndSet(@Nullable Object instance, @Nullable Type expected, @Nullable Type value);
+
+    /**
+     * Atomically sets the field in the given instance to {@code value} and returns its previous value. See
+     * {@link #compareAndSet(Object, Object, Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return the previous value.
+     * @see java.lang.invoke.VarHandle#getAndSet(Object...)
+     */
+    @Nullable Type getAndSet(@Nullable Object instance, @Nullable Type value);
+
+    /**
+     * Atomically adds {@code delta} to the numeric field in the given instance and returns its previous value. See
+     * {@link #compareAndSet(Object, Object, Object)}.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param delta    the value to add.
+     * @return the previous value.
+     * @throws MismatchedArgumentsException if the field is not of a numeric primitive type.
+     * @see java.lang.invoke.VarHandle#getAndAdd(Object...)
+     */
+    @Nullable Type getAndAdd(@Nullable Object instance, @NotNull Type delta);
+
+    /**
+     * Atomically replaces the value of the field in the given instance with the result of applying the accumulator to
+     * the current value and {@code value}, and returns the new value. The accumulator may be applied more than once if
+     * other threads update the field concurrently, so it should be free of side effects. See
+     * {@link #compareAndSet(Object, Object, Object)}.
+     *
+     * @param instance    the instance, or {@code null} if the field is static.
+     * @param value       the value to accumulate.
+     * @param accumulator the accumulator.
+     * @return the new value.
+     */
+    @Nullable Type accumulateAndGet(@Nullable Object instance, @Nullable Type value, @NotNull BinaryOperator<Type> accumulator);
+
+    /**
+     * Like {@link #compareAndSet(Object, Object, Object)}, but for an {@code int} field and without boxing.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param expected the expected value.
+     * @param value    the new value.
+     * @return {@code true} if the field was set, {@code false} otherwise.
+     * @throws MismatchedArgumentsException if the field is not an {@code int} field.
+     */
+    boolean compareAndSetInt(@Nullable Object instance, int expected, int value);
+
+    /**
+     * Like {@link #getAndSet(Object, Object)}, but for an {@code int} field and without boxing.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return the previous value.
+     * @throws MismatchedArgumentsException if the field is not an {@code int} field.
+     */
+    int getAndSetInt(@Nullable Object instance, int value);
+
+    /**
+     * Like {@link #getAndAdd(Object, Object)}, but for an {@code int} field and without boxing.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param delta    the value to add.
+     * @return the previous value.
+     * @throws MismatchedArgumentsException if the field is not an {@code int} field.
+     */
+    int getAndAddInt(@Nullable Object instance, int delta);
+
+    /**
+     * Like {@link #accumulateAndGet(Object, Object, BinaryOperator)}, but for an {@code int} field and without boxing.
+     *
+     * @param instance    the instance, or {@code null} if the field is static.
+     * @param value       the value to accumulate.
+     * @param accumulator the accumulator.
+     * @return the new value.
+     * @throws MismatchedArgumentsException if the field is not an {@code int} field.
+     */
+    int accumulateAndGetInt(@Nullable Object instance, int value, @NotNull IntBinaryOperator accumulator);
+
+    /**
+     * Like {@link #compareAndSet(Object, Object, Object)}, but for a {@code long} field and without boxing.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param expected the expected value.
+     * @param value    the new value.
+     * @return {@code true} if the field was set, {@code false} otherwise.
+     * @throws MismatchedArgumentsException if the field is not a {@code long} field.
+     */
+    boolean compareAndSetLong(@Nullable Object instance, long expected, long value);
+
+    /**
+     * Like {@link #getAndSet(Object, Object)}, but for a {@code long} field and without boxing.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param value    the new value.
+     * @return the previous value.
+     * @throws MismatchedArgumentsException if the field is not a {@code long} field.
+     */
+    long getAndSetLong(@Nullable Object instance, long value);
+
+    /**
+     * Like {@link #getAndAdd(Object, Object)}, but for a {@code long} field and without boxing.
+     *
+     * @param instance the instance, or {@code null} if the field is static.
+     * @param delta    the value to add.
+     * @return the previous value.
+     * @throws MismatchedArgumentsException if the field is not a {@code long} field.
+     */
+    long getAndAddLong(@Nullable Object instance, long delta);
+
+    /**
+     * Like {@link #accumulateAndGet(Object, Object, BinaryOperator)}, but for a {@code long} field and without boxing.
+     *
+     * @param instance    the instance, or {@code null} if the field is static.
+     * @param value       the value to accumulate.
+     * @param accumulator the accumulator.
+     * @return the new value.
+     * @throws MismatchedArgumentsException if the field is not a {@code long} field.
+     */
+    long accumulateAndGetLong(@Nullable Object instance, long value, @NotNull LongBinaryOperator accumulator);
+
+    /**
+     * Returns a handle of the type {@code ()Object} that returns the value of this static field, for callers that keep
+     * it in a {@code static final} field so that the JIT compiler can fold the value.
+     * <p>
+     * Final fields are read once, and the handle returns that value; once the handle has been created,
+     * {@link #getValue(Object)} serves it as well. For any other static field, the handle is backed by a
+     * {@link java.lang.invoke.MutableCallSite} and keeps returning the value read when the handle was created until
+     * {@link #invalidateConstant()} is called.
+     * </p>
+     * <p>
+     * The handle should not be created before the declaring class has been initialized, such as from its static
+     * initializer, since a final field would be folded with the value it had before it was assigned.
+     * </p>
+     *
+     * @return the constant handle.
+     * @throws MismatchedArgumentsException if the field is not static.
+     * @throws InaccessibleException        if the field is inaccessible.
+     */
+    @NotNull MethodHandle getConstantHandle();
+
+    /**
+     * Re-reads this static field and makes its {@link #getConstantHandle() constant handle} return the new value. Code
+     * that folded the previous value is deoptimized. This method has no effect for final fields, or if the handle has
+     * not been created yet.
+     *
+     * @return this field.
+     */
+    @NotNull MField<Type> invalidateConstant();
 }
@@ -1,6 +1,10 @@
 package fade.mirror;
 
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.exception.MismatchedArgumentsException;
 import fade.mirror.internal.impl.BasicMirrorMethod;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Represents a method of a {@link MClass}. A method has a name, a return type, a list of parameters and a list of
@@ -16,4 +20,38 @@ public sealed interface MMethod<Type>
     // todo: return type
     // todo: exceptions
 
+    /**
+     * Returns an instance of the given functional interface that invokes this method. If this method is not static,
+     * the instance to invoke it on is passed as the first argument of the interface method.
+     * <p>
+     * The instance is generated with {@link java.lang.invoke.LambdaMetafactory} where possible, which makes calling it
+     * as cheap as calling a hand-written lambda. Creating it is expensive though, so it should be created once and
+     * reused.
+     * </p>
+     *
+     * @param type the functional interface.
+     * @param <F>  the type of the functional interface. A class literal such as {@code Function.class} is raw, so
+     *             assigning the result to a {@code Function<String, Integer>} is an unchecked conversion.
+     * @return the functional interface instance.
+     * @throws MismatchedArgumentsException if {@code type} is not a functional interface or its method is not
+     *                                      compatible with this method.
+     * @throws InaccessibleException        if this method is inaccessible.
+     */
+    @Contract(pure = true)
+    <F> @NotNull F asFunction(@NotNull Class<F> type);
+
+    /**
+     * Returns an instance of the given functional interface that invokes this method on the given instance.
+     *
+     * @param type     the functional interface.
+     * @param instance the instance to invoke this method on.
+     * @param <F>      the type of the functional interface.
+     * @return the functional interface instance.
+     * @throws MismatchedArgumentsException if this method is static, if {@code type} is not a functional interface or
+     *                                      if its method is not compatible with this method.
+     * @throws InaccessibleException        if this method is inaccessible.
+     * @see #asFunction(Class)
+     */
+    @Contract(pure = true)
+    <F> @NotNull F asFunction(@NotNull Class<F> type, @NotNull Object instance);
 }
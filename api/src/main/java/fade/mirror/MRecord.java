@@ -0,0 +1,103 @@
+package fade.mirror;
+
+import fade.mirror.exception.InvocationException;
+import fade.mirror.exception.MismatchedArgumentsException;
+import fade.mirror.internal.impl.BasicMirrorRecord;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Represents a record class, i.e. its components and its canonical constructor.
+ *
+ * @param <Type> the type of the record.
+ * @author fade
+ * @see MClass#asRecord()
+ */
+public sealed interface MRecord<Type>
+        permits BasicMirrorRecord {
+
+    /**
+     * Returns the record class.
+     *
+     * @return the record class.
+     */
+    @Contract(pure = true)
+    @NotNull MClass<Type> getDeclaringClass();
+
+    /**
+     * Returns a stream of all components of the record, in declaration order.
+     *
+     * @return a component stream.
+     */
+    @Contract(pure = true)
+    @NotNull Stream<MRecordComponent<?>> getComponents();
+
+    /**
+     * Returns the component with the given name. The optional may be empty if the record has no such component.
+     *
+     * @param name            the name of the component.
+     * @param <ComponentType> the type of the component.
+     * @return the component with the given name.
+     */
+    @Contract(pure = true)
+    <ComponentType> @NotNull Optional<MRecordComponent<ComponentType>> getComponent(@NotNull String name);
+
+    /**
+     * Returns the number of components of the record.
+     *
+     * @return the number of components.
+     */
+    @Contract(pure = true)
+    int getComponentCount();
+
+    /**
+     * Returns the canonical constructor of the record, i.e. the constructor taking every component in declaration
+     * order.
+     *
+     * @return the canonical constructor.
+     */
+    @Contract(pure = true)
+    @NotNull MConstructor<Type> getCanonicalConstructor();
+
+    /**
+     * Creates a record from the given component values, in declaration order. The values are validated and converted
+     * like the arguments of {@link MConstructor#invokeWithNoInstance(Object...)}.
+     *
+     * @param components the component values.
+     * @return the record.
+     * @throws MismatchedArgumentsException if the values do not match the components.
+     * @throws InvocationException          if the canonical constructor fails.
+     */
+    @NotNull Type construct(@NotNull Object[] components);
+
+    /**
+     * Creates a record from the values the given function returns for the index of each component. No array is
+     * allocated, so this is the fastest way to create records. Values of primitive components have to be boxed in their
+     * exact wrapper type.
+     *
+     * @param components the function returning the value of the component with the given index.
+     * @return the record.
+     * @throws InvocationException if a value does not match its component, or the canonical constructor fails.
+     */
+    @NotNull Type construct(@NotNull IntFunction<?> components);
+
+    /**
+     * Creates a copy of the given record in which the given component has the given value. Values of primitive
+     * components are widened like the components passed to {@link #construct(Object[])}.
+     *
+     * @param record          the record to copy.
+     * @param component       a component of this record.
+     * @param value           the value of the component in the copy.
+     * @param <ComponentType> the type of the component.
+     * @return the copy.
+     * @throws MismatchedArgumentsException if the component is not a component of this record, or the value does not
+     *                                      match it.
+     * @throws InvocationException          if the canonical constructor fails.
+     */
+    <ComponentType> @NotNull Type with(@NotNull Type record, @NotNull MRecordComponent<ComponentType> component, @Nullable ComponentType value);
+}
@@ -0,0 +1,62 @@
+package fade.mirror;
+
+import fade.mirror.exception.MismatchedArgumentsException;
+import fade.mirror.internal.impl.BasicMirrorRecordComponent;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.RecordComponent;
+
+/**
+ * Represents a component of a record.
+ *
+ * @param <Type> the type of the component.
+ * @author fade
+ * @see MRecord
+ */
+public sealed interface MRecordComponent<Type>
+        extends Annotated, Named
+        permits BasicMirrorRecordComponent {
+
+    /**
+     * Returns the raw record component represented by this object.
+     *
+     * @return the raw record component.
+     */
+    @Contract(pure = true)
+    @NotNull RecordComponent getRawComponent();
+
+    /**
+     * Returns the type of the component.
+     *
+     * @return the type.
+     */
+    @Contract(pure = true)
+    @NotNull Class<Type> getType();
+
+    /**
+     * Returns the index of the component in the declaration order of the record's components.
+     *
+     * @return the index.
+     */
+    @Contract(pure = true)
+    int getIndex();
+
+    /**
+     * Returns the accessor method of the component.
+     *
+     * @return the accessor.
+     */
+    @Contract(pure = true)
+    @NotNull MMethod<Type> getAccessor();
+
+    /**
+     * Returns the value of the component in the given record, by invoking its accessor.
+     *
+     * @param record the record.
+     * @return the value.
+     * @throws MismatchedArgumentsException if the record is not an instance of the component's record class.
+     */
+    @Nullable Type getValue(@NotNull Object record);
+}
@@ -1,5 +1,6 @@
 package fade.mirror;
 
+import fade.mirror.internal.impl.BasicDeepCopier;
 import fade.mirror.internal.impl.BasicMirrorClass;
 import fade.mirror.internal.impl.BasicMirrorConstructor;
 import fade.mirror.internal.impl.BasicMirrorField;
@@ -29,7 +30,8 @@ public final class Mirror {
     }
 
     /**
-     * Creates a new {@link MClass} instance from the given {@link Class}.
+     * Returns the {@link MClass} instance for the given {@link Class}. Mirrors of classes are canonical; calling this
+     * method twice with the same class returns the same instance.
      *
      * @param clazz  the class to create the mirror from.
      * @param <Type> the type of the class.
@@ -71,4 +73,15 @@ public final class Mirror {
     public static <Type> @NotNull MMethod<Type> mirror(@NotNull Method method) {
         return BasicMirrorMethod.from(method);
     }
+
+    /**
+     * Creates a new {@link DeepCopier} for objects of the given class, with the default configuration.
+     *
+     * @param clazz  the class of the objects to copy.
+     * @param <Type> the type of the objects.
+     * @return the deep copier.
+     */
+    public static <Type> @NotNull DeepCopier<Type> deepCopier(@NotNull Class<Type> clazz) {
+        return BasicDeepCopier.from(clazz);
+    }
 }
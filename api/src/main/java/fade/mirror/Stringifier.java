@@ -0,0 +1,41 @@
+package fade.mirror;
+
+import fade.mirror.internal.impl.BasicStringifier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Describes instances of a class by the values of their fields, like the {@code toString} method of a record; for
+ * example {@code MockUser[username=fade, email=fade@example.com]}. Primitive fields are appended without boxing, arrays
+ * are appended with their elements.
+ * <p>
+ * A stringifier is compiled once, when it is created, and can be reused and shared between threads.
+ * </p>
+ *
+ * @param <Type> the type of the instances.
+ * @author fade
+ * @see MClass#stringifier()
+ */
+public sealed interface Stringifier<Type>
+        permits BasicStringifier {
+
+    /**
+     * Describes the given instance.
+     *
+     * @param instance the instance.
+     * @return the description, or {@code "null"} if the instance is {@code null}.
+     */
+    @Contract(pure = true)
+    @NotNull String stringify(@Nullable Type instance);
+
+    /**
+     * Appends the description of the given instance to the given builder.
+     *
+     * @param builder  the builder.
+     * @param instance the instance.
+     * @return the builder.
+     */
+    @Contract("_, _ -> param1")
+    @NotNull StringBuilder append(@NotNull StringBuilder builder, @Nullable Type instance);
+}
@@ -5,6 +5,7 @@ import fade.mirror.internal.impl.filter.BasicConstructorFilter;
 import fade.mirror.internal.impl.filter.BasicFieldFilter;
 import fade.mirror.internal.impl.filter.BasicMethodFilter;
 import fade.mirror.internal.impl.filter.BasicParameterFilter;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Predicate;
@@ -61,4 +62,14 @@ public interface Filter<Type>
         return BasicParameterFilter.create();
     }
 
+    /**
+     * Compiles this filter into an immutable predicate. The compiled predicate is a snapshot of this filter; changing
+     * this filter afterwards does not affect it. It is safe to share between threads, does not allocate when testing
+     * the mirrors returned by {@link fade.mirror.MClass}, and compiled predicates of filters with the same constraints
+     * are equal, so they can be used as cache keys.
+     *
+     * @return the compiled predicate.
+     */
+    @Contract(value = " -> new", pure = true)
+    @NotNull Predicate<Type> compile();
 }
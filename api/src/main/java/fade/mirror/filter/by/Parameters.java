@@ -22,4 +22,23 @@ public interface Parameters<Self extends Parameters<Self>> {
     default @NotNull Self withParameter(@NotNull Class<?> parameterType, @NotNull RewriteOperation operation) {
         return this.withParameters(List.of(parameterType), operation);
     }
+
+    /**
+     * Requires the parameter types to be exactly the given types, in the given order. Unlike
+     * {@link #withParameters(List)}, which keeps any element whose parameter types are assignable from the given types,
+     * this keeps only the elements with this one signature. If exact parameter types are already set, they are
+     * replaced.
+     * <p>
+     * Method filters with a name and exact parameter types are resolved with a single lookup in the signature index of
+     * the class.
+     * </p>
+     *
+     * @param parameterTypes the parameter types.
+     * @return this filter
+     */
+    @NotNull Self withExactParameters(@NotNull List<Class<?>> parameterTypes);
+
+    default @NotNull Self withExactParameters(@NotNull Class<?>... parameterTypes) {
+        return this.withExactParameters(List.of(parameterTypes));
+    }
 }
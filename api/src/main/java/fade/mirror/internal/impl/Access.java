@@ -0,0 +1,80 @@
+package fade.mirror.internal.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+
+/**
+ * The accessibility of a mirrored member, resolved once and then reused.
+ * <p>
+ * Members are always accessed from this module, so whether a member can be accessed does not depend on the call site.
+ * The first access checks {@link AccessibleObject#canAccess(Object)} and, if necessary, grants access with
+ * {@link AccessibleObject#trySetAccessible()}. Resolution is synchronized, so the member's accessible flag is never
+ * changed concurrently, and its outcome is published through a volatile field; every later access only reads that
+ * field. {@link #reset()} discards the outcome, so that the next access resolves it again.
+ * </p>
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+final class Access {
+
+    private static final int UNRESOLVED = 0;
+    private static final int ACCESSIBLE = 1;
+    private static final int INACCESSIBLE = 2;
+
+    private final AccessibleObject object;
+
+    private final Class<?> declaringClass;
+
+    /**
+     * Whether accessibility is checked against an instance, i.e. whether the member is an instance field or method.
+     */
+    private final boolean hasReceiver;
+
+    private volatile int state;
+
+    <M extends AccessibleObject & Member> Access(@NotNull M member) {
+        this.object = member;
+        this.declaringClass = member.getDeclaringClass();
+        this.hasReceiver = !(member instanceof Constructor<?>) && !Modifier.isStatic(member.getModifiers());
+    }
+
+    /**
+     * Checks if the member is accessible, resolving its accessibility first if necessary.
+     *
+     * @param instance the instance the member is accessed on, if any.
+     * @return {@code true} if the member is accessible, {@code false} otherwise.
+     */
+    boolean isGranted(@Nullable Object instance) {
+        int state = this.state;
+        if (state == UNRESOLVED) state = this.resolve(instance);
+        return state == ACCESSIBLE;
+    }
+
+    /**
+     * Discards the resolved accessibility.
+     */
+    void reset() {
+        this.state = UNRESOLVED;
+    }
+
+    private synchronized int resolve(@Nullable Object instance) {
+        if (this.state != UNRESOLVED) return this.state;
+
+        // canAccess rejects receivers that do not fit the member; trySetAccessible decides for those
+        if (!this.hasReceiver) instance = null;
+        else if (!this.declaringClass.isInstance(instance)) return this.state = this.grant();
+
+        return this.state = this.object.canAccess(instance) ? ACCESSIBLE : this.grant();
+    }
+
+    private int grant() {
+        return this.object.trySetAccessible() ? ACCESSIBLE : INACCESSIBLE;
+    }
+}
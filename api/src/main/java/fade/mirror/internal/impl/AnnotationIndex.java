@@ -0,0 +1,82 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.Annotated;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Maps annotation types to the members of a class annotated with them. The positions of the members of each type are
+ * kept as a bit set over the member array, so lookups, including lookups of several types at once, return the members
+ * in declaration order without duplicates.
+ *
+ * @param <Member> the type of the members.
+ * @author fade
+ */
+final class AnnotationIndex<Member extends Annotated> {
+
+    private static final BitSet NONE = new BitSet(0);
+
+    private final Member[] members;
+
+    private final Map<Class<?>, BitSet> positions;
+
+    private AnnotationIndex(@NotNull Member[] members, @NotNull Map<Class<?>, BitSet> positions) {
+        this.members = members;
+        this.positions = positions;
+    }
+
+    /**
+     * Indexes the given members by the types of their annotations.
+     *
+     * @param members  the members, in declaration order. The array must not be modified afterwards.
+     * @param <Member> the type of the members.
+     * @return the index.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static <Member extends Annotated> @NotNull AnnotationIndex<Member> from(@NotNull Member[] members) {
+        Map<Class<?>, BitSet> positions = new HashMap<>();
+        for (int i = 0; i < members.length; i++) {
+            int position = i;
+            members[i].getAnnotations()
+                    .map(Annotation::annotationType)
+                    .forEach(type -> positions.computeIfAbsent(type, key -> new BitSet(members.length)).set(position));
+        }
+        return new AnnotationIndex<>(members, positions);
+    }
+
+    /**
+     * Returns the members annotated with the given type.
+     *
+     * @param type the annotation type.
+     * @return the members, in declaration order.
+     */
+    @NotNull Stream<Member> annotatedWith(@NotNull Class<?> type) {
+        return this.stream(this.positions.getOrDefault(type, NONE));
+    }
+
+    /**
+     * Returns the members annotated with at least one of the given types.
+     *
+     * @param types the annotation types.
+     * @return the members, in declaration order.
+     */
+    @NotNull Stream<Member> annotatedWithAny(@NotNull Collection<? extends Class<?>> types) {
+        if (types.size() == 1) return this.annotatedWith(types.iterator().next());
+
+        BitSet union = new BitSet(this.members.length);
+        for (Class<?> type : types)
+            union.or(this.positions.getOrDefault(type, NONE));
+        return this.stream(union);
+    }
+
+    private @NotNull Stream<Member> stream(@NotNull BitSet positions) {
+        return positions.stream().mapToObj(position -> this.members[position]);
+    }
+}
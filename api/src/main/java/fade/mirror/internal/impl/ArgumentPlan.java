@@ -0,0 +1,184 @@
+package fade.mirror.internal.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Executable;
+
+/**
+ * A precompiled plan for validating the arguments of a method or constructor. The plan holds one check per parameter:
+ * reference parameters accept {@code null} and instances of their type, primitive parameters accept instances of
+ * every wrapper whose primitive widens to them. The trailing parameter of a variable arity member additionally accepts
+ * its elements as separate arguments, which are then packed into an array.
+ * <p>
+ * Validation does not allocate. In addition, the plan remembers the argument classes of the last successful call and
+ * skips the checks entirely while they do not change. Call sites that keep changing their argument classes stop being
+ * remembered after {@link #MAX_SHAPE_CHANGES} changes.
+ * </p>
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+final class ArgumentPlan {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final int MAX_SHAPE_CHANGES = 8;
+
+    private final Class<?>[] parameterTypes;
+
+    /**
+     * The wrappers accepted by each parameter, or {@code null} for reference parameters.
+     */
+    private final Class<?>[][] wrappers;
+
+    private final boolean isVarArgs;
+
+    /**
+     * The wrappers accepted by the elements of the trailing variable arity parameter, or {@code null} if they are
+     * references or the member has no variable arity parameter.
+     */
+    private final Class<?>[] componentWrappers;
+
+    /**
+     * The argument classes of the last successful call; {@code null} elements stand for {@code null} arguments. The
+     * array is never modified after it has been published.
+     */
+    private volatile Class<?>[] lastClasses;
+
+    private int shapeChanges;
+
+    private ArgumentPlan(@NotNull Executable member) {
+        this.parameterTypes = member.getParameterTypes();
+        this.wrappers = new Class<?>[this.parameterTypes.length][];
+        for (int i = 0; i < this.parameterTypes.length; i++)
+            if (this.parameterTypes[i].isPrimitive())
+                this.wrappers[i] = Primitives.wideningWrappers(this.parameterTypes[i]);
+        this.isVarArgs = member.isVarArgs();
+
+        Class<?> componentType = this.isVarArgs ? this.parameterTypes[this.parameterTypes.length - 1]
+                .getComponentType() : null;
+        this.componentWrappers = componentType != null && componentType.isPrimitive()
+                ? Primitives.wideningWrappers(componentType)
+                : null;
+    }
+
+    /**
+     * Compiles the plan for the given method or constructor.
+     *
+     * @param member the method or constructor.
+     * @return the plan.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static @NotNull ArgumentPlan from(@NotNull Executable member) {
+        return new ArgumentPlan(member);
+    }
+
+    /**
+     * Checks if the given argument can be passed for the parameter at the given index as it is.
+     *
+     * @param index    the index of the parameter.
+     * @param argument the argument.
+     * @return {@code true} if the argument is accepted, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    boolean accepts(int index, @Nullable Object argument) {
+        return accepts(this.parameterTypes[index], this.wrappers[index], argument);
+    }
+
+    /**
+     * Checks if the member can be invoked with the given arguments, either as they are or, for variable arity members,
+     * after packing the trailing arguments.
+     *
+     * @param arguments the arguments.
+     * @return {@code true} if the arguments are accepted, {@code false} otherwise.
+     */
+    boolean accepts(@Nullable Object[] arguments) {
+        if (arguments == null) arguments = NO_ARGUMENTS;
+        return this.isLastShape(arguments) || this.acceptsAsIs(arguments) || this.acceptsPacked(arguments);
+    }
+
+    /**
+     * Validates the given arguments and adapts them to the member's parameters.
+     *
+     * @param arguments the arguments.
+     * @return the arguments to invoke the member with, which are the given arguments unless trailing variable arity
+     * arguments had to be packed, or {@code null} if the arguments are not accepted.
+     */
+    @Nullable Object[] adapt(@Nullable Object[] arguments) {
+        if (arguments == null) arguments = NO_ARGUMENTS;
+        if (this.isLastShape(arguments)) return arguments;
+
+        if (this.acceptsAsIs(arguments)) {
+            this.rememberShape(arguments);
+            return arguments;
+        }
+
+        return this.acceptsPacked(arguments) ? this.pack(arguments) : null;
+    }
+
+    private boolean isLastShape(@Nullable Object[] arguments) {
+        Class<?>[] lastClasses = this.lastClasses;
+        if (lastClasses == null || lastClasses.length != arguments.length) return false;
+
+        for (int i = 0; i < arguments.length; i++) {
+            Object argument = arguments[i];
+            if ((argument == null ? null : argument.getClass()) != lastClasses[i]) return false;
+        }
+        return true;
+    }
+
+    private void rememberShape(@Nullable Object[] arguments) {
+        if (this.shapeChanges >= MAX_SHAPE_CHANGES) return;
+        this.shapeChanges++;
+
+        Class<?>[] classes = new Class<?>[arguments.length];
+        for (int i = 0; i < arguments.length; i++) classes[i] = arguments[i] == null ? null : arguments[i].getClass();
+        this.lastClasses = classes;
+    }
+
+    private boolean acceptsAsIs(@Nullable Object[] arguments) {
+        if (arguments.length != this.parameterTypes.length) return false;
+
+        for (int i = 0; i < arguments.length; i++)
+            if (!this.accepts(i, arguments[i])) return false;
+        return true;
+    }
+
+    private boolean acceptsPacked(@Nullable Object[] arguments) {
+        int fixed = this.parameterTypes.length - 1;
+        if (!this.isVarArgs || arguments.length < fixed) return false;
+
+        for (int i = 0; i < fixed; i++)
+            if (!this.accepts(i, arguments[i])) return false;
+
+        Class<?> componentType = this.parameterTypes[fixed].getComponentType();
+        for (int i = fixed; i < arguments.length; i++)
+            if (!accepts(componentType, this.componentWrappers, arguments[i])) return false;
+        return true;
+    }
+
+    private @Nullable Object[] pack(@Nullable Object[] arguments) {
+        int fixed = this.parameterTypes.length - 1;
+        Object array = Array.newInstance(this.parameterTypes[fixed].getComponentType(), arguments.length - fixed);
+        for (int i = fixed; i < arguments.length; i++) Array.set(array, i - fixed, arguments[i]);
+
+        Object[] packed = new Object[fixed + 1];
+        System.arraycopy(arguments, 0, packed, 0, fixed);
+        packed[fixed] = array;
+        return packed;
+    }
+
+    private static boolean accepts(@NotNull Class<?> type, Class<?>[] wrappers, @Nullable Object argument) {
+        if (argument == null) return !type.isPrimitive();
+        if (wrappers == null) return type.isInstance(argument);
+
+        Class<?> argumentType = argument.getClass();
+        for (Class<?> wrapper : wrappers)
+            if (wrapper == argumentType) return true;
+        return false;
+    }
+}
@@ -0,0 +1,126 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.Copier;
+import fade.mirror.MClass;
+import fade.mirror.MField;
+import fade.mirror.exception.InvocationException;
+import fade.mirror.exception.MismatchedArgumentsException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Predicate;
+
+/**
+ * Basic implementation of {@link Copier}.
+ *
+ * @param <Type> the type of the instances.
+ * @author fade
+ */
+public final class BasicCopier<Type>
+        implements Copier<Type> {
+
+    private final MClass<Type> clazz;
+
+    private final FieldPlan plan;
+
+    /**
+     * The constructor without parameters of the class, of the type {@code ()Object}, resolved on first use.
+     */
+    private volatile MethodHandle constructor;
+
+    private BasicCopier(@NotNull MClass<Type> clazz, @NotNull FieldPlan plan) {
+        this.clazz = clazz;
+        this.plan = plan;
+    }
+
+    /**
+     * Compiles a copier for the non-static fields of the given class and its superclasses that match the given filter.
+     * This method should not be used directly. Use {@link MClass#copier()} instead.
+     *
+     * @param clazz  the class.
+     * @param filter the filter.
+     * @param <Type> the type of the instances.
+     * @return the copier.
+     * @throws fade.mirror.exception.InaccessibleException if a matching field is inaccessible, or static and final.
+     */
+    @ApiStatus.Internal
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <Type> @NotNull BasicCopier<Type> from(@NotNull MClass<Type> clazz, @NotNull Predicate<? super MField<?>> filter) {
+        return new BasicCopier<>(clazz, FieldPlan.from(clazz.getRawClass(), filter).writable());
+    }
+
+    /**
+     * Creates a copier for every non-static field of the given class and its superclasses, using the class' shared
+     * {@link FieldPlan}.
+     *
+     * @param clazz  the class.
+     * @param <Type> the type of the instances.
+     * @return the copier.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static <Type> @NotNull BasicCopier<Type> from(@NotNull BasicMirrorClass<Type> clazz) {
+        return new BasicCopier<>(clazz, clazz.fieldPlan().writable());
+    }
+
+    @Override
+    public @NotNull MClass<Type> getDeclaringClass() {
+        return this.clazz;
+    }
+
+    @Override
+    public @NotNull Type copy(@NotNull Type source, @NotNull Type target) {
+        this.plan.copy(this.checkInstance(source), this.checkInstance(target));
+        return target;
+    }
+
+    @Override
+    public @NotNull Type merge(@NotNull Type source, @NotNull Type target) {
+        this.plan.merge(this.checkInstance(source), this.checkInstance(target));
+        return target;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type copy(@NotNull Type source) {
+        this.checkInstance(source);
+        if (source.getClass() != this.clazz.getRawClass())
+            throw MismatchedArgumentsException.from("Could not copy '%s'; the copy would be an instance of '%s' and lose the fields of the subclass", source.getClass()
+                    .getName(), this.clazz.getName());
+
+        MethodHandle constructor = this.constructor();
+
+        Type target;
+        try {
+            target = (Type) constructor.invokeExact();
+        } catch (Throwable throwable) {
+            throw InvocationException.from(throwable, "Could not create a copy of '%s'", this.clazz.getName());
+        }
+
+        this.plan.copy(source, target);
+        return target;
+    }
+
+    private @NotNull Object checkInstance(@NotNull Object instance) {
+        if (!this.clazz.getRawClass().isInstance(instance))
+            throw MismatchedArgumentsException.from("Could not copy '%s'; it is not an instance of '%s'", instance.getClass()
+                    .getName(), this.clazz.getName());
+        return instance;
+    }
+
+    private @NotNull MethodHandle constructor() {
+        MethodHandle constructor = this.constructor;
+        if (constructor != null) return constructor;
+
+        Class<Type> type = this.clazz.getRawClass();
+        try {
+            constructor = Handles.constructor(type);
+        } catch (NoSuchMethodException exception) {
+            throw InvocationException.from("Could not create a copy of '%s'; it has no constructor without parameters", type.getName());
+        } catch (IllegalAccessException exception) {
+            throw InvocationException.from(exception, "Could not create a copy of '%s'; its constructor without parameters is inaccessible", type.getName());
+        }
+        return this.constructor = constructor;
+    }
+}
@@ -0,0 +1,652 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.DeepCopier;
+import fade.mirror.MField;
+import fade.mirror.MRecord;
+import fade.mirror.exception.InvocationException;
+import fade.mirror.exception.MismatchedArgumentsException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Basic implementation of {@link DeepCopier}.
+ * <p>
+ * For every class it encounters, the copier derives a {@link Shape}: how instances are created and which fields of the
+ * class' {@link FieldPlan} are moved, copied or skipped. Shapes are kept in a {@link ClassValue}, so they are derived
+ * once per copier and class. A copy walks the graph with an explicit work stack: every object is created and recorded
+ * in an identity map when it is first reached, and populated when it is popped from the stack.
+ * </p>
+ * <p>
+ * Collections and maps are populated last, in the reverse order they were reached, so that their elements are complete
+ * when they are added; hash-based collections would otherwise hash incomplete elements.
+ * </p>
+ * <p>
+ * Records cannot be created before their components are known. When a record is first reached, a pending frame is
+ * pushed in its place, and the places it has to be stored in are recorded. When the frame is popped, it stays on the
+ * stack below the copies of the record's components, so that it is popped again once everything reached from them has
+ * been populated; the record is then created with its canonical constructor and stored in those places. Records
+ * nested in records are thus copied iteratively as well.
+ * </p>
+ *
+ * @param <Type> the type of the objects.
+ * @author fade
+ */
+public final class BasicDeepCopier<Type>
+        implements DeepCopier<Type> {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, Class.class, BigInteger.class, BigDecimal.class, UUID.class);
+
+    private static final Predicate<Class<?>> IMMUTABLE = type -> IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type) || !type.isArray() && type.getPackageName()
+            .equals("java.time");
+
+    /**
+     * The unmodifiable and fixed-size collections and maps of the JDK, which have no accessible constructor, by the
+     * view their copies are created as.
+     */
+    private static final Map<Class<?>, View> VIEWS = Map.ofEntries(
+            Map.entry(List.of().getClass(), View.LIST),
+            Map.entry(List.of(0).getClass(), View.LIST),
+            Map.entry(Set.of().getClass(), View.SET),
+            Map.entry(Set.of(0).getClass(), View.SET),
+            Map.entry(Map.of().getClass(), View.MAP),
+            Map.entry(Map.of(0, 0).getClass(), View.MAP),
+            Map.entry(Collections.unmodifiableCollection(List.of()).getClass(), View.COLLECTION),
+            Map.entry(Collections.unmodifiableList(new ArrayList<>()).getClass(), View.LIST),
+            Map.entry(Collections.unmodifiableList(new LinkedList<>()).getClass(), View.LIST),
+            Map.entry(Collections.unmodifiableSet(Set.of()).getClass(), View.SET),
+            Map.entry(Collections.unmodifiableSortedSet(new TreeSet<>()).getClass(), View.SORTED_SET),
+            Map.entry(Collections.unmodifiableNavigableSet(new TreeSet<>()).getClass(), View.SORTED_SET),
+            Map.entry(Collections.unmodifiableMap(Map.of()).getClass(), View.MAP),
+            Map.entry(Collections.unmodifiableSortedMap(new TreeMap<>()).getClass(), View.SORTED_MAP),
+            Map.entry(Collections.unmodifiableNavigableMap(new TreeMap<>()).getClass(), View.SORTED_MAP),
+            Map.entry(Collections.emptyList().getClass(), View.LIST),
+            Map.entry(Collections.emptySet().getClass(), View.SET),
+            Map.entry(Collections.emptyMap().getClass(), View.MAP),
+            Map.entry(Collections.singletonList(0).getClass(), View.LIST),
+            Map.entry(Collections.singleton(0).getClass(), View.SET),
+            Map.entry(Collections.singletonMap(0, 0).getClass(), View.MAP),
+            Map.entry(Arrays.asList().getClass(), View.FIXED_SIZE_LIST));
+
+    private final Class<Type> clazz;
+
+    private final Predicate<MField<?>> share;
+
+    private final Predicate<MField<?>> skip;
+
+    private final Predicate<Class<?>> immutable;
+
+    private final ClassValue<Shape> shapes = new ClassValue<>() {
+        @Override
+        protected Shape computeValue(Class<?> type) {
+            return BasicDeepCopier.this.shape(type);
+        }
+    };
+
+    private BasicDeepCopier(@NotNull Class<Type> clazz, @NotNull Predicate<MField<?>> share, @NotNull Predicate<MField<?>> skip, @NotNull Predicate<Class<?>> immutable) {
+        this.clazz = clazz;
+        this.share = share;
+        this.skip = skip;
+        this.immutable = immutable;
+    }
+
+    /**
+     * Creates a new {@link BasicDeepCopier} with the default configuration. This method should not be used directly.
+     * Use {@link fade.mirror.Mirror#deepCopier(Class)} instead.
+     *
+     * @param clazz  the class of the objects.
+     * @param <Type> the type of the objects.
+     * @return the copier.
+     */
+    @ApiStatus.Internal
+    @Contract(value = "_ -> new", pure = true)
+    public static <Type> @NotNull BasicDeepCopier<Type> from(@NotNull Class<Type> clazz) {
+        return new BasicDeepCopier<>(clazz, field -> false, field -> false, IMMUTABLE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <FieldType> @NotNull DeepCopier<Type> share(@NotNull Predicate<MField<FieldType>> filter) {
+        return new BasicDeepCopier<>(this.clazz, this.share.or(field -> filter.test((MField<FieldType>) field)), this.skip, this.immutable);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <FieldType> @NotNull DeepCopier<Type> skip(@NotNull Predicate<MField<FieldType>> filter) {
+        return new BasicDeepCopier<>(this.clazz, this.share, this.skip.or(field -> filter.test((MField<FieldType>) field)), this.immutable);
+    }
+
+    @Override
+    public @NotNull DeepCopier<Type> immutable(@NotNull Predicate<Class<?>> filter) {
+        return new BasicDeepCopier<>(this.clazz, this.share, this.skip, this.immutable.or(filter));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type copy(@Nullable Type source) {
+        if (source == null) return null;
+        if (!this.clazz.isInstance(source))
+            throw MismatchedArgumentsException.from("Could not copy '%s'; it is not an instance of '%s'", source.getClass()
+                    .getName(), this.clazz.getName());
+
+        return (Type) new Walk().run(source);
+    }
+
+    private @NotNull Shape shape(@NotNull Class<?> type) {
+        if (this.immutable.test(type)) return Shape.IMMUTABLE;
+        if (type.isArray())
+            return type.getComponentType().isPrimitive() ? Shape.PRIMITIVE_ARRAY : Shape.OBJECT_ARRAY;
+        if (EnumSet.class.isAssignableFrom(type)) return Shape.ENUM_SET;
+        if (type == EnumMap.class) return Shape.ENUM_MAP;
+
+        boolean isCollection = Collection.class.isAssignableFrom(type);
+        View view = VIEWS.get(type);
+        if (view != null) return new Shape(isCollection ? Kind.COLLECTION : Kind.MAP, view);
+        if (isCollection || Map.class.isAssignableFrom(type))
+            return new Shape(isCollection ? Kind.COLLECTION : Kind.MAP, constructor(type), sortedConstructor(type), null, null, null);
+        if (type.isRecord()) return this.recordShape(type);
+
+        FieldPlan plan = BasicMirrorClass.from(type).fieldPlan();
+        int[] moved = new int[plan.size()];
+        int[] copied = new int[plan.size()];
+        int movedCount = 0;
+        int copiedCount = 0;
+        for (int i = 0; i < plan.size(); i++) {
+            MField<?> field = plan.field(i);
+            if (this.skip.test(field)) continue;
+            if (field.getType().isPrimitive() || this.share.test(field)) moved[movedCount++] = i;
+            else copied[copiedCount++] = i;
+        }
+        return new Shape(Kind.OBJECT, constructor(type), null, plan, Arrays.copyOf(moved, movedCount), Arrays.copyOf(copied, copiedCount));
+    }
+
+    private @NotNull Shape recordShape(@NotNull Class<?> type) {
+        MRecord<?> record = BasicMirrorClass.from(type).asRecord().orElseThrow();
+        FieldPlan plan = BasicMirrorClass.from(type).fieldPlan();
+        RecordComponent[] components = type.getRecordComponents();
+
+        int[] fields = new int[components.length];
+        Object[] defaults = new Object[components.length];
+        int[] moved = new int[components.length];
+        int[] copied = new int[components.length];
+        int movedCount = 0;
+        int copiedCount = 0;
+        for (int i = 0; i < components.length; i++) {
+            fields[i] = indexOf(plan, components[i].getName());
+            MField<?> field = plan.field(fields[i]);
+
+            if (this.skip.test(field)) {
+                if (field.getType().isPrimitive()) defaults[i] = Array.get(Array.newInstance(field.getType(), 1), 0);
+            } else if (field.getType().isPrimitive() || this.share.test(field)) moved[movedCount++] = i;
+            else copied[copiedCount++] = i;
+        }
+        return new Shape(record, plan, fields, defaults, Arrays.copyOf(moved, movedCount), Arrays.copyOf(copied, copiedCount));
+    }
+
+    private static int indexOf(@NotNull FieldPlan plan, @NotNull String name) {
+        for (int i = 0; i < plan.size(); i++)
+            if (plan.field(i).getName().equals(name)) return i;
+        throw new IllegalStateException("Record component '%s' has no field".formatted(name));
+    }
+
+    private static @NotNull MethodHandle constructor(@NotNull Class<?> type) {
+        try {
+            return Handles.constructor(type);
+        } catch (NoSuchMethodException exception) {
+            throw InvocationException.from("Could not copy '%s'; it has no constructor without parameters", type.getName());
+        } catch (IllegalAccessException exception) {
+            throw InvocationException.from(exception, "Could not copy '%s'; its constructor without parameters is inaccessible", type.getName());
+        }
+    }
+
+    private static @Nullable MethodHandle sortedConstructor(@NotNull Class<?> type) {
+        if (!SortedSet.class.isAssignableFrom(type) && !SortedMap.class.isAssignableFrom(type) && !PriorityQueue.class.isAssignableFrom(type))
+            return null;
+
+        try {
+            return Handles.constructor(type, Comparator.class);
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            return null;
+        }
+    }
+
+    private static @Nullable Comparator<?> comparator(@NotNull Object collection) {
+        if (collection instanceof SortedSet<?> set) return set.comparator();
+        if (collection instanceof SortedMap<?, ?> map) return map.comparator();
+        if (collection instanceof PriorityQueue<?> queue) return queue.comparator();
+        return null;
+    }
+
+    /**
+     * The ways instances of a class are created and populated.
+     */
+    private enum Kind {
+        IMMUTABLE, OBJECT, RECORD, OBJECT_ARRAY, PRIMITIVE_ARRAY, COLLECTION, MAP, ENUM_SET, ENUM_MAP
+    }
+
+    /**
+     * The views the unmodifiable and fixed-size collections and maps of the JDK are copied as. The copy is a view of
+     * the same kind over a new collection, map or array, which is populated like any other collection or map.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private enum View {
+        COLLECTION {
+            @Override
+            @NotNull Object backing(@NotNull Object source) {
+                return new ArrayList<>();
+            }
+
+            @Override
+            @NotNull Object wrap(@NotNull Object backing) {
+                return Collections.unmodifiableCollection((Collection<?>) backing);
+            }
+        },
+        LIST {
+            @Override
+            @NotNull Object backing(@NotNull Object source) {
+                return new ArrayList<>();
+            }
+
+            @Override
+            @NotNull Object wrap(@NotNull Object backing) {
+                return Collections.unmodifiableList((List<?>) backing);
+            }
+        },
+        SET {
+            @Override
+            @NotNull Object backing(@NotNull Object source) {
+                return new LinkedHashSet<>();
+            }
+
+            @Override
+            @NotNull Object wrap(@NotNull Object backing) {
+                return Collections.unmodifiableSet((Set<?>) backing);
+            }
+        },
+        SORTED_SET {
+            @Override
+            @NotNull Object backing(@NotNull Object source) {
+                return new TreeSet<>(((SortedSet) source).comparator());
+            }
+
+            @Override
+            @NotNull Object wrap(@NotNull Object backing) {
+                return Collections.unmodifiableNavigableSet((NavigableSet<?>) backing);
+            }
+        },
+        MAP {
+            @Override
+            @NotNull Object backing(@NotNull Object source) {
+                return new LinkedHashMap<>();
+            }
+
+            @Override
+            @NotNull Object wrap(@NotNull Object backing) {
+                return Collections.unmodifiableMap((Map<?, ?>) backing);
+            }
+        },
+        SORTED_MAP {
+            @Override
+            @NotNull Object backing(@NotNull Object source) {
+                return new TreeMap<>(((SortedMap) source).comparator());
+            }
+
+            @Override
+            @NotNull Object wrap(@NotNull Object backing) {
+                return Collections.unmodifiableNavigableMap((NavigableMap<?, ?>) backing);
+            }
+        },
+        FIXED_SIZE_LIST {
+            @Override
+            @NotNull Object backing(@NotNull Object source) {
+                return new Object[((List<?>) source).size()];
+            }
+
+            @Override
+            @NotNull Object wrap(@NotNull Object backing) {
+                return Arrays.asList((Object[]) backing);
+            }
+        };
+
+        /**
+         * Creates the empty collection, map or array the copy of the given source is a view of.
+         */
+        abstract @NotNull Object backing(@NotNull Object source);
+
+        /**
+         * Creates the view over the given backing collection, map or array.
+         */
+        abstract @NotNull Object wrap(@NotNull Object backing);
+    }
+
+    /**
+     * How instances of a class are copied.
+     */
+    private static final class Shape {
+
+        static final Shape IMMUTABLE = new Shape(Kind.IMMUTABLE);
+        static final Shape OBJECT_ARRAY = new Shape(Kind.OBJECT_ARRAY);
+        static final Shape PRIMITIVE_ARRAY = new Shape(Kind.PRIMITIVE_ARRAY);
+        static final Shape ENUM_SET = new Shape(Kind.ENUM_SET);
+        static final Shape ENUM_MAP = new Shape(Kind.ENUM_MAP);
+
+        final Kind kind;
+
+        /**
+         * The constructor without parameters, of the type {@code ()Object}.
+         */
+        final MethodHandle constructor;
+
+        /**
+         * The constructor taking a comparator, of the type {@code (Object)Object}, for sorted collections and maps.
+         */
+        final MethodHandle sortedConstructor;
+
+        /**
+         * The view the copy is created as, for the unmodifiable and fixed-size collections and maps of the JDK.
+         */
+        final View view;
+
+        final FieldPlan plan;
+
+        /**
+         * The indices of the fields in the plan whose values are moved to the copy as they are. For records, the
+         * indices of the components.
+         */
+        final int[] moved;
+
+        /**
+         * The indices of the fields in the plan whose values are copied. For records, the indices of the components.
+         */
+        final int[] copied;
+
+        final MRecord<?> record;
+
+        /**
+         * The indices of the fields of the components of a record in the plan.
+         */
+        final int[] components;
+
+        /**
+         * The values of the components of a record that are skipped.
+         */
+        final Object[] defaults;
+
+        Shape(Kind kind) {
+            this(kind, null, null, null, null, null);
+        }
+
+        Shape(Kind kind, View view) {
+            this(kind, null, null, view, null, null, null, null, null, null);
+        }
+
+        Shape(Kind kind, MethodHandle constructor, MethodHandle sortedConstructor, FieldPlan plan, int[] moved, int[] copied) {
+            this(kind, constructor, sortedConstructor, null, plan, moved, copied, null, null, null);
+        }
+
+        Shape(MRecord<?> record, FieldPlan plan, int[] components, Object[] defaults, int[] moved, int[] copied) {
+            this(Kind.RECORD, null, null, null, plan, moved, copied, record, components, defaults);
+        }
+
+        private Shape(Kind kind, MethodHandle constructor, MethodHandle sortedConstructor, View view, FieldPlan plan, int[] moved, int[] copied, MRecord<?> record, int[] components, Object[] defaults) {
+            this.kind = kind;
+            this.constructor = constructor;
+            this.sortedConstructor = sortedConstructor;
+            this.view = view;
+            this.plan = plan;
+            this.moved = moved;
+            this.copied = copied;
+            this.record = record;
+            this.components = components;
+            this.defaults = defaults;
+        }
+
+        /**
+         * Creates the copy of the given instance, or for views the collection, map or array backing it. Primitive arrays
+         * and enum sets are complete once they are created; everything else has to be populated.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @NotNull Object create(@NotNull Object source) {
+            if (this.view != null) return this.view.backing(source);
+
+            switch (this.kind) {
+                case OBJECT_ARRAY, PRIMITIVE_ARRAY -> {
+                    int length = Array.getLength(source);
+                    Object copy = Array.newInstance(source.getClass().getComponentType(), length);
+                    if (this.kind == Kind.PRIMITIVE_ARRAY) System.arraycopy(source, 0, copy, 0, length);
+                    return copy;
+                }
+                case ENUM_SET -> {
+                    return EnumSet.copyOf((EnumSet) source);
+                }
+                case ENUM_MAP -> {
+                    EnumMap<?, ?> copy = new EnumMap<>((EnumMap) source);
+                    copy.clear();
+                    return copy;
+                }
+                default -> {
+                    Comparator<?> comparator = this.sortedConstructor == null ? null : comparator(source);
+                    try {
+                        return comparator == null ? this.constructor.invokeExact() : this.sortedConstructor.invokeExact((Object) comparator);
+                    } catch (Throwable throwable) {
+                        throw InvocationException.from(throwable, "Could not copy '%s'", source.getClass().getName());
+                    }
+                }
+            }
+        }
+
+        boolean isComplete() {
+            return this.kind == Kind.PRIMITIVE_ARRAY || this.kind == Kind.ENUM_SET;
+        }
+    }
+
+    /**
+     * The state of a single copy.
+     */
+    private final class Walk {
+
+        /**
+         * The copies of the objects reached so far.
+         */
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+        /**
+         * The objects that still have to be populated, as pairs of the source pushed before its copy.
+         */
+        private final Deque<Object> work = new ArrayDeque<>();
+
+        /**
+         * The collections and maps that still have to be filled, as pairs of the copy followed by its copied elements,
+         * or keys and values in alternation.
+         */
+        private final List<Object> fills = new ArrayList<>();
+
+        /**
+         * The records that have been reached but not created yet.
+         */
+        private final Map<Object, PendingRecord> records = new IdentityHashMap<>();
+
+        @NotNull Object run(@NotNull Object source) {
+            Object[] root = new Object[1];
+            root[0] = this.copyOf(source, root, 0);
+
+            while (!this.work.isEmpty()) {
+                Object target = this.work.pop();
+                Object from = this.work.pop();
+                if (target instanceof PendingRecord record) this.advance(from, record);
+                else this.populate(from, target, BasicDeepCopier.this.shapes.get(from.getClass()));
+            }
+
+            this.fill(0);
+            return root[0];
+        }
+
+        /**
+         * Fills the collections and maps that were reached after the fills had the given size, in the reverse order they
+         * were reached.
+         */
+        private void fill(int fills) {
+            for (int i = this.fills.size() - 2; i >= fills; i -= 2)
+                BasicDeepCopier.fill(this.fills.get(i), (Object[]) this.fills.get(i + 1));
+            this.fills.subList(fills, this.fills.size()).clear();
+        }
+
+        /**
+         * Returns the copy of the given object. The copy of a record that has not been created yet is {@code null}; it
+         * is stored in the given place once it has been created, see {@link #store(Object, int, Object)}.
+         */
+        private @Nullable Object copyOf(@Nullable Object source, @NotNull Object holder, int index) {
+            if (source == null) return null;
+
+            Object copy = this.copies.get(source);
+            if (copy != null) return copy;
+
+            Shape shape = BasicDeepCopier.this.shapes.get(source.getClass());
+            if (shape.kind == Kind.IMMUTABLE) return source;
+            if (shape.kind == Kind.RECORD) {
+                PendingRecord record = this.records.get(source);
+                if (record == null) {
+                    record = new PendingRecord(shape);
+                    this.records.put(source, record);
+                    this.work.push(source);
+                    this.work.push(record);
+                } else if (record.components != null)
+                    throw InvocationException.from("Could not copy record '%s'; it is reachable from its own components", source.getClass()
+                            .getName());
+
+                record.holders.add(holder);
+                record.indices.add(index);
+                return null;
+            }
+
+            Object target = shape.create(source);
+            copy = shape.view == null ? target : shape.view.wrap(target);
+            this.copies.put(source, copy);
+            if (!shape.isComplete()) {
+                this.work.push(source);
+                this.work.push(target);
+            }
+            return copy;
+        }
+
+        /**
+         * Copies the components of the given record when its frame is first popped, and creates the record when it is
+         * popped again.
+         */
+        private void advance(@NotNull Object source, @NotNull PendingRecord record) {
+            Shape shape = record.shape;
+            if (record.components == null) {
+                this.work.push(source);
+                this.work.push(record);
+                record.fills = this.fills.size();
+
+                Object[] components = shape.defaults.clone();
+                record.components = components;
+                for (int index : shape.moved) components[index] = shape.plan.get(shape.components[index], source);
+                for (int index : shape.copied)
+                    components[index] = this.copyOf(shape.plan.get(shape.components[index], source), components, index);
+                return;
+            }
+
+            this.fill(record.fills);
+            Object copy = shape.record.construct(record.components);
+            this.records.remove(source);
+            this.copies.put(source, copy);
+            for (int i = 0; i < record.holders.size(); i++)
+                this.store(record.holders.get(i), record.indices.get(i), copy);
+        }
+
+        /**
+         * Stores the copy of a record in the given place: an element of an array, which may be the copy of an array, the
+         * elements a collection or map is filled with, or the components of a record, or else a field of a copied
+         * object, by its index in the plan.
+         */
+        private void store(@NotNull Object holder, int index, @NotNull Object copy) {
+            if (holder instanceof Object[] array) array[index] = copy;
+            else BasicDeepCopier.this.shapes.get(holder.getClass()).plan.set(index, holder, copy);
+        }
+
+        private void populate(@NotNull Object source, @NotNull Object target, @NotNull Shape shape) {
+            switch (shape.kind) {
+                case OBJECT -> {
+                    for (int index : shape.moved) shape.plan.move(index, source, target);
+                    for (int index : shape.copied)
+                        shape.plan.set(index, target, this.copyOf(shape.plan.get(index, source), target, index));
+                }
+                case OBJECT_ARRAY -> {
+                    Object[] elements = (Object[]) source;
+                    Object[] copies = (Object[]) target;
+                    for (int i = 0; i < elements.length; i++) copies[i] = this.copyOf(elements[i], copies, i);
+                }
+                case COLLECTION -> {
+                    Object[] elements = ((Collection<?>) source).toArray();
+                    for (int i = 0; i < elements.length; i++) elements[i] = this.copyOf(elements[i], elements, i);
+                    this.fills.add(target);
+                    this.fills.add(elements);
+                }
+                default -> {
+                    Map<?, ?> map = (Map<?, ?>) source;
+                    Object[] entries = new Object[map.size() * 2];
+                    int i = 0;
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        entries[i] = this.copyOf(entry.getKey(), entries, i);
+                        entries[i + 1] = this.copyOf(entry.getValue(), entries, i + 1);
+                        i += 2;
+                    }
+                    this.fills.add(target);
+                    this.fills.add(entries);
+                }
+            }
+        }
+    }
+
+    /**
+     * A record that has been reached but not created yet, and the places its copy has to be stored in.
+     */
+    private static final class PendingRecord {
+
+        final Shape shape;
+
+        final List<Object> holders = new ArrayList<>(1);
+
+        final List<Integer> indices = new ArrayList<>(1);
+
+        /**
+         * The copied components, or {@code null} if they have not been copied yet.
+         */
+        Object[] components;
+
+        /**
+         * The size of the fills when the components were copied.
+         */
+        int fills;
+
+        PendingRecord(Shape shape) {
+            this.shape = shape;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void fill(@NotNull Object target, @NotNull Object[] elements) {
+        if (target instanceof Object[] array) {
+            System.arraycopy(elements, 0, array, 0, elements.length);
+            return;
+        }
+        if (target instanceof Collection<?> collection) {
+            ((Collection<Object>) collection).addAll(Arrays.asList(elements));
+            return;
+        }
+
+        Map<Object, Object> map = (Map<Object, Object>) target;
+        for (int i = 0; i < elements.length; i += 2) map.put(elements[i], elements[i + 1]);
+    }
+}
@@ -0,0 +1,187 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.Equivalence;
+import fade.mirror.MClass;
+import fade.mirror.MField;
+import fade.mirror.exception.MismatchedArgumentsException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Basic implementation of {@link Equivalence}.
+ * <p>
+ * Every compared field is compiled into an equality of the type {@code (Object first, Object second)boolean} and a
+ * hasher of the type {@code (Object instance)int}, composed from the field's exact-typed getter and one of the
+ * primitive-specialized {@code equal} and {@code hashOf} methods below.
+ * </p>
+ *
+ * @param <Type> the type of the instances.
+ * @author fade
+ */
+public final class BasicEquivalence<Type>
+        implements Equivalence<Type> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Class<Type> clazz;
+
+    private final MethodHandle[] equalities;
+
+    private final MethodHandle[] hashers;
+
+    private BasicEquivalence(@NotNull Class<Type> clazz, @NotNull FieldPlan plan) {
+        this.clazz = clazz;
+        this.equalities = new MethodHandle[plan.size()];
+        this.hashers = new MethodHandle[plan.size()];
+
+        for (int i = 0; i < plan.size(); i++) {
+            MethodHandle getter = plan.exactGetter(i);
+            Class<?> type = getter.type().returnType();
+            this.equalities[i] = MethodHandles.filterArguments(find("equal", MethodType.methodType(boolean.class, type, type)), 0, getter, getter);
+            this.hashers[i] = MethodHandles.filterReturnValue(getter, find("hashOf", MethodType.methodType(int.class, type)));
+        }
+    }
+
+    /**
+     * Compiles an equivalence for the non-static fields of the given class that match the given filter. This method
+     * should not be used directly. Use {@link MClass#equivalence()} instead.
+     *
+     * @param clazz               the class.
+     * @param filter              the filter.
+     * @param includeSuperclasses whether to compare the fields of superclasses.
+     * @param <Type>              the type of the instances.
+     * @return the equivalence.
+     * @throws fade.mirror.exception.InaccessibleException if a matching field is inaccessible.
+     */
+    @ApiStatus.Internal
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static <Type> @NotNull BasicEquivalence<Type> from(@NotNull Class<Type> clazz, @NotNull Predicate<? super MField<?>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
+        return new BasicEquivalence<>(clazz, FieldPlan.from(clazz, filter, includeSuperclasses));
+    }
+
+    @Override
+    public boolean equivalent(@Nullable Type first, @Nullable Type second) {
+        if (first == second) return true;
+        if (first == null || second == null || first.getClass() != second.getClass()) return false;
+        this.checkInstance(first);
+
+        try {
+            for (MethodHandle equality : this.equalities)
+                if (!(boolean) equality.invokeExact((Object) first, (Object) second)) return false;
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return true;
+    }
+
+    @Override
+    public int hash(@Nullable Type instance) {
+        if (instance == null) return 0;
+        this.checkInstance(instance);
+
+        int hash = 0;
+        try {
+            for (MethodHandle hasher : this.hashers) hash = 31 * hash + (int) hasher.invokeExact((Object) instance);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return hash;
+    }
+
+    private void checkInstance(@NotNull Object instance) {
+        if (!this.clazz.isInstance(instance))
+            throw MismatchedArgumentsException.from("Could not compare '%s'; it is not an instance of '%s'", instance.getClass()
+                    .getName(), this.clazz.getName());
+    }
+
+    private static @NotNull MethodHandle find(@NotNull String name, @NotNull MethodType type) {
+        try {
+            return LOOKUP.findStatic(BasicEquivalence.class, name, type);
+        } catch (ReflectiveOperationException exception) {
+            throw FieldHandles.unchecked(exception);
+        }
+    }
+
+    private static boolean equal(boolean first, boolean second) {
+        return first == second;
+    }
+
+    private static boolean equal(byte first, byte second) {
+        return first == second;
+    }
+
+    private static boolean equal(char first, char second) {
+        return first == second;
+    }
+
+    private static boolean equal(short first, short second) {
+        return first == second;
+    }
+
+    private static boolean equal(int first, int second) {
+        return first == second;
+    }
+
+    private static boolean equal(long first, long second) {
+        return first == second;
+    }
+
+    private static boolean equal(float first, float second) {
+        return Float.compare(first, second) == 0;
+    }
+
+    private static boolean equal(double first, double second) {
+        return Double.compare(first, second) == 0;
+    }
+
+    private static boolean equal(Object first, Object second) {
+        return Objects.deepEquals(first, second);
+    }
+
+    private static int hashOf(boolean value) {
+        return Boolean.hashCode(value);
+    }
+
+    private static int hashOf(byte value) {
+        return Byte.hashCode(value);
+    }
+
+    private static int hashOf(char value) {
+        return Character.hashCode(value);
+    }
+
+    private static int hashOf(short value) {
+        return Short.hashCode(value);
+    }
+
+    private static int hashOf(int value) {
+        return Integer.hashCode(value);
+    }
+
+    private static int hashOf(long value) {
+        return Long.hashCode(value);
+    }
+
+    private static int hashOf(float value) {
+        return Float.hashCode(value);
+    }
+
+    private static int hashOf(double value) {
+        return Double.hashCode(value);
+    }
+
+    private static int hashOf(Object value) {
+        // consistent with Objects.deepEquals, which compares arrays by their elements
+        if (value == null || !value.getClass().isArray()) return Objects.hashCode(value);
+        return Arrays.deepHashCode(new Object[]{value});
+    }
+}
@@ -0,0 +1,371 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.MArray;
+import fade.mirror.MClass;
+import fade.mirror.exception.MismatchedArgumentsException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Basic implementation of {@link MArray}.
+ * <p>
+ * Element access goes through handles derived from the array's element {@link VarHandle}, adapted to the types
+ * {@code (Object array, int index)T} and {@code (Object array, int index, T value)void}, where {@code T} is one of
+ * {@link FieldHandles#TYPES}. The handles are resolved on first use and cached, written racily like the handles of
+ * {@link FieldHandles}.
+ * </p>
+ *
+ * @param <Type> the type of the array.
+ * @author fade
+ */
+public final class BasicMirrorArray<Type>
+        implements MArray<Type> {
+
+    private final MClass<Type> clazz;
+
+    private final Class<?> componentType;
+
+    /**
+     * The wrappers of the types that widen to the component type, if it is primitive.
+     */
+    private final Class<?>[] wrappers;
+
+    private final VarHandle elements;
+
+    /**
+     * The array constructor, of the type {@code (int length)Object}.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * The array length, of the type {@code (Object array)int}.
+     */
+    private final MethodHandle length;
+
+    private final MethodHandle[] getters = new MethodHandle[FieldHandles.TYPES.length];
+    private final MethodHandle[] setters = new MethodHandle[FieldHandles.TYPES.length];
+
+    private BasicMirrorArray(@NotNull MClass<Type> clazz) {
+        Class<Type> arrayClass = clazz.getRawClass();
+        this.clazz = clazz;
+        this.componentType = arrayClass.getComponentType();
+        this.wrappers = this.componentType.isPrimitive() ? Primitives.wideningWrappers(this.componentType) : null;
+        this.elements = MethodHandles.arrayElementVarHandle(arrayClass);
+        this.constructor = MethodHandles.arrayConstructor(arrayClass)
+                .asType(MethodType.methodType(Object.class, int.class));
+        this.length = MethodHandles.arrayLength(arrayClass).asType(MethodType.methodType(int.class, Object.class));
+    }
+
+    /**
+     * Creates a new {@link BasicMirrorArray} instance. This method should not be used directly. Instead, use
+     * {@link MClass#asArray()}.
+     *
+     * @param clazz  the array class.
+     * @param <Type> the type of the array.
+     * @return the created mirror.
+     */
+    @ApiStatus.Internal
+    @Contract(value = "_ -> new", pure = true)
+    public static <Type> @NotNull BasicMirrorArray<Type> from(@NotNull MClass<Type> clazz) {
+        return new BasicMirrorArray<>(clazz);
+    }
+
+    @Override
+    public @NotNull MClass<Type> getDeclaringClass() {
+        return this.clazz;
+    }
+
+    @Override
+    public @NotNull Class<?> getComponentType() {
+        return this.componentType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type newInstance(int length) {
+        try {
+            return (Type) this.constructor.invokeExact(length);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public int getLength(@NotNull Object array) {
+        this.checkArray(array);
+        try {
+            return (int) this.length.invokeExact(array);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public @Nullable Object get(@NotNull Object array, int index) {
+        MethodHandle getter = this.getter(Object.class, array);
+        try {
+            return getter.invokeExact(array, index);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public @NotNull MArray<Type> set(@NotNull Object array, int index, @Nullable Object value) {
+        MethodHandle setter = this.setter(Object.class, array);
+        Object converted = this.value(value);
+        try {
+            setter.invokeExact(array, index, converted);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean getBoolean(@NotNull Object array, int index) {
+        MethodHandle getter = this.getter(boolean.class, array);
+        try {
+            return (boolean) getter.invokeExact(array, index);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public byte getByte(@NotNull Object array, int index) {
+        MethodHandle getter = this.getter(byte.class, array);
+        try {
+            return (byte) getter.invokeExact(array, index);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public char getChar(@NotNull Object array, int index) {
+        MethodHandle getter = this.getter(char.class, array);
+        try {
+            return (char) getter.invokeExact(array, index);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public short getShort(@NotNull Object array, int index) {
+        MethodHandle getter = this.getter(short.class, array);
+        try {
+            return (short) getter.invokeExact(array, index);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public int getInt(@NotNull Object array, int index) {
+        MethodHandle getter = this.getter(int.class, array);
+        try {
+            return (int) getter.invokeExact(array, index);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public long getLong(@NotNull Object array, int index) {
+        MethodHandle getter = this.getter(long.class, array);
+        try {
+            return (long) getter.invokeExact(array, index);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public float getFloat(@NotNull Object array, int index) {
+        MethodHandle getter = this.getter(float.class, array);
+        try {
+            return (float) getter.invokeExact(array, index);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public double getDouble(@NotNull Object array, int index) {
+        MethodHandle getter = this.getter(double.class, array);
+        try {
+            return (double) getter.invokeExact(array, index);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public @NotNull MArray<Type> setBoolean(@NotNull Object array, int index, boolean value) {
+        MethodHandle setter = this.setter(boolean.class, array);
+        try {
+            setter.invokeExact(array, index, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MArray<Type> setByte(@NotNull Object array, int index, byte value) {
+        MethodHandle setter = this.setter(byte.class, array);
+        try {
+            setter.invokeExact(array, index, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MArray<Type> setChar(@NotNull Object array, int index, char value) {
+        MethodHandle setter = this.setter(char.class, array);
+        try {
+            setter.invokeExact(array, index, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MArray<Type> setShort(@NotNull Object array, int index, short value) {
+        MethodHandle setter = this.setter(short.class, array);
+        try {
+            setter.invokeExact(array, index, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MArray<Type> setInt(@NotNull Object array, int index, int value) {
+        MethodHandle setter = this.setter(int.class, array);
+        try {
+            setter.invokeExact(array, index, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MArray<Type> setLong(@NotNull Object array, int index, long value) {
+        MethodHandle setter = this.setter(long.class, array);
+        try {
+            setter.invokeExact(array, index, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MArray<Type> setFloat(@NotNull Object array, int index, float value) {
+        MethodHandle setter = this.setter(float.class, array);
+        try {
+            setter.invokeExact(array, index, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MArray<Type> setDouble(@NotNull Object array, int index, double value) {
+        MethodHandle setter = this.setter(double.class, array);
+        try {
+            setter.invokeExact(array, index, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MArray<Type> fill(@NotNull Object array, int from, int to, @Nullable Object value) {
+        int length = this.getLength(array);
+        if (from < 0 || from > to || to > length)
+            throw new ArrayIndexOutOfBoundsException("Range [%d, %d) is out of bounds for length %d".formatted(from, to, length));
+        if (from == to) return this;
+
+        // set the first element, then double the filled range with bulk copies
+        this.set(array, from, value);
+        for (int filled = 1; filled < to - from; filled *= 2)
+            System.arraycopy(array, from, array, from + filled, Math.min(filled, to - from - filled));
+        return this;
+    }
+
+    @Override
+    public @NotNull MArray<Type> copy(@NotNull Object source, int sourceIndex, @NotNull Object target, int targetIndex, int length) {
+        System.arraycopy(this.checkArray(source), sourceIndex, this.checkArray(target), targetIndex, length);
+        return this;
+    }
+
+    @Override
+    public @NotNull Type copyOf(@NotNull Object array, int length) {
+        int arrayLength = this.getLength(array);
+        Type copy = this.newInstance(length);
+        System.arraycopy(array, 0, copy, 0, Math.min(arrayLength, length));
+        return copy;
+    }
+
+    private @NotNull Object checkArray(@NotNull Object array) {
+        if (!this.clazz.getRawClass().isInstance(array))
+            throw MismatchedArgumentsException.from("Could not access '%s'; it is not an instance of '%s'", array.getClass()
+                    .getName(), this.clazz.getName());
+        return array;
+    }
+
+    private @Nullable Object value(@Nullable Object value) {
+        if (this.wrappers == null) {
+            if (value == null || this.componentType.isInstance(value)) return value;
+        } else if (value != null) {
+            for (Class<?> wrapper : this.wrappers)
+                if (wrapper == value.getClass()) return Primitives.widen(value, this.componentType);
+        }
+
+        throw MismatchedArgumentsException.from("Mismatched element for '%s'; provided=%s, expected=%s", this.clazz.getName(), value, this.componentType.getName());
+    }
+
+    private @NotNull MethodHandle getter(@NotNull Class<?> type, @NotNull Object array) {
+        this.checkArray(array);
+        int index = FieldHandles.index(type);
+        MethodHandle getter = this.getters[index];
+        if (getter != null) return getter;
+
+        if (type.isPrimitive() && !(this.componentType.isPrimitive() && Primitives.isWidening(this.componentType, type)))
+            throw MismatchedArgumentsException.from("Could not read elements of '%s' as '%s'", this.clazz.getName(), type.getName());
+
+        return this.getters[index] = this.elements.toMethodHandle(VarHandle.AccessMode.GET)
+                .asType(MethodType.methodType(type, Object.class, int.class));
+    }
+
+    private @NotNull MethodHandle setter(@NotNull Class<?> type, @NotNull Object array) {
+        this.checkArray(array);
+        int index = FieldHandles.index(type);
+        MethodHandle setter = this.setters[index];
+        if (setter != null) return setter;
+
+        if (type.isPrimitive() && !(this.componentType.isPrimitive() && Primitives.isWidening(type, this.componentType)))
+            throw MismatchedArgumentsException.from("Could not write elements of '%s' as '%s'", this.clazz.getName(), type.getName());
+
+        return this.setters[index] = this.elements.toMethodHandle(VarHandle.AccessMode.SET)
+                .asType(MethodType.methodType(void.class, Object.class, int.class, type));
+    }
+}
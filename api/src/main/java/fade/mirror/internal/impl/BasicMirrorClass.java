@@ -1,6 +1,10 @@
 package fade.mirror.internal.impl;
 
 import fade.mirror.*;
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.internal.impl.filter.AnnotationHint;
+import fade.mirror.internal.impl.filter.NameHint;
+import fade.mirror.internal.impl.filter.ParameterHint;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -11,7 +15,10 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -24,11 +31,143 @@ import java.util.stream.Stream;
 public final class BasicMirrorClass<Type>
         implements MClass<Type> {
 
+    /**
+     * The canonical mirrors, one per class. A {@link ClassValue} is used so that the cache does not keep class loaders
+     * alive.
+     */
+    private static final ClassValue<BasicMirrorClass<?>> CACHE = new ClassValue<>() {
+        @Override
+        protected BasicMirrorClass<?> computeValue(Class<?> type) {
+            return new BasicMirrorClass<>(type);
+        }
+    };
+
     /**
      * The class.
      */
     private final @NotNull Class<Type> clazz;
 
+    /**
+     * The linearized supertypes of the class, resolved on first use.
+     */
+    private volatile Supertypes supertypes;
+
+    /**
+     * The classes declared in the class, resolved on first use. The array is never modified after it is published.
+     */
+    private volatile Class<?>[] rawInnerClasses;
+
+    /**
+     * The declared fields of the class, resolved on first use. The array is never modified after it is published, and
+     * its fields are never handed out, since their accessibility can be changed.
+     */
+    private volatile Field[] rawFields;
+
+    /**
+     * The mirrors of {@link #rawFields}, in the same order.
+     */
+    private volatile MField<?>[] fields;
+
+    /**
+     * The mirrors of {@link #rawFields} by name, indexed on first lookup by name. The map is never modified after it is
+     * published.
+     */
+    private volatile Map<String, MField<?>> fieldsByName;
+
+    /**
+     * The mirrors of {@link #rawFields} by annotation type, indexed on first lookup by annotation.
+     */
+    private volatile AnnotationIndex<MField<?>> fieldsByAnnotation;
+
+    /**
+     * The declared methods of the class, resolved on first use. The array is never modified after it is published, and
+     * its methods are never handed out.
+     */
+    private volatile Method[] rawMethods;
+
+    /**
+     * The mirrors of {@link #rawMethods}, in the same order.
+     */
+    private volatile MMethod<?>[] methods;
+
+    /**
+     * The mirrors of {@link #rawMethods} grouped by name, in declaration order, indexed on first lookup by name. The map
+     * is never modified after it is published.
+     */
+    private volatile Map<String, List<MMethod<?>>> methodsByName;
+
+    /**
+     * The mirrors of {@link #rawMethods} by annotation type, indexed on first lookup by annotation.
+     */
+    private volatile AnnotationIndex<MMethod<?>> methodsByAnnotation;
+
+    /**
+     * The mirrors of {@link #rawMethods} by signature, indexed on first lookup by signature. A signature maps to every
+     * method declared with it, bridge methods last. The map is never modified after it is published.
+     */
+    private volatile Map<Signature, List<MMethod<?>>> methodsBySignature;
+
+    /**
+     * The effective methods of the class, derived on first use from the tables of its superclass and interfaces.
+     */
+    private volatile MethodTable methodTable;
+
+    /**
+     * The public constructors of the class, resolved on first use. The array is never modified after it is
+     * published, and its constructors are never handed out.
+     */
+    private volatile Constructor<Type>[] rawConstructors;
+
+    /**
+     * The mirrors of {@link #rawConstructors}, in the same order.
+     */
+    private volatile MConstructor<Type>[] constructors;
+
+    /**
+     * The mirrors of {@link #rawConstructors} by annotation type, indexed on first lookup by annotation.
+     */
+    private volatile AnnotationIndex<MConstructor<Type>> constructorsByAnnotation;
+
+    /**
+     * The annotations of the class, resolved on first use. The array is never modified after it is published.
+     */
+    private volatile Annotation[] annotations;
+
+    /**
+     * The plan for all non-static fields of the class and its superclasses, compiled on first use.
+     */
+    private volatile FieldPlan fieldPlan;
+
+    /**
+     * The copier for all non-static fields of the class and its superclasses, created on first use.
+     */
+    private volatile Copier<Type> copier;
+
+    /**
+     * The equivalence for all non-static fields of the class and its superclasses, compiled on first use.
+     */
+    private volatile Equivalence<Type> equivalence;
+
+    /**
+     * The stringifier for all non-static fields of the class and its superclasses, compiled on first use.
+     */
+    private volatile Stringifier<Type> stringifier;
+
+    /**
+     * The record view of the class, created on first use if the class is a record.
+     */
+    private volatile MRecord<Type> record;
+
+    /**
+     * The enum view of the class, created on first use if the class is an enum.
+     */
+    private volatile MEnum<Type> enumeration;
+
+    /**
+     * The array view of the class, created on first use if the class is an array class.
+     */
+    private volatile MArray<Type> array;
+
     /**
      * Creates a new {@link BasicMirrorClass} instance.
      *
@@ -51,16 +190,12 @@ public final class BasicMirrorClass<Type>
 
     @Override
     public @NotNull Stream<MClass<?>> getSuperclasses(@NotNull IncludeSelf includeSelf) {
-        List<MClass<?>> classes = new ArrayList<>(1);
-        Optional<MClass<?>> optionalClass = includeSelf.asBoolean() ? Optional.of(this) : this.getSuperclass();
-
-        do {
-            if (optionalClass.isEmpty()) break;
-            classes.add(optionalClass.get());
-            optionalClass = optionalClass.get().getSuperclass();
-        } while (optionalClass.isPresent() && optionalClass.get().hasSuperclass());
+        return this.supertypes().superclasses(includeSelf.asBoolean());
+    }
 
-        return classes.stream();
+    @Override
+    public @NotNull Stream<MClass<?>> getSupertypes(@NotNull IncludeSelf includeSelf) {
+        return this.supertypes().all(includeSelf.asBoolean());
     }
 
     @Override
@@ -72,29 +207,23 @@ public final class BasicMirrorClass<Type>
     @Override
     @SuppressWarnings("unchecked")
     public @NotNull <ClassType> Optional<MClass<ClassType>> getSuperclassUntil(@NotNull Predicate<MClass<ClassType>> filter, @NotNull MClass.IncludeSelf includeSelf) {
-        Optional<MClass<?>> optionalClass = includeSelf.asBoolean() ? Optional.of(this) : this.getSuperclass();
-
-        do {
-            if (optionalClass.isEmpty()) return Optional.empty();
-            MClass<ClassType> clazz = (MClass<ClassType>) optionalClass.get();
-            if (filter.test(clazz)) return Optional.of(clazz);
-            optionalClass = clazz.getSuperclass();
-        } while (optionalClass.isPresent() && optionalClass.get().hasSuperclass());
-        return Optional.empty();
+        return this.getSuperclasses(includeSelf).map(clazz -> (MClass<ClassType>) clazz).filter(filter).findFirst();
     }
 
     /**
-     * Creates a new {@link BasicMirrorClass} instance. This method should not be used directly. Use
-     * {@link Mirror#mirror(Class)} instead.
+     * Returns the canonical {@link BasicMirrorClass} instance for the given class. The instance is created on first use
+     * and shared by every subsequent call, so any state cached on it is reused. This method should not be used
+     * directly. Use {@link Mirror#mirror(Class)} instead.
      *
      * @param clazz  The class.
      * @param <Type> The type of the class.
-     * @return The new {@link BasicMirrorClass} instance.
+     * @return The canonical {@link BasicMirrorClass} instance.
      */
     @ApiStatus.Internal
-    @Contract(value = "_ -> new", pure = true)
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
     public static <Type> @NotNull BasicMirrorClass<Type> from(@NotNull Class<Type> clazz) {
-        return new BasicMirrorClass<>(clazz);
+        return (BasicMirrorClass<Type>) CACHE.get(clazz);
     }
 
     @Override
@@ -104,12 +233,25 @@ public final class BasicMirrorClass<Type>
 
     @Override
     public boolean isSuperclassOf(@NotNull MClass<?> clazz) {
-        return clazz.isSuperclassOf(this.clazz);
+        return clazz.isSubtypeOf(this);
     }
 
     @Override
     public boolean isSuperclassOf(@NotNull Class<?> clazz) {
-        return clazz.isAssignableFrom(this.clazz);
+        return from(clazz).isSubtypeOf(this);
+    }
+
+    @Override
+    public boolean isSubtypeOf(@NotNull MClass<?> clazz) {
+        return this.isSubtypeOf(clazz.getRawClass());
+    }
+
+    @Override
+    public boolean isSubtypeOf(@NotNull Class<?> clazz) {
+        if (clazz == this.clazz) return true;
+        if (this.clazz.isPrimitive() || this.clazz.isArray() || clazz.isPrimitive() || clazz.isArray())
+            return clazz.isAssignableFrom(this.clazz);
+        return this.supertypes().contains(clazz, from(clazz).supertypes());
     }
 
     @Override
@@ -119,26 +261,88 @@ public final class BasicMirrorClass<Type>
 
     @Override
     public @NotNull Stream<MClass<?>> getInnerClasses(@NotNull MClass.RecurseInnerClasses recurseInnerClasses, @NotNull IncludeSelf includeSelf) {
-        Class<?>[] subClasses = this.clazz.getDeclaredClasses();
+        Stream<MClass<?>> innerClasses = Arrays.stream(this.rawInnerClasses()).map(BasicMirrorClass::from);
+        if (recurseInnerClasses.asBoolean())
+            innerClasses = innerClasses.flatMap(innerClass -> innerClass.getInnerClasses(recurseInnerClasses, IncludeSelf.Yes));
 
-        return new ArrayList<MClass<?>>(subClasses.length + (includeSelf.asBoolean() ? 1 : 0)) {{
-            if (includeSelf.asBoolean()) this.add(BasicMirrorClass.this);
+        return includeSelf.asBoolean() ? Stream.concat(Stream.of(this), innerClasses) : innerClasses;
+    }
 
-            Arrays.stream(subClasses).map(BasicMirrorClass::from).forEach(mClass -> {
-                this.add(mClass);
-                if (recurseInnerClasses.asBoolean()) this.addAll(mClass.getInnerClasses(recurseInnerClasses).toList());
-            });
-        }}.stream();
+    @Override
+    public boolean walk(@NotNull HierarchyVisitor visitor) {
+        return HierarchyWalker.walk(this.clazz, visitor);
+    }
+
+    @Override
+    public @NotNull Stream<MClass<?>> walk() {
+        return HierarchyWalker.stream(this.clazz);
+    }
+
+    /**
+     * Visits the public constructors, the declared fields and the declared methods of the class, in that order, until
+     * the visitor prunes or terminates.
+     *
+     * @param visitor the visitor.
+     * @return the result of the last visit, or {@link HierarchyVisitor.Result#Continue} if every member was visited.
+     */
+    @NotNull HierarchyVisitor.Result visitMembers(@NotNull HierarchyVisitor visitor) {
+        HierarchyVisitor.Result result;
+        for (MConstructor<Type> constructor : this.constructors())
+            if ((result = visitor.visitConstructor(constructor)) != HierarchyVisitor.Result.Continue) return result;
+        for (MField<?> field : this.fields())
+            if ((result = visitor.visitField(field)) != HierarchyVisitor.Result.Continue) return result;
+        for (MMethod<?> method : this.methods())
+            if ((result = visitor.visitMethod(method)) != HierarchyVisitor.Result.Continue) return result;
+        return HierarchyVisitor.Result.Continue;
+    }
+
+    @Override
+    public @NotNull Optional<MRecord<Type>> asRecord() {
+        if (!this.clazz.isRecord()) return Optional.empty();
+
+        MRecord<Type> record = this.record;
+        if (record == null) this.record = record = BasicMirrorRecord.from(this);
+        return Optional.of(record);
+    }
+
+    @Override
+    public @NotNull Optional<MEnum<Type>> asEnum() {
+        if (!this.clazz.isEnum()) return Optional.empty();
+
+        MEnum<Type> enumeration = this.enumeration;
+        if (enumeration == null) this.enumeration = enumeration = BasicMirrorEnum.from(this);
+        return Optional.of(enumeration);
+    }
+
+    @Override
+    public @NotNull Optional<MArray<Type>> asArray() {
+        if (!this.clazz.isArray()) return Optional.empty();
+
+        MArray<Type> array = this.array;
+        if (array == null) this.array = array = BasicMirrorArray.from(this);
+        return Optional.of(array);
     }
 
     @Override
     public @NotNull Stream<MConstructor<Type>> getConstructors() {
-        return this.getRawConstructors().map(BasicMirrorConstructor::from);
+        return Arrays.stream(this.constructors());
+    }
+
+    @Override
+    public @NotNull Stream<MConstructor<Type>> getConstructors(@NotNull Predicate<MConstructor<Type>> filter) {
+        Collection<? extends Class<?>> annotations = AnnotationHint.of(filter);
+        if (annotations != null) return this.constructorsByAnnotation().annotatedWithAny(annotations).filter(filter);
+        return this.getConstructors().filter(filter);
+    }
+
+    @Override
+    public @NotNull Stream<MConstructor<Type>> getConstructorsAnnotatedWith(@NotNull Class<? extends Annotation> annotation) {
+        return this.constructorsByAnnotation().annotatedWith(annotation);
     }
 
     @Override
     public int getConstructorCount() {
-        return this.clazz.getConstructors().length;
+        return this.rawConstructors().length;
     }
 
     @Override
@@ -151,7 +355,7 @@ public final class BasicMirrorClass<Type>
     public @NotNull Stream<MField<?>> getFields(@NotNull MClass.IncludeSuperclasses includeSuperclasses) {
         if (includeSuperclasses.asBoolean()) return this.getSuperclasses(IncludeSelf.Yes).flatMap(MClass::getFields);
 
-        return this.getRawFields().map(BasicMirrorField::from);
+        return Arrays.stream(this.fields());
     }
 
     @Override
@@ -159,9 +363,27 @@ public final class BasicMirrorClass<Type>
     public @NotNull <FieldType> Stream<MField<FieldType>> getFields(@NotNull Predicate<MField<FieldType>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
         if (includeSuperclasses.asBoolean())
             return this.getSuperclasses(IncludeSelf.Yes).flatMap(clazz -> clazz.getFields(filter));
+
+        String name = NameHint.of(filter);
+        if (name != null)
+            return Stream.ofNullable(this.fieldsByName().get(name)).map(field -> (MField<FieldType>) field).filter(filter);
+
+        Collection<? extends Class<?>> annotations = AnnotationHint.of(filter);
+        if (annotations != null)
+            return this.fieldsByAnnotation()
+                    .annotatedWithAny(annotations)
+                    .map(field -> (MField<FieldType>) field)
+                    .filter(filter);
         return this.getFields().map(field -> (MField<FieldType>) field).filter(filter);
     }
 
+    @Override
+    public @NotNull Stream<MField<?>> getFieldsAnnotatedWith(@NotNull Class<? extends Annotation> annotation, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
+        if (includeSuperclasses.asBoolean())
+            return this.getSuperclasses(IncludeSelf.Yes).flatMap(clazz -> clazz.getFieldsAnnotatedWith(annotation));
+        return this.fieldsByAnnotation().annotatedWith(annotation);
+    }
+
     @Override
     public @NotNull <FieldType> Optional<MField<FieldType>> getField(@NotNull Predicate<MField<FieldType>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
         if (includeSuperclasses.asBoolean()) return this.getFields(filter, includeSuperclasses).findFirst();
@@ -178,7 +400,7 @@ public final class BasicMirrorClass<Type>
     public int getFieldCount(@NotNull MClass.IncludeSuperclasses includeSuperclasses) {
         if (includeSuperclasses.asBoolean())
             return this.getSuperclasses(IncludeSelf.Yes).mapToInt(MClass::getFieldCount).sum();
-        return this.clazz.getDeclaredFields().length;
+        return this.rawFields().length;
     }
 
     @Override
@@ -188,10 +410,52 @@ public final class BasicMirrorClass<Type>
 
     @Override
     public @NotNull Stream<Field> getRawFields(@NotNull MClass.IncludeSuperclasses includeSuperclasses) {
-        if (includeSuperclasses.asBoolean()) return this.getSuperclasses().flatMap(MClass::getRawFields);
+        if (includeSuperclasses.asBoolean())
+            return this.getSuperclasses(IncludeSelf.Yes).flatMap(MClass::getRawFields);
         return Arrays.stream(this.clazz.getDeclaredFields());
     }
 
+    @Override
+    public @NotNull Copier<Type> copier() {
+        Copier<Type> copier = this.copier;
+        if (copier == null) this.copier = copier = BasicCopier.from(this);
+        return copier;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <FieldType> @NotNull Copier<Type> copier(@NotNull Predicate<MField<FieldType>> filter) {
+        return BasicCopier.from(this, field -> filter.test((MField<FieldType>) field));
+    }
+
+    @Override
+    public @NotNull Equivalence<Type> equivalence() {
+        Equivalence<Type> equivalence = this.equivalence;
+        if (equivalence == null)
+            this.equivalence = equivalence = BasicEquivalence.from(this.clazz, field -> true, IncludeSuperclasses.Yes);
+        return equivalence;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <FieldType> @NotNull Equivalence<Type> equivalence(@NotNull Predicate<MField<FieldType>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
+        return BasicEquivalence.from(this.clazz, field -> filter.test((MField<FieldType>) field), includeSuperclasses);
+    }
+
+    @Override
+    public @NotNull Stringifier<Type> stringifier() {
+        Stringifier<Type> stringifier = this.stringifier;
+        if (stringifier == null)
+            this.stringifier = stringifier = BasicStringifier.from(this.clazz, field -> true, IncludeSuperclasses.Yes);
+        return stringifier;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <FieldType> @NotNull Stringifier<Type> stringifier(@NotNull Predicate<MField<FieldType>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
+        return BasicStringifier.from(this.clazz, field -> filter.test((MField<FieldType>) field), includeSuperclasses);
+    }
+
     @Override
     public @NotNull Stream<MMethod<?>> getMethods() {
         return this.getMethods(IncludeSuperclasses.No);
@@ -200,7 +464,7 @@ public final class BasicMirrorClass<Type>
     @Override
     public @NotNull Stream<MMethod<?>> getMethods(@NotNull MClass.IncludeSuperclasses includeSuperclasses) {
         if (includeSuperclasses.asBoolean()) return this.getSuperclasses(IncludeSelf.Yes).flatMap(MClass::getMethods);
-        return this.getRawMethods().map(BasicMirrorMethod::from);
+        return Arrays.stream(this.methods());
     }
 
     @Override
@@ -213,9 +477,59 @@ public final class BasicMirrorClass<Type>
     public @NotNull <MethodType> Stream<MMethod<MethodType>> getMethods(@NotNull Predicate<MMethod<MethodType>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
         if (includeSuperclasses.asBoolean())
             return this.getSuperclasses(IncludeSelf.Yes).flatMap(clazz -> clazz.getMethods(filter));
+
+        String name = NameHint.of(filter);
+        List<Class<?>> parameterTypes = ParameterHint.of(filter);
+        if (name != null && parameterTypes != null)
+            return this.methodsBySignature()
+                    .getOrDefault(Signature.from(name, parameterTypes.toArray(Class<?>[]::new)), List.of())
+                    .stream()
+                    .map(method -> (MMethod<MethodType>) method)
+                    .filter(filter);
+        if (name != null)
+            return this.methodsByName()
+                    .getOrDefault(name, List.of())
+                    .stream()
+                    .map(method -> (MMethod<MethodType>) method)
+                    .filter(filter);
+
+        Collection<? extends Class<?>> annotations = AnnotationHint.of(filter);
+        if (annotations != null)
+            return this.methodsByAnnotation()
+                    .annotatedWithAny(annotations)
+                    .map(method -> (MMethod<MethodType>) method)
+                    .filter(filter);
         return this.getMethods().map(method -> (MMethod<MethodType>) method).filter(filter);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <MethodType> @NotNull Optional<MMethod<MethodType>> getMethod(@NotNull String name, @NotNull Class<?>... parameterTypes) {
+        return this.methodsBySignature()
+                .getOrDefault(Signature.from(name, parameterTypes), List.of())
+                .stream()
+                .findFirst()
+                .map(method -> (MMethod<MethodType>) method);
+    }
+
+    @Override
+    public @NotNull Stream<MMethod<?>> getEffectiveMethods() {
+        return this.methodTable().methods().stream();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <MethodType> @NotNull Optional<MMethod<MethodType>> getEffectiveMethod(@NotNull String name, @NotNull Class<?>... parameterTypes) {
+        return Optional.ofNullable((MMethod<MethodType>) this.methodTable().get(Signature.from(name, parameterTypes)));
+    }
+
+    @Override
+    public @NotNull Stream<MMethod<?>> getMethodsAnnotatedWith(@NotNull Class<? extends Annotation> annotation, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
+        if (includeSuperclasses.asBoolean())
+            return this.getSuperclasses(IncludeSelf.Yes).flatMap(clazz -> clazz.getMethodsAnnotatedWith(annotation));
+        return this.methodsByAnnotation().annotatedWith(annotation);
+    }
+
     @Override
     public <MethodType> @NotNull Optional<MMethod<MethodType>> getMethod(@NotNull Predicate<MMethod<MethodType>> filter) {
         return this.getMethod(filter, IncludeSuperclasses.No);
@@ -247,7 +561,7 @@ public final class BasicMirrorClass<Type>
     public int getMethodCount(@NotNull MClass.IncludeSuperclasses includeSuperclasses) {
         if (includeSuperclasses.asBoolean())
             return this.getSuperclasses(IncludeSelf.Yes).mapToInt(MClass::getMethodCount).sum();
-        return this.clazz.getDeclaredMethods().length;
+        return this.rawMethods().length;
     }
 
     @Override
@@ -257,7 +571,8 @@ public final class BasicMirrorClass<Type>
 
     @Override
     public @NotNull Stream<Method> getRawMethods(@NotNull MClass.IncludeSuperclasses includeSuperclasses) {
-        if (includeSuperclasses.asBoolean()) return this.getSuperclasses().flatMap(MClass::getRawMethods);
+        if (includeSuperclasses.asBoolean())
+            return this.getSuperclasses(IncludeSelf.Yes).flatMap(MClass::getRawMethods);
         return Arrays.stream(this.clazz.getDeclaredMethods());
     }
 
@@ -278,11 +593,175 @@ public final class BasicMirrorClass<Type>
 
     @Override
     public @NotNull Stream<Annotation> getAnnotations() {
-        return Arrays.stream(this.clazz.getAnnotations());
+        return Arrays.stream(this.annotations());
     }
 
     @Override
     public int getAnnotationCount() {
-        return this.clazz.getAnnotations().length;
+        return this.annotations().length;
+    }
+
+    // The member tables below are resolved lazily and published through volatile fields. Two threads racing on the
+    // first access may both resolve a table; that is harmless since the tables are immutable and equivalent, and
+    // it keeps the read path free of locks.
+
+    private @NotNull Supertypes supertypes() {
+        Supertypes supertypes = this.supertypes;
+        if (supertypes == null) {
+            Class<? super Type> superclass = this.clazz.getSuperclass();
+            Class<?>[] interfaces = this.clazz.getInterfaces();
+            Supertypes[] interfaceSupertypes = new Supertypes[interfaces.length];
+            for (int i = 0; i < interfaces.length; i++)
+                interfaceSupertypes[i] = from(interfaces[i]).supertypes();
+
+            this.supertypes = supertypes = Supertypes.from(this, superclass == null ? null : from(superclass).supertypes(), interfaceSupertypes);
+        }
+        return supertypes;
+    }
+
+    @NotNull Class<?>[] rawInnerClasses() {
+        Class<?>[] rawInnerClasses = this.rawInnerClasses;
+        if (rawInnerClasses == null) this.rawInnerClasses = rawInnerClasses = this.clazz.getDeclaredClasses();
+        return rawInnerClasses;
+    }
+
+    private @NotNull Field[] rawFields() {
+        Field[] rawFields = this.rawFields;
+        if (rawFields == null) this.rawFields = rawFields = this.clazz.getDeclaredFields();
+        return rawFields;
+    }
+
+    private @NotNull MField<?>[] fields() {
+        MField<?>[] fields = this.fields;
+        if (fields == null)
+            this.fields = fields = Arrays.stream(this.rawFields()).map(BasicMirrorField::from).toArray(MField<?>[]::new);
+        return fields;
+    }
+
+    private @NotNull Map<String, MField<?>> fieldsByName() {
+        Map<String, MField<?>> fieldsByName = this.fieldsByName;
+        if (fieldsByName == null) {
+            MField<?>[] fields = this.fields();
+            fieldsByName = new HashMap<>(fields.length * 2);
+            for (MField<?> field : fields)
+                fieldsByName.put(field.getName(), field);
+            this.fieldsByName = fieldsByName;
+        }
+        return fieldsByName;
+    }
+
+    private @NotNull AnnotationIndex<MField<?>> fieldsByAnnotation() {
+        AnnotationIndex<MField<?>> fieldsByAnnotation = this.fieldsByAnnotation;
+        if (fieldsByAnnotation == null)
+            this.fieldsByAnnotation = fieldsByAnnotation = AnnotationIndex.from(this.fields());
+        return fieldsByAnnotation;
+    }
+
+    private @NotNull Method[] rawMethods() {
+        Method[] rawMethods = this.rawMethods;
+        if (rawMethods == null) this.rawMethods = rawMethods = this.clazz.getDeclaredMethods();
+        return rawMethods;
+    }
+
+    private @NotNull MMethod<?>[] methods() {
+        MMethod<?>[] methods = this.methods;
+        if (methods == null)
+            this.methods = methods = Arrays.stream(this.rawMethods())
+                    .map(BasicMirrorMethod::from)
+                    .toArray(MMethod<?>[]::new);
+        return methods;
+    }
+
+    private @NotNull Map<String, List<MMethod<?>>> methodsByName() {
+        Map<String, List<MMethod<?>>> methodsByName = this.methodsByName;
+        if (methodsByName == null) {
+            methodsByName = new HashMap<>();
+            for (MMethod<?> method : this.methods())
+                methodsByName.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(method);
+            methodsByName.replaceAll((name, methods) -> List.copyOf(methods));
+            this.methodsByName = methodsByName;
+        }
+        return methodsByName;
+    }
+
+    private @NotNull AnnotationIndex<MMethod<?>> methodsByAnnotation() {
+        AnnotationIndex<MMethod<?>> methodsByAnnotation = this.methodsByAnnotation;
+        if (methodsByAnnotation == null)
+            this.methodsByAnnotation = methodsByAnnotation = AnnotationIndex.from(this.methods());
+        return methodsByAnnotation;
+    }
+
+    private @NotNull Map<Signature, List<MMethod<?>>> methodsBySignature() {
+        Map<Signature, List<MMethod<?>>> methodsBySignature = this.methodsBySignature;
+        if (methodsBySignature == null) {
+            Method[] rawMethods = this.rawMethods();
+            MMethod<?>[] methods = this.methods();
+            methodsBySignature = new HashMap<>(methods.length * 2);
+            for (boolean bridges : new boolean[]{false, true})
+                for (int i = 0; i < methods.length; i++)
+                    if (rawMethods[i].isBridge() == bridges)
+                        methodsBySignature.computeIfAbsent(Signature.from(rawMethods[i].getName(), rawMethods[i].getParameterTypes()), signature -> new ArrayList<>(1))
+                                .add(methods[i]);
+            methodsBySignature.replaceAll((signature, signatureMethods) -> List.copyOf(signatureMethods));
+            this.methodsBySignature = methodsBySignature;
+        }
+        return methodsBySignature;
+    }
+
+    private @NotNull MethodTable methodTable() {
+        MethodTable methodTable = this.methodTable;
+        if (methodTable == null) {
+            Class<? super Type> superclass = this.clazz.getSuperclass();
+            Class<?>[] interfaces = this.clazz.getInterfaces();
+            MethodTable[] interfaceTables = new MethodTable[interfaces.length];
+            for (int i = 0; i < interfaces.length; i++)
+                interfaceTables[i] = from(interfaces[i]).methodTable();
+
+            this.methodTable = methodTable = MethodTable.from(this.rawMethods(), this.methods(), superclass == null ? null : from(superclass).methodTable(), interfaceTables);
+        }
+        return methodTable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull Constructor<Type>[] rawConstructors() {
+        Constructor<Type>[] rawConstructors = this.rawConstructors;
+        if (rawConstructors == null)
+            this.rawConstructors = rawConstructors = (Constructor<Type>[]) this.clazz.getConstructors();
+        return rawConstructors;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull MConstructor<Type>[] constructors() {
+        MConstructor<Type>[] constructors = this.constructors;
+        if (constructors == null)
+            this.constructors = constructors = Arrays.stream(this.rawConstructors())
+                    .map(BasicMirrorConstructor::from)
+                    .toArray(MConstructor[]::new);
+        return constructors;
+    }
+
+    private @NotNull AnnotationIndex<MConstructor<Type>> constructorsByAnnotation() {
+        AnnotationIndex<MConstructor<Type>> constructorsByAnnotation = this.constructorsByAnnotation;
+        if (constructorsByAnnotation == null)
+            this.constructorsByAnnotation = constructorsByAnnotation = AnnotationIndex.from(this.constructors());
+        return constructorsByAnnotation;
+    }
+
+    /**
+     * Returns the plan for all non-static fields of the class and its superclasses, compiling it on first use.
+     *
+     * @return the field plan.
+     * @throws InaccessibleException if a field is inaccessible.
+     */
+    @NotNull FieldPlan fieldPlan() {
+        FieldPlan fieldPlan = this.fieldPlan;
+        if (fieldPlan == null) this.fieldPlan = fieldPlan = FieldPlan.from(this.clazz, field -> true);
+        return fieldPlan;
+    }
+
+    private @NotNull Annotation[] annotations() {
+        Annotation[] annotations = this.annotations;
+        if (annotations == null) this.annotations = annotations = this.clazz.getAnnotations();
+        return annotations;
     }
 }
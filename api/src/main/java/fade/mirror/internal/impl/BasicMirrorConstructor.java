@@ -4,9 +4,7 @@ import fade.mirror.MClass;
 import fade.mirror.MConstructor;
 import fade.mirror.MParameter;
 import fade.mirror.Mirror;
-import fade.mirror.exception.InaccessibleException;
-import fade.mirror.exception.InvocationException;
-import fade.mirror.exception.MismatchedArgumentsException;
+import fade.mirror.internal.impl.filter.FilterTarget;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -14,7 +12,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
@@ -25,12 +22,28 @@ import java.util.stream.Stream;
  * @author fade
  */
 public final class BasicMirrorConstructor<Type>
-        implements MConstructor<Type> {
+        implements MConstructor<Type>, FilterTarget {
 
     private final Constructor<Type> constructor;
 
+    /**
+     * Dispatches the invocations of the constructor.
+     */
+    private final Invoker invoker;
+
+    /**
+     * The types of the annotations, resolved on first use. The array is never modified after it is published.
+     */
+    private volatile Class<? extends Annotation>[] annotationTypes;
+
+    /**
+     * The types of the parameters, resolved on first use. The array is never modified after it is published.
+     */
+    private volatile Class<?>[] parameterTypes;
+
     private BasicMirrorConstructor(@NotNull Constructor<Type> constructor) {
         this.constructor = constructor;
+        this.invoker = new Invoker(constructor);
     }
 
     /**
@@ -48,29 +61,62 @@ public final class BasicMirrorConstructor<Type>
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public @NotNull Type invokeWithInstance(@Nullable Object instance, @Nullable Object... arguments) {
-        this.requireAccessible(); // todo: is the check below necessary?
+        return (Type) this.invoker.invoke(instance, arguments);
+    }
 
-        if (!this.isAccessible())
-            throw InaccessibleException.from("Could not invoke constructor '%s' from '%s'; it is inaccessible", this.getPrettyConstructorRepresentation(), this.getDeclaringClass()
-                    .getName());
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type invoke0(@Nullable Object instance) {
+        return (Type) this.invoker.invoke0(instance);
+    }
 
-        if (!this.isInvokableWith(arguments))
-            throw MismatchedArgumentsException.from("Mismatched argument types for constructor '%s' from '%s'; provided=%s", this.getPrettyConstructorRepresentation(), this.getDeclaringClass()
-                    .getName(), Arrays.toString(arguments));
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type invoke1(@Nullable Object instance, @Nullable Object argument0) {
+        return (Type) this.invoker.invoke1(instance, argument0);
+    }
 
-        try {
-            return this.constructor.newInstance(arguments);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
-            throw InvocationException.from(exception, "Could not invoke constructor '%s' from '%s'", this.getPrettyConstructorRepresentation(), this.getDeclaringClass()
-                    .getName());
-        }
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type invoke2(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1) {
+        return (Type) this.invoker.invoke2(instance, argument0, argument1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type invoke3(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2) {
+        return (Type) this.invoker.invoke3(instance, argument0, argument1, argument2);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type invoke4(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3) {
+        return (Type) this.invoker.invoke4(instance, argument0, argument1, argument2, argument3);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type invoke5(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3, @Nullable Object argument4) {
+        return (Type) this.invoker.invoke5(instance, argument0, argument1, argument2, argument3, argument4);
     }
 
-    private @NotNull String getPrettyConstructorRepresentation() {
-        StringBuilder builder = new StringBuilder().append(this.constructor.getName()).append('(');
-        for (Class<?> type : this.constructor.getParameterTypes()) builder.append(type.getSimpleName()).append(", ");
-        return builder.append(")").toString();
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type invoke6(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3, @Nullable Object argument4, @Nullable Object argument5) {
+        return (Type) this.invoker.invoke6(instance, argument0, argument1, argument2, argument3, argument4, argument5);
+    }
+
+    @Override
+    public boolean isInvokableWith(@Nullable Object... arguments) {
+        return this.invoker.isInvokableWith(arguments);
+    }
+
+    @Override
+    public <F> @NotNull F asFactory(@NotNull Class<F> type) {
+        this.invoker.checkAccess(null);
+        return Lambdas.create(type, this.constructor, null);
     }
 
     @Override
@@ -115,6 +161,12 @@ public final class BasicMirrorConstructor<Type>
         return this;
     }
 
+    @Override
+    public @NotNull MConstructor<Type> refreshAccessibility() {
+        this.invoker.refreshAccessibility();
+        return this;
+    }
+
     @Override
     public boolean isAccessible(@Nullable Object instance) {
         if (instance != null)
@@ -132,4 +184,18 @@ public final class BasicMirrorConstructor<Type>
     public int getAnnotationCount() {
         return this.constructor.getAnnotations().length;
     }
+
+    @Override
+    public @NotNull Class<? extends Annotation>[] annotationTypes() {
+        Class<? extends Annotation>[] annotationTypes = this.annotationTypes;
+        if (annotationTypes == null) this.annotationTypes = annotationTypes = FilterTarget.typesOf(this.constructor.getAnnotations());
+        return annotationTypes;
+    }
+
+    @Override
+    public @NotNull Class<?>[] parameterTypes() {
+        Class<?>[] parameterTypes = this.parameterTypes;
+        if (parameterTypes == null) this.parameterTypes = parameterTypes = this.constructor.getParameterTypes();
+        return parameterTypes;
+    }
 }
@@ -0,0 +1,140 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.MClass;
+import fade.mirror.MEnum;
+import fade.mirror.exception.MismatchedArgumentsException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Basic implementation of {@link MEnum}.
+ *
+ * @param <Type> the type of the enum.
+ * @author fade
+ */
+public final class BasicMirrorEnum<Type>
+        implements MEnum<Type> {
+
+    private final MClass<Type> clazz;
+
+    /**
+     * The constants, indexed by ordinal. The array is never modified.
+     */
+    private final Type[] constants;
+
+    private final List<Type> constantList;
+
+    private final Map<String, Type> byName;
+
+    /**
+     * The constants by their lower case name, built on first use. The map is never modified after it is published.
+     */
+    private volatile Map<String, Type> byLowerCaseName;
+
+    private BasicMirrorEnum(@NotNull MClass<Type> clazz) {
+        this.clazz = clazz;
+        this.constants = clazz.getRawClass().getEnumConstants();
+        this.constantList = Collections.unmodifiableList(Arrays.asList(this.constants));
+        this.byName = new HashMap<>(this.constants.length * 4 / 3 + 1);
+        for (Type constant : this.constants) this.byName.put(((Enum<?>) constant).name(), constant);
+    }
+
+    /**
+     * Creates a new {@link BasicMirrorEnum} instance. This method should not be used directly. Instead, use
+     * {@link MClass#asEnum()}.
+     *
+     * @param clazz  the enum class.
+     * @param <Type> the type of the enum.
+     * @return the created mirror.
+     */
+    @ApiStatus.Internal
+    @Contract(value = "_ -> new", pure = true)
+    public static <Type> @NotNull BasicMirrorEnum<Type> from(@NotNull MClass<Type> clazz) {
+        return new BasicMirrorEnum<>(clazz);
+    }
+
+    @Override
+    public @NotNull MClass<Type> getDeclaringClass() {
+        return this.clazz;
+    }
+
+    @Override
+    public @NotNull List<Type> getConstants() {
+        return this.constantList;
+    }
+
+    @Override
+    public int getConstantCount() {
+        return this.constants.length;
+    }
+
+    @Override
+    public @NotNull Type getConstant(int ordinal) {
+        if (ordinal < 0 || ordinal >= this.constants.length)
+            throw MismatchedArgumentsException.from("Enum '%s' has no constant with ordinal %d", this.clazz.getName(), ordinal);
+        return this.constants[ordinal];
+    }
+
+    @Override
+    public @Nullable Type getConstantOrNull(@NotNull String name) {
+        return this.byName.get(name);
+    }
+
+    @Override
+    public @Nullable Type getConstantIgnoreCaseOrNull(@NotNull String name) {
+        Type constant = this.byName.get(name);
+        if (constant != null) return constant;
+
+        Map<String, Type> byLowerCaseName = this.byLowerCaseName;
+        if (byLowerCaseName == null) {
+            byLowerCaseName = new HashMap<>(this.constants.length * 4 / 3 + 1);
+            for (Type value : this.constants)
+                byLowerCaseName.putIfAbsent(((Enum<?>) value).name().toLowerCase(Locale.ROOT), value);
+            this.byLowerCaseName = byLowerCaseName;
+        }
+        return byLowerCaseName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <Value> @NotNull Map<Type, Value> newEnumMap() {
+        return new EnumMap(this.clazz.getRawClass());
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public @NotNull Set<Type> newEnumSet() {
+        return EnumSet.noneOf((Class) this.clazz.getRawClass());
+    }
+
+    @Override
+    public long toBitMask(@NotNull Iterable<? extends Type> constants) {
+        this.checkBitMask();
+
+        long bitMask = 0;
+        for (Type constant : constants) bitMask |= 1L << ((Enum<?>) constant).ordinal();
+        return bitMask;
+    }
+
+    @Override
+    public @NotNull Set<Type> fromBitMask(long bitMask) {
+        this.checkBitMask();
+
+        Set<Type> constants = this.newEnumSet();
+        for (long bits = bitMask; bits != 0; bits &= bits - 1) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            if (ordinal >= this.constants.length) break;
+            constants.add(this.constants[ordinal]);
+        }
+        return constants;
+    }
+
+    private void checkBitMask() {
+        if (this.constants.length > Long.SIZE)
+            throw MismatchedArgumentsException.from("Enum '%s' has more than %d constants", this.clazz.getName(), Long.SIZE);
+    }
+}
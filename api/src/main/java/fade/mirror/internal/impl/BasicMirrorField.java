@@ -3,15 +3,27 @@ package fade.mirror.internal.impl;
 import fade.mirror.MClass;
 import fade.mirror.MField;
 import fade.mirror.Mirror;
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.internal.impl.filter.FilterTarget;
+import fade.mirror.internal.impl.generate.Accessors;
+import fade.mirror.internal.impl.generate.Inflation;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
 import java.util.stream.Stream;
 
 /**
@@ -21,13 +33,51 @@ import java.util.stream.Stream;
  * @author fade
  */
 public final class BasicMirrorField<Type>
-        implements MField<Type> {
+        implements MField<Type>, FilterTarget {
 
     private final Field field;
 
+    /**
+     * The accessibility of the field, resolved on the first access.
+     */
+    private final Access access;
+
+    /**
+     * The var handle based access modes of the field.
+     */
+    private final FieldHandles handles;
+
+    /**
+     * Whether the field is static and final, so that its value is served from its constant handle once that has been
+     * requested. Reads never fold the value themselves, since a read during the initialization of the declaring class
+     * would fold the value the field had before it was assigned.
+     */
+    private final boolean isConstant;
+
+    /**
+     * The types of the annotations, resolved on first use. The array is never modified after it is published.
+     */
+    private volatile Class<? extends Annotation>[] annotationTypes;
+
+    /**
+     * The generated getter, which replaces {@link Field#get(Object)} once the field has been read often enough.
+     */
+    private final Inflation<Function<Object, Object>> getter;
+
+    /**
+     * The generated setter, which replaces {@link Field#set(Object, Object)} once the field has been written often
+     * enough.
+     */
+    private final Inflation<BiConsumer<Object, Object>> setter;
+
     @ApiStatus.Internal
     private BasicMirrorField(@NotNull Field field) {
         this.field = field;
+        this.access = new Access(field);
+        this.handles = new FieldHandles(field, this.access);
+        this.isConstant = Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers());
+        this.getter = new Inflation<>(() -> Accessors.getter(field));
+        this.setter = new Inflation<>(() -> Accessors.setter(field));
     }
 
     /**
@@ -63,17 +113,20 @@ public final class BasicMirrorField<Type>
     @Override
     @SuppressWarnings("unchecked")
     public @NotNull Optional<Type> getValue(@Nullable Object instance) {
-        this.requireAccessible(instance);
-        try {
-            return Optional.ofNullable((Type) this.field.get(instance));
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        this.checkAccess(instance);
+        return Optional.ofNullable((Type) this.get(instance));
     }
 
     @Override
     public @NotNull MField<Type> setValue(@Nullable Object instance, @Nullable Type value) {
-        this.requireAccessible(instance);
+        this.checkAccess(instance);
+
+        BiConsumer<Object, Object> setter = this.setter.get();
+        if (setter != null && this.isReceiver(instance) && this.isExactValue(value)) {
+            setter.accept(instance, value);
+            return this;
+        }
+
         try {
             this.field.set(instance, value);
         } catch (IllegalAccessException e) {
@@ -84,14 +137,432 @@ public final class BasicMirrorField<Type>
 
     @Override
     public boolean hasValue(@Nullable Object object) {
-        this.requireAccessible();
+        this.checkAccess(object);
+        return this.get(object) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type getValueOrNull(@Nullable Object instance) {
+        if (this.isConstant && this.handles.isFolded()) return (Type) this.handles.constantValue();
+
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (Type) this.handles.getter(Object.class, instance).invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(@Nullable Object instance) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (boolean) this.handles.getter(boolean.class, instance).invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public byte getByte(@Nullable Object instance) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (byte) this.handles.getter(byte.class, instance).invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public char getChar(@Nullable Object instance) {
+        Object receiver = this.handles.receiver(instance);
         try {
-            return this.field.get(object) != null;
+            return (char) this.handles.getter(char.class, instance).invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public short getShort(@Nullable Object instance) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (short) this.handles.getter(short.class, instance).invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public int getInt(@Nullable Object instance) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (int) this.handles.getter(int.class, instance).invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public long getLong(@Nullable Object instance) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (long) this.handles.getter(long.class, instance).invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public float getFloat(@Nullable Object instance) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (float) this.handles.getter(float.class, instance).invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public double getDouble(@Nullable Object instance) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (double) this.handles.getter(double.class, instance).invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public @NotNull MField<Type> setBoolean(@Nullable Object instance, boolean value) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            this.handles.setter(boolean.class, instance).invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setByte(@Nullable Object instance, byte value) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            this.handles.setter(byte.class, instance).invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setChar(@Nullable Object instance, char value) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            this.handles.setter(char.class, instance).invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setShort(@Nullable Object instance, short value) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            this.handles.setter(short.class, instance).invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setInt(@Nullable Object instance, int value) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            this.handles.setter(int.class, instance).invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setLong(@Nullable Object instance, long value) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            this.handles.setter(long.class, instance).invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setFloat(@Nullable Object instance, float value) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            this.handles.setter(float.class, instance).invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setDouble(@Nullable Object instance, double value) {
+        Object receiver = this.handles.receiver(instance);
+        try {
+            this.handles.setter(double.class, instance).invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type getPlain(@Nullable Object instance) {
+        return (Type) this.handles.get(VarHandle.AccessMode.GET, instance);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type getOpaque(@Nullable Object instance) {
+        return (Type) this.handles.get(VarHandle.AccessMode.GET_OPAQUE, instance);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type getAcquire(@Nullable Object instance) {
+        return (Type) this.handles.get(VarHandle.AccessMode.GET_ACQUIRE, instance);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type getVolatile(@Nullable Object instance) {
+        return (Type) this.handles.get(VarHandle.AccessMode.GET_VOLATILE, instance);
+    }
+
+    @Override
+    public @NotNull MField<Type> setPlain(@Nullable Object instance, @Nullable Type value) {
+        this.handles.set(VarHandle.AccessMode.SET, instance, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setOpaque(@Nullable Object instance, @Nullable Type value) {
+        this.handles.set(VarHandle.AccessMode.SET_OPAQUE, instance, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setRelease(@Nullable Object instance, @Nullable Type value) {
+        this.handles.set(VarHandle.AccessMode.SET_RELEASE, instance, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull MField<Type> setVolatile(@Nullable Object instance, @Nullable Type value) {
+        this.handles.set(VarHandle.AccessMode.SET_VOLATILE, instance, value);
+        return this;
+    }
+
+    @Override
+    public boolean compareAndSet(@Nullable Object instance, @Nullable Type expected, @Nullable Type value) {
+        return this.handles.compareAndSet(VarHandle.AccessMode.COMPARE_AND_SET, instance, expected, value);
+    }
+
+    @Override
+    public boolean weakCompareAndSet(@Nullable Object instance, @Nullable Type expected, @Nullable Type value) {
+        return this.handles.compareAndSet(VarHandle.AccessMode.WEAK_COMPARE_AND_SET, instance, expected, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type getAndSet(@Nullable Object instance, @Nullable Type value) {
+        return (Type) this.handles.getAndUpdate(VarHandle.AccessMode.GET_AND_SET, instance, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type getAndAdd(@Nullable Object instance, @NotNull Type delta) {
+        return (Type) this.handles.getAndUpdate(VarHandle.AccessMode.GET_AND_ADD, instance, delta);
+    }
+
+    @Override
+    public @Nullable Type accumulateAndGet(@Nullable Object instance, @Nullable Type value, @NotNull BinaryOperator<Type> accumulator) {
+        Type previous;
+        Type next;
+        do {
+            previous = this.getVolatile(instance);
+            next = accumulator.apply(previous, value);
+        } while (!this.weakCompareAndSet(instance, previous, next));
+        return next;
+    }
+
+    @Override
+    public boolean compareAndSetInt(@Nullable Object instance, int expected, int value) {
+        this.handles.checkWritable();
+        MethodHandle handle = this.handles.exactAccessMode(VarHandle.AccessMode.COMPARE_AND_SET, int.class);
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (boolean) handle.invokeExact(receiver, expected, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public int getAndSetInt(@Nullable Object instance, int value) {
+        return this.getAndUpdateInt(VarHandle.AccessMode.GET_AND_SET, instance, value);
+    }
+
+    @Override
+    public int getAndAddInt(@Nullable Object instance, int delta) {
+        return this.getAndUpdateInt(VarHandle.AccessMode.GET_AND_ADD, instance, delta);
+    }
+
+    @Override
+    public int accumulateAndGetInt(@Nullable Object instance, int value, @NotNull IntBinaryOperator accumulator) {
+        this.handles.checkWritable();
+        MethodHandle get = this.handles.exactAccessMode(VarHandle.AccessMode.GET_VOLATILE, int.class);
+        MethodHandle weakCompareAndSet = this.handles.exactAccessMode(VarHandle.AccessMode.WEAK_COMPARE_AND_SET, int.class);
+        Object receiver = this.handles.receiver(instance);
+        try {
+            int previous;
+            int next;
+            do {
+                previous = (int) get.invokeExact(receiver);
+                next = accumulator.applyAsInt(previous, value);
+            } while (!(boolean) weakCompareAndSet.invokeExact(receiver, previous, next));
+            return next;
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    private int getAndUpdateInt(@NotNull VarHandle.AccessMode mode, @Nullable Object instance, int value) {
+        this.handles.checkWritable();
+        MethodHandle handle = this.handles.exactAccessMode(mode, int.class);
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (int) handle.invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetLong(@Nullable Object instance, long expected, long value) {
+        this.handles.checkWritable();
+        MethodHandle handle = this.handles.exactAccessMode(VarHandle.AccessMode.COMPARE_AND_SET, long.class);
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (boolean) handle.invokeExact(receiver, expected, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    @Override
+    public long getAndSetLong(@Nullable Object instance, long value) {
+        return this.getAndUpdateLong(VarHandle.AccessMode.GET_AND_SET, instance, value);
+    }
+
+    @Override
+    public long getAndAddLong(@Nullable Object instance, long delta) {
+        return this.getAndUpdateLong(VarHandle.AccessMode.GET_AND_ADD, instance, delta);
+    }
+
+    @Override
+    public long accumulateAndGetLong(@Nullable Object instance, long value, @NotNull LongBinaryOperator accumulator) {
+        this.handles.checkWritable();
+        MethodHandle get = this.handles.exactAccessMode(VarHandle.AccessMode.GET_VOLATILE, long.class);
+        MethodHandle weakCompareAndSet = this.handles.exactAccessMode(VarHandle.AccessMode.WEAK_COMPARE_AND_SET, long.class);
+        Object receiver = this.handles.receiver(instance);
+        try {
+            long previous;
+            long next;
+            do {
+                previous = (long) get.invokeExact(receiver);
+                next = accumulator.applyAsLong(previous, value);
+            } while (!(boolean) weakCompareAndSet.invokeExact(receiver, previous, next));
+            return next;
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    private long getAndUpdateLong(@NotNull VarHandle.AccessMode mode, @Nullable Object instance, long value) {
+        this.handles.checkWritable();
+        MethodHandle handle = this.handles.exactAccessMode(mode, long.class);
+        Object receiver = this.handles.receiver(instance);
+        try {
+            return (long) handle.invokeExact(receiver, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    private @Nullable Object get(@Nullable Object instance) {
+        if (this.isConstant && this.handles.isFolded()) return this.handles.constantValue();
+
+        Function<Object, Object> getter = this.getter.get();
+        if (getter != null && this.isReceiver(instance)) return getter.apply(instance);
+
+        try {
+            return this.field.get(instance);
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private void checkAccess(@Nullable Object instance) {
+        if (!this.access.isGranted(instance))
+            throw InaccessibleException.from("Could not access field '%s' from '%s'; it is inaccessible", this.getName(), this.field.getDeclaringClass()
+                    .getName());
+    }
+
+    /**
+     * Checks if the given instance can be passed to a generated accessor. Anything else is left to reflection, which
+     * reports the error.
+     */
+    private boolean isReceiver(@Nullable Object instance) {
+        return this.isStatic() || this.field.getDeclaringClass().isInstance(instance);
+    }
+
+    /**
+     * Checks if the given value can be passed to a generated setter, which does not perform widening conversions.
+     */
+    private boolean isExactValue(@Nullable Object value) {
+        Class<?> type = this.field.getType();
+        if (type.isPrimitive()) return value != null && value.getClass() == Primitives.wrap(type);
+        return value == null || type.isInstance(value);
+    }
+
+    @Override
+    public @NotNull MethodHandle getConstantHandle() {
+        return this.handles.constant();
+    }
+
+    @Override
+    public @NotNull MField<Type> invalidateConstant() {
+        this.handles.invalidate();
+        return this;
+    }
+
+    /**
+     * Returns the handles of the field, for use by other mirrors of this package.
+     *
+     * @return the handles.
+     */
+    @NotNull FieldHandles handles() {
+        return this.handles;
+    }
+
     @Override
     public int getModifiers() {
         return this.field.getModifiers();
@@ -105,6 +576,13 @@ public final class BasicMirrorField<Type>
         return this;
     }
 
+    @Override
+    public @NotNull MField<Type> refreshAccessibility() {
+        this.access.reset();
+        this.handles.reset();
+        return this;
+    }
+
     @Override
     public boolean isAccessible(@Nullable Object instance) {
         return this.field.canAccess(instance);
@@ -120,4 +598,16 @@ public final class BasicMirrorField<Type>
         return this.field.getAnnotations().length;
     }
 
+    @Override
+    public @NotNull Class<? extends Annotation>[] annotationTypes() {
+        Class<? extends Annotation>[] annotationTypes = this.annotationTypes;
+        if (annotationTypes == null) this.annotationTypes = annotationTypes = FilterTarget.typesOf(this.field.getAnnotations());
+        return annotationTypes;
+    }
+
+    @Override
+    public @NotNull Class<?>[] parameterTypes() {
+        return FilterTarget.NO_TYPES;
+    }
+
 }
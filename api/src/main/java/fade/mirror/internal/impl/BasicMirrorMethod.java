@@ -4,16 +4,14 @@ import fade.mirror.MClass;
 import fade.mirror.MMethod;
 import fade.mirror.MParameter;
 import fade.mirror.Mirror;
-import fade.mirror.exception.InaccessibleException;
-import fade.mirror.exception.InvocationException;
 import fade.mirror.exception.MismatchedArgumentsException;
+import fade.mirror.internal.impl.filter.FilterTarget;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.stream.Stream;
@@ -25,38 +23,98 @@ import java.util.stream.Stream;
  * @author fade
  */
 public final class BasicMirrorMethod<Type>
-        implements MMethod<Type> {
+        implements MMethod<Type>, FilterTarget {
 
     private final Method method;
 
+    /**
+     * Dispatches the invocations of the method.
+     */
+    private final Invoker invoker;
+
+    /**
+     * The types of the annotations, resolved on first use. The array is never modified after it is published.
+     */
+    private volatile Class<? extends Annotation>[] annotationTypes;
+
+    /**
+     * The types of the parameters, resolved on first use. The array is never modified after it is published.
+     */
+    private volatile Class<?>[] parameterTypes;
+
     @ApiStatus.Internal
     private BasicMirrorMethod(@NotNull Method method) {
         this.method = method;
+        this.invoker = new Invoker(method);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable Type invokeWithInstance(@Nullable Object instance, @Nullable Object... arguments) {
-        this.requireAccessible(instance); // todo: is the check below necessary?
+        return (Type) this.invoker.invoke(instance, arguments);
+    }
 
-        if (!this.isAccessible(instance))
-            throw InaccessibleException.from("Could not invoke method '%s' from '%s'; it is inaccessible", this.getName(), this.getDeclaringClass()
-                    .getName());
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type invoke0(@Nullable Object instance) {
+        return (Type) this.invoker.invoke0(instance);
+    }
 
-        if (!this.isInvokableWith(arguments))
-            throw MismatchedArgumentsException.from("Mismatched argument types for method '%s' from '%s'; provided=%s, expected=%s", this.getName(), this.getDeclaringClass()
-                    .getName(), Arrays.toString(arguments), Arrays.toString(this.method.getParameterTypes()));
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type invoke1(@Nullable Object instance, @Nullable Object argument0) {
+        return (Type) this.invoker.invoke1(instance, argument0);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type invoke2(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1) {
+        return (Type) this.invoker.invoke2(instance, argument0, argument1);
+    }
 
-        try {
-            if (this.isStatic() && instance != null)
-                throw InvocationException.from("Could not invoke method '%s' from '%s'; it is static but an instance was provided", this.getName(), this.getDeclaringClass()
-                        .getName());
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type invoke3(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2) {
+        return (Type) this.invoker.invoke3(instance, argument0, argument1, argument2);
+    }
 
-            return (Type) this.method.invoke(instance, arguments);
-        } catch (IllegalAccessException | InvocationTargetException exception) {
-            throw InvocationException.from(exception, "Could not invoke method '%s' from '%s'", this.getName(), this.getDeclaringClass()
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type invoke4(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3) {
+        return (Type) this.invoker.invoke4(instance, argument0, argument1, argument2, argument3);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type invoke5(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3, @Nullable Object argument4) {
+        return (Type) this.invoker.invoke5(instance, argument0, argument1, argument2, argument3, argument4);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable Type invoke6(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3, @Nullable Object argument4, @Nullable Object argument5) {
+        return (Type) this.invoker.invoke6(instance, argument0, argument1, argument2, argument3, argument4, argument5);
+    }
+
+    @Override
+    public boolean isInvokableWith(@Nullable Object... arguments) {
+        return this.invoker.isInvokableWith(arguments);
+    }
+
+    @Override
+    public <F> @NotNull F asFunction(@NotNull Class<F> type) {
+        this.invoker.checkAccess(null);
+        return Lambdas.create(type, this.method, null);
+    }
+
+    @Override
+    public <F> @NotNull F asFunction(@NotNull Class<F> type, @NotNull Object instance) {
+        if (this.isStatic())
+            throw MismatchedArgumentsException.from("Could not bind method '%s' from '%s'; it is static", this.getName(), this.getDeclaringClass()
                     .getName());
-        }
+
+        this.invoker.checkAccess(instance);
+        return Lambdas.create(type, this.method, this.method.getDeclaringClass().cast(instance));
     }
 
     @Override
@@ -118,6 +176,12 @@ public final class BasicMirrorMethod<Type>
         return this;
     }
 
+    @Override
+    public @NotNull MMethod<Type> refreshAccessibility() {
+        this.invoker.refreshAccessibility();
+        return this;
+    }
+
     @Override
     public boolean isAccessible(@Nullable Object instance) {
         return this.method.canAccess(instance);
@@ -132,4 +196,18 @@ public final class BasicMirrorMethod<Type>
     public int getAnnotationCount() {
         return this.method.getAnnotations().length;
     }
+
+    @Override
+    public @NotNull Class<? extends Annotation>[] annotationTypes() {
+        Class<? extends Annotation>[] annotationTypes = this.annotationTypes;
+        if (annotationTypes == null) this.annotationTypes = annotationTypes = FilterTarget.typesOf(this.method.getAnnotations());
+        return annotationTypes;
+    }
+
+    @Override
+    public @NotNull Class<?>[] parameterTypes() {
+        Class<?>[] parameterTypes = this.parameterTypes;
+        if (parameterTypes == null) this.parameterTypes = parameterTypes = this.method.getParameterTypes();
+        return parameterTypes;
+    }
 }
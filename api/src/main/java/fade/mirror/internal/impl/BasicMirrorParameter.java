@@ -1,6 +1,7 @@
 package fade.mirror.internal.impl;
 
 import fade.mirror.MParameter;
+import fade.mirror.internal.impl.filter.FilterTarget;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -16,10 +17,15 @@ import java.util.stream.Stream;
  * @param <Type> The type of the parameter.
  */
 public final class BasicMirrorParameter<Type>
-        implements MParameter<Type> {
+        implements MParameter<Type>, FilterTarget {
 
     private final Parameter parameter;
 
+    /**
+     * The types of the annotations, resolved on first use. The array is never modified after it is published.
+     */
+    private volatile Class<? extends Annotation>[] annotationTypes;
+
     /**
      * Creates a new {@link BasicMirrorParameter} from the given {@link Parameter}.
      *
@@ -63,4 +69,16 @@ public final class BasicMirrorParameter<Type>
     public int getAnnotationCount() {
         return this.parameter.getAnnotations().length;
     }
+
+    @Override
+    public @NotNull Class<? extends Annotation>[] annotationTypes() {
+        Class<? extends Annotation>[] annotationTypes = this.annotationTypes;
+        if (annotationTypes == null) this.annotationTypes = annotationTypes = FilterTarget.typesOf(this.parameter.getAnnotations());
+        return annotationTypes;
+    }
+
+    @Override
+    public @NotNull Class<?>[] parameterTypes() {
+        return FilterTarget.NO_TYPES;
+    }
 }
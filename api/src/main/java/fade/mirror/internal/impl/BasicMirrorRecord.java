@@ -0,0 +1,246 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.MClass;
+import fade.mirror.MConstructor;
+import fade.mirror.MRecord;
+import fade.mirror.MRecordComponent;
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.exception.InvocationException;
+import fade.mirror.exception.MismatchedArgumentsException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Basic implementation of {@link MRecord}.
+ * <p>
+ * Records are created through a handle of the canonical constructor of the type
+ * {@code (Object component0, ..., Object componentN)Object}. {@link #construct(IntFunction)} and
+ * {@link #with(Object, MRecordComponent, Object)} compose their own handles from it: the former filters every argument
+ * through the function, the latter through the accessors of the other components, and both collapse the arguments
+ * into one or two with {@link MethodHandles#permuteArguments}. The composed handles are resolved on first use and
+ * cached, written racily like the handles of {@link FieldHandles}.
+ * </p>
+ *
+ * @param <Type> the type of the record.
+ * @author fade
+ */
+public final class BasicMirrorRecord<Type>
+        implements MRecord<Type> {
+
+    /**
+     * {@link IntFunction#apply(int)}, of the type {@code (IntFunction function, int index)Object}.
+     */
+    private static final MethodHandle APPLY;
+
+    static {
+        try {
+            APPLY = MethodHandles.publicLookup()
+                    .findVirtual(IntFunction.class, "apply", MethodType.methodType(Object.class, int.class));
+        } catch (ReflectiveOperationException exception) {
+            throw FieldHandles.unchecked(exception);
+        }
+    }
+
+    private final MClass<Type> clazz;
+
+    private final BasicMirrorRecordComponent<?>[] components;
+
+    /**
+     * The wrappers of the types that widen to each primitive component type, indexed like {@link #components}. The
+     * entries of reference components are {@code null}.
+     */
+    private final Class<?>[][] wrappers;
+
+    private final Constructor<Type> rawConstructor;
+
+    private final MConstructor<Type> constructor;
+
+    /**
+     * The accessibility of {@link #rawConstructor}, resolved before {@link #handle()} is unreflected.
+     */
+    private final Access access;
+
+    private volatile MethodHandle handle;
+
+    /**
+     * The handle behind {@link #construct(IntFunction)}, of the type {@code (IntFunction function)Object}.
+     */
+    private volatile MethodHandle factory;
+
+    /**
+     * The handles behind {@link #with(Object, MRecordComponent, Object)}, of the type
+     * {@code (Object record, Object value)Object}, indexed like {@link #components}.
+     */
+    private final MethodHandle[] withers;
+
+    private BasicMirrorRecord(@NotNull MClass<Type> clazz) {
+        this.clazz = clazz;
+
+        RecordComponent[] components = clazz.getRawClass().getRecordComponents();
+        this.components = new BasicMirrorRecordComponent<?>[components.length];
+        this.wrappers = new Class<?>[components.length][];
+        Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            this.components[i] = BasicMirrorRecordComponent.from(components[i], i);
+            types[i] = components[i].getType();
+            if (types[i].isPrimitive()) this.wrappers[i] = Primitives.wideningWrappers(types[i]);
+        }
+
+        try {
+            this.rawConstructor = clazz.getRawClass().getDeclaredConstructor(types);
+        } catch (NoSuchMethodException exception) {
+            // every record has a canonical constructor
+            throw FieldHandles.unchecked(exception);
+        }
+        this.constructor = BasicMirrorConstructor.from(this.rawConstructor);
+        this.access = new Access(this.rawConstructor);
+        this.withers = new MethodHandle[components.length];
+    }
+
+    /**
+     * Creates a new {@link BasicMirrorRecord} instance. This method should not be used directly. Instead, use
+     * {@link MClass#asRecord()}.
+     *
+     * @param clazz  the record class.
+     * @param <Type> the type of the record.
+     * @return the created mirror.
+     */
+    @ApiStatus.Internal
+    @Contract(value = "_ -> new", pure = true)
+    public static <Type> @NotNull BasicMirrorRecord<Type> from(@NotNull MClass<Type> clazz) {
+        return new BasicMirrorRecord<>(clazz);
+    }
+
+    @Override
+    public @NotNull MClass<Type> getDeclaringClass() {
+        return this.clazz;
+    }
+
+    @Override
+    public @NotNull Stream<MRecordComponent<?>> getComponents() {
+        return Arrays.stream(this.components);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ComponentType> @NotNull Optional<MRecordComponent<ComponentType>> getComponent(@NotNull String name) {
+        for (BasicMirrorRecordComponent<?> component : this.components)
+            if (component.isNameEqualTo(name)) return Optional.of((MRecordComponent<ComponentType>) component);
+        return Optional.empty();
+    }
+
+    @Override
+    public int getComponentCount() {
+        return this.components.length;
+    }
+
+    @Override
+    public @NotNull MConstructor<Type> getCanonicalConstructor() {
+        return this.constructor;
+    }
+
+    @Override
+    public @NotNull Type construct(@NotNull Object[] components) {
+        return this.constructor.invokeWithNoInstance(components);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Type construct(@NotNull IntFunction<?> components) {
+        MethodHandle factory = this.factory();
+        try {
+            return (Type) factory.invokeExact(components);
+        } catch (Throwable throwable) {
+            throw InvocationException.from(throwable, "Could not construct record '%s'", this.clazz.getName());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ComponentType> @NotNull Type with(@NotNull Type record, @NotNull MRecordComponent<ComponentType> component, @Nullable ComponentType value) {
+        if (component.getRawComponent().getDeclaringRecord() != this.clazz.getRawClass())
+            throw MismatchedArgumentsException.from("Could not copy record '%s'; component '%s' is not one of its components", this.clazz.getName(), component.getName());
+        if (!this.clazz.getRawClass().isInstance(record))
+            throw MismatchedArgumentsException.from("Could not copy record '%s'; '%s' is not an instance of it", this.clazz.getName(), record.getClass()
+                    .getName());
+
+        Object argument = this.value(component, value);
+        MethodHandle wither = this.wither(component.getIndex());
+        try {
+            return (Type) wither.invokeExact((Object) record, argument);
+        } catch (Throwable throwable) {
+            throw InvocationException.from(throwable, "Could not copy record '%s'", this.clazz.getName());
+        }
+    }
+
+    /**
+     * Validates the given value for a component and converts it to the component's type, like the arguments of
+     * {@link #construct(Object[])}.
+     *
+     * @param component the component.
+     * @param value     the value.
+     * @return the value to pass to the wither.
+     * @throws MismatchedArgumentsException if the value cannot be assigned to the component.
+     */
+    private @Nullable Object value(@NotNull MRecordComponent<?> component, @Nullable Object value) {
+        Class<?> type = component.getType();
+        Class<?>[] wrappers = this.wrappers[component.getIndex()];
+        if (wrappers == null) {
+            if (value == null || type.isInstance(value)) return value;
+        } else if (value != null) {
+            for (Class<?> wrapper : wrappers)
+                if (wrapper == value.getClass()) return Primitives.widen(value, type);
+        }
+
+        throw MismatchedArgumentsException.from("Could not copy record '%s'; component '%s' is of type '%s'", this.clazz.getName(), component.getName(), type.getName());
+    }
+
+    private @NotNull MethodHandle handle() {
+        MethodHandle handle = this.handle;
+        if (handle != null) return handle;
+
+        try {
+            if (this.access.isGranted(null))
+                return this.handle = MethodHandles.insertArguments(Handles.invoker(this.rawConstructor), 0, (Object) null);
+        } catch (IllegalAccessException exception) {
+            // reported below
+        }
+        throw InaccessibleException.from("Could not access the canonical constructor of '%s'; it is inaccessible", this.clazz.getName());
+    }
+
+    private @NotNull MethodHandle factory() {
+        MethodHandle factory = this.factory;
+        if (factory != null) return factory;
+
+        MethodHandle[] arguments = new MethodHandle[this.components.length];
+        for (int i = 0; i < arguments.length; i++) arguments[i] = MethodHandles.insertArguments(APPLY, 1, i);
+
+        factory = MethodHandles.filterArguments(this.handle(), 0, arguments);
+        return this.factory = MethodHandles.permuteArguments(factory, MethodType.methodType(Object.class, IntFunction.class), new int[arguments.length]);
+    }
+
+    private @NotNull MethodHandle wither(int index) {
+        MethodHandle wither = this.withers[index];
+        if (wither != null) return wither;
+
+        MethodHandle[] getters = new MethodHandle[this.components.length];
+        for (int i = 0; i < getters.length; i++) if (i != index) getters[i] = this.components[i].getter();
+
+        int[] reorder = new int[getters.length];
+        reorder[index] = 1;
+        wither = MethodHandles.filterArguments(this.handle(), 0, getters);
+        return this.withers[index] = MethodHandles.permuteArguments(wither, MethodType.genericMethodType(2), reorder);
+    }
+}
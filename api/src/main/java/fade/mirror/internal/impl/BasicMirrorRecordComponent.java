@@ -0,0 +1,127 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.MMethod;
+import fade.mirror.MRecordComponent;
+import fade.mirror.exception.InaccessibleException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Basic implementation of {@link MRecordComponent}.
+ *
+ * @param <Type> the type of the component.
+ * @author fade
+ */
+public final class BasicMirrorRecordComponent<Type>
+        implements MRecordComponent<Type> {
+
+    private final RecordComponent component;
+
+    private final int index;
+
+    private final Method rawAccessor;
+
+    private final MMethod<Type> accessor;
+
+    /**
+     * The accessibility of {@link #rawAccessor}, resolved before {@link #getter()} is unreflected.
+     */
+    private final Access access;
+
+    /**
+     * The getter of the component, of the type {@code (Object record)Object}, resolved on first use.
+     */
+    private volatile MethodHandle getter;
+
+    private BasicMirrorRecordComponent(@NotNull RecordComponent component, int index) {
+        this.component = component;
+        this.index = index;
+        this.rawAccessor = component.getAccessor();
+        this.accessor = BasicMirrorMethod.from(this.rawAccessor);
+        this.access = new Access(this.rawAccessor);
+    }
+
+    /**
+     * Creates a new {@link BasicMirrorRecordComponent} instance. This method should not be used directly. Instead, use
+     * {@link fade.mirror.MClass#asRecord()}.
+     *
+     * @param component the component to create the mirror from.
+     * @param index     the index of the component.
+     * @param <Type>    the type of the component.
+     * @return the created mirror.
+     */
+    @ApiStatus.Internal
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <Type> @NotNull BasicMirrorRecordComponent<Type> from(@NotNull RecordComponent component, int index) {
+        return new BasicMirrorRecordComponent<>(component, index);
+    }
+
+    @Override
+    public @NotNull RecordComponent getRawComponent() {
+        return this.component;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Class<Type> getType() {
+        return (Class<Type>) this.component.getType();
+    }
+
+    @Override
+    public int getIndex() {
+        return this.index;
+    }
+
+    @Override
+    public @NotNull MMethod<Type> getAccessor() {
+        return this.accessor;
+    }
+
+    @Override
+    public @Nullable Type getValue(@NotNull Object record) {
+        return this.accessor.invoke0(record);
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return this.component.getName();
+    }
+
+    @Override
+    public @NotNull Stream<Annotation> getAnnotations() {
+        return Arrays.stream(this.component.getAnnotations());
+    }
+
+    @Override
+    public int getAnnotationCount() {
+        return this.component.getAnnotations().length;
+    }
+
+    /**
+     * Returns the getter of the component, of the type {@code (Object record)Object}.
+     *
+     * @return the getter.
+     * @throws InaccessibleException if the accessor of the component is inaccessible.
+     */
+    @NotNull MethodHandle getter() {
+        MethodHandle getter = this.getter;
+        if (getter != null) return getter;
+
+        try {
+            if (this.access.isGranted(null)) return this.getter = Handles.invoker(this.rawAccessor);
+        } catch (IllegalAccessException exception) {
+            // reported below
+        }
+        throw InaccessibleException.from("Could not access component '%s' from '%s'; it is inaccessible", this.getName(), this.component.getDeclaringRecord()
+                .getName());
+    }
+}
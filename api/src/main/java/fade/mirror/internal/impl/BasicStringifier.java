@@ -0,0 +1,118 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.MClass;
+import fade.mirror.MField;
+import fade.mirror.Stringifier;
+import fade.mirror.exception.MismatchedArgumentsException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Basic implementation of {@link Stringifier}.
+ * <p>
+ * Every described field is compiled into an appender of the type {@code (StringBuilder builder, Object instance)void},
+ * composed from the field's exact-typed getter and the matching {@code StringBuilder.append} overload.
+ * </p>
+ *
+ * @param <Type> the type of the instances.
+ * @author fade
+ */
+public final class BasicStringifier<Type>
+        implements Stringifier<Type> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Class<Type> clazz;
+
+    /**
+     * The text preceding each field's value, i.e. its name followed by {@code =}, and separated from the previous
+     * field for every field but the first.
+     */
+    private final String[] prefixes;
+
+    private final MethodHandle[] appenders;
+
+    private BasicStringifier(@NotNull Class<Type> clazz, @NotNull FieldPlan plan) {
+        this.clazz = clazz;
+        this.prefixes = new String[plan.size()];
+        this.appenders = new MethodHandle[plan.size()];
+
+        for (int i = 0; i < plan.size(); i++) {
+            this.prefixes[i] = (i == 0 ? "" : ", ") + plan.field(i).getName() + "=";
+
+            MethodHandle getter = plan.exactGetter(i);
+            Class<?> type = getter.type().returnType();
+            // StringBuilder has no byte or short overloads; those values are appended as ints
+            if (type == byte.class || type == short.class) type = int.class;
+
+            MethodHandle appender = MethodHandles.filterArguments(append(type), 1, getter.asType(MethodType.methodType(type, Object.class)));
+            this.appenders[i] = MethodHandles.dropReturn(appender);
+        }
+    }
+
+    /**
+     * Compiles a stringifier for the non-static fields of the given class that match the given filter. This method
+     * should not be used directly. Use {@link MClass#stringifier()} instead.
+     *
+     * @param clazz               the class.
+     * @param filter              the filter.
+     * @param includeSuperclasses whether to describe the fields of superclasses.
+     * @param <Type>              the type of the instances.
+     * @return the stringifier.
+     * @throws fade.mirror.exception.InaccessibleException if a matching field is inaccessible.
+     */
+    @ApiStatus.Internal
+    @Contract(value = "_, _, _ -> new", pure = true)
+    public static <Type> @NotNull BasicStringifier<Type> from(@NotNull Class<Type> clazz, @NotNull Predicate<? super MField<?>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
+        return new BasicStringifier<>(clazz, FieldPlan.from(clazz, filter, includeSuperclasses));
+    }
+
+    @Override
+    public @NotNull String stringify(@Nullable Type instance) {
+        return this.append(new StringBuilder(), instance).toString();
+    }
+
+    @Override
+    public @NotNull StringBuilder append(@NotNull StringBuilder builder, @Nullable Type instance) {
+        if (instance == null) return builder.append("null");
+        if (!this.clazz.isInstance(instance))
+            throw MismatchedArgumentsException.from("Could not describe '%s'; it is not an instance of '%s'", instance.getClass()
+                    .getName(), this.clazz.getName());
+
+        builder.append(instance.getClass().getSimpleName()).append('[');
+        try {
+            for (int i = 0; i < this.appenders.length; i++) {
+                builder.append(this.prefixes[i]);
+                this.appenders[i].invokeExact(builder, (Object) instance);
+            }
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+        return builder.append(']');
+    }
+
+    private static @NotNull MethodHandle append(@NotNull Class<?> type) {
+        try {
+            if (type == Object.class)
+                return LOOKUP.findStatic(BasicStringifier.class, "appendValue", MethodType.methodType(StringBuilder.class, StringBuilder.class, Object.class));
+            return LOOKUP.findVirtual(StringBuilder.class, "append", MethodType.methodType(StringBuilder.class, type));
+        } catch (ReflectiveOperationException exception) {
+            throw FieldHandles.unchecked(exception);
+        }
+    }
+
+    private static @NotNull StringBuilder appendValue(@NotNull StringBuilder builder, @Nullable Object value) {
+        if (value == null || !value.getClass().isArray()) return builder.append(value);
+
+        String elements = Arrays.deepToString(new Object[]{value});
+        return builder.append(elements, 1, elements.length() - 1);
+    }
+}
@@ -0,0 +1,459 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.exception.MismatchedArgumentsException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+
+/**
+ * The {@link VarHandle} of a mirrored field, and the handles derived from it.
+ * <p>
+ * Each access mode is adapted to a generic method handle of the type {@code (Object instance, Object... values)Object}
+ * the first time it is used and cached afterwards; for static fields, the instance is ignored. Values passed to the
+ * handles are validated and, for primitive fields, widened first, so the handles never fail with a
+ * {@link ClassCastException}. The access modes are also available adapted to the exact type of the field, which the
+ * {@code int} and {@code long} atomic operations use to avoid boxing.
+ * </p>
+ * <p>
+ * In addition, the field has exact-typed getters and setters per primitive type, of the types
+ * {@code (Object instance)T} and {@code (Object instance, T value)void}, which are called without boxing. Unlike var
+ * handles, these are unreflected from the field and thus honour its accessible flag.
+ * </p>
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+final class FieldHandles {
+
+    private static final VarHandle.AccessMode[] ACCESS_MODES = VarHandle.AccessMode.values();
+
+    /**
+     * The primitive types with exact-typed handles, in the order of their handles; the last slot holds the generic
+     * handle used for references.
+     */
+    static final Class<?>[] TYPES = {boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, Object.class};
+
+    private final Field field;
+
+    private final Access access;
+
+    private final boolean isStatic;
+
+    /**
+     * The wrappers accepted by the field if it is primitive, or {@code null} if it is a reference field.
+     */
+    private final Class<?>[] wrappers;
+
+    /**
+     * The var handle of the field. Resolved on first use.
+     */
+    private volatile VarHandle varHandle;
+
+    /**
+     * The adapted handles, indexed by the ordinal of their access mode. The array elements are written racily, which
+     * is benign: method handles are immutable and every thread adapts an equivalent handle.
+     */
+    private final MethodHandle[] accessModes = new MethodHandle[ACCESS_MODES.length];
+
+    /**
+     * The handles adapted to the exact type of the field, only erasing the instance. Written racily, like
+     * {@link #accessModes}.
+     */
+    private final MethodHandle[] exactAccessModes = new MethodHandle[ACCESS_MODES.length];
+
+    /**
+     * The exact-typed getters and setters, indexed like {@link #TYPES}. Written racily, like {@link #accessModes}.
+     */
+    private final MethodHandle[] getters = new MethodHandle[TYPES.length];
+    private final MethodHandle[] setters = new MethodHandle[TYPES.length];
+
+    /**
+     * The constant handle of a static field, of the type {@code ()Object}. For final fields, it returns the value read
+     * when it was resolved; for other fields, it dispatches through {@link #callSite}. Resolved on first use.
+     */
+    private volatile MethodHandle constant;
+
+    /**
+     * The call site behind {@link #constant} for static fields that are not final, or {@code null}.
+     */
+    private volatile MutableCallSite callSite;
+
+    FieldHandles(@NotNull Field field, @NotNull Access access) {
+        this.field = field;
+        this.access = access;
+        this.isStatic = Modifier.isStatic(field.getModifiers());
+        this.wrappers = field.getType().isPrimitive() ? Primitives.wideningWrappers(field.getType()) : null;
+    }
+
+    /**
+     * Reads the field with the given access mode.
+     *
+     * @param mode     a get access mode.
+     * @param instance the instance to read the field of; ignored for static fields.
+     * @return the value.
+     */
+    @Nullable Object get(@NotNull VarHandle.AccessMode mode, @Nullable Object instance) {
+        MethodHandle handle = this.accessMode(mode);
+        Object receiver = this.receiver(instance);
+
+        try {
+            return handle.invokeExact(receiver);
+        } catch (Throwable throwable) {
+            throw unchecked(throwable);
+        }
+    }
+
+    /**
+     * Writes the field with the given access mode.
+     *
+     * @param mode     a set access mode.
+     * @param instance the instance to write the field of; ignored for static fields.
+     * @param value    the value.
+     */
+    void set(@NotNull VarHandle.AccessMode mode, @Nullable Object instance, @Nullable Object value) {
+        this.checkWritable();
+        MethodHandle handle = this.accessMode(mode);
+        Object receiver = this.receiver(instance);
+        Object converted = this.value(value);
+
+        try {
+            Object ignored = handle.invokeExact(receiver, converted);
+        } catch (Throwable throwable) {
+            throw unchecked(throwable);
+        }
+    }
+
+    /**
+     * Atomically sets the field to the given value if it currently holds the expected value.
+     *
+     * @param mode     {@link VarHandle.AccessMode#COMPARE_AND_SET} or one of its weak variants.
+     * @param instance the instance; ignored for static fields.
+     * @param expected the expected value.
+     * @param value    the new value.
+     * @return {@code true} if the field was set, {@code false} otherwise.
+     */
+    boolean compareAndSet(@NotNull VarHandle.AccessMode mode, @Nullable Object instance, @Nullable Object expected, @Nullable Object value) {
+        this.checkWritable();
+        MethodHandle handle = this.accessMode(mode);
+        Object receiver = this.receiver(instance);
+        Object convertedExpected = this.value(expected);
+        Object convertedValue = this.value(value);
+
+        try {
+            return (boolean) (Object) handle.invokeExact(receiver, convertedExpected, convertedValue);
+        } catch (Throwable throwable) {
+            throw unchecked(throwable);
+        }
+    }
+
+    /**
+     * Atomically updates the field and returns its previous value.
+     *
+     * @param mode     {@link VarHandle.AccessMode#GET_AND_SET} or {@link VarHandle.AccessMode#GET_AND_ADD}.
+     * @param instance the instance; ignored for static fields.
+     * @param value    the new value or the delta.
+     * @return the previous value.
+     */
+    @Nullable Object getAndUpdate(@NotNull VarHandle.AccessMode mode, @Nullable Object instance, @Nullable Object value) {
+        this.checkWritable();
+        if (mode == VarHandle.AccessMode.GET_AND_ADD) this.checkNumeric();
+        MethodHandle handle = this.accessMode(mode);
+        Object receiver = this.receiver(instance);
+        Object converted = this.value(value);
+
+        try {
+            return handle.invokeExact(receiver, converted);
+        } catch (Throwable throwable) {
+            throw unchecked(throwable);
+        }
+    }
+
+    /**
+     * Discards the resolved handles, so that the accessibility of the field is checked again when they are resolved
+     * the next time. The {@link #constant() constant handle} is kept, since callers hold on to it and it only serves
+     * the value it was created with.
+     */
+    void reset() {
+        this.varHandle = null;
+        Arrays.fill(this.accessModes, null);
+        Arrays.fill(this.exactAccessModes, null);
+        Arrays.fill(this.getters, null);
+        Arrays.fill(this.setters, null);
+    }
+
+    /**
+     * Returns the handle of the given access mode, adapted to the generic type.
+     *
+     * @param mode the access mode.
+     * @return the handle.
+     */
+    @NotNull MethodHandle accessMode(@NotNull VarHandle.AccessMode mode) {
+        MethodHandle handle = this.accessModes[mode.ordinal()];
+        if (handle != null) return handle;
+
+        handle = this.varHandle().toMethodHandle(mode);
+        if (this.isStatic) handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        return this.accessModes[mode.ordinal()] = handle.asType(handle.type().generic());
+    }
+
+    /**
+     * Returns the handle of the given access mode, adapted to the exact type of the field. Only the instance is erased
+     * to {@code Object}.
+     *
+     * @param mode the access mode.
+     * @param type the type the caller expects the field to be of.
+     * @return the handle.
+     * @throws MismatchedArgumentsException if the field is not of the given type.
+     */
+    @NotNull MethodHandle exactAccessMode(@NotNull VarHandle.AccessMode mode, @NotNull Class<?> type) {
+        if (this.field.getType() != type)
+            throw MismatchedArgumentsException.from("Could not access %s as '%s'; it is of type '%s'", this.describe(), type.getName(), this.field.getType()
+                    .getName());
+
+        MethodHandle handle = this.exactAccessModes[mode.ordinal()];
+        if (handle != null) return handle;
+
+        handle = this.varHandle().toMethodHandle(mode);
+        if (this.isStatic) handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        return this.exactAccessModes[mode.ordinal()] = handle.asType(handle.type().changeParameterType(0, Object.class));
+    }
+
+    /**
+     * Returns a getter of the type {@code (Object instance)type}. Primitive getters are available for primitive fields
+     * whose type widens to the requested type; the {@code Object} getter is available for every field.
+     *
+     * @param type     a primitive type, or {@code Object.class}.
+     * @param instance the instance the field is accessed on, used to resolve its accessibility.
+     * @return the getter.
+     * @throws MismatchedArgumentsException if the field cannot be read as the given type.
+     * @throws InaccessibleException        if the field is inaccessible.
+     */
+    @NotNull MethodHandle getter(@NotNull Class<?> type, @Nullable Object instance) {
+        int index = index(type);
+        MethodHandle getter = this.getters[index];
+        if (getter != null) return getter;
+
+        Class<?> fieldType = this.field.getType();
+        if (type.isPrimitive() && !(fieldType.isPrimitive() && Primitives.isWidening(fieldType, type)))
+            throw MismatchedArgumentsException.from("Could not read %s as '%s'; it is of type '%s'", this.describe(), type.getName(), fieldType.getName());
+
+        this.checkAccess(instance);
+        try {
+            getter = Handles.lookup(this.field.getDeclaringClass()).unreflectGetter(this.field);
+        } catch (IllegalAccessException exception) {
+            throw InaccessibleException.from("Could not read %s; it is inaccessible", this.describe());
+        }
+
+        if (this.isStatic) getter = MethodHandles.dropArguments(getter, 0, Object.class);
+        return this.getters[index] = getter.asType(MethodType.methodType(type, Object.class));
+    }
+
+    /**
+     * Returns a setter of the type {@code (Object instance, type value)void}. Primitive setters are available for
+     * primitive fields the requested type widens to; the {@code Object} setter is available for every field, and casts
+     * or unboxes the value to the field's type.
+     *
+     * @param type     a primitive type, or {@code Object.class}.
+     * @param instance the instance the field is accessed on, used to resolve its accessibility.
+     * @return the setter.
+     * <p>
+     * Setters of final instance fields can only be unreflected from a field whose accessible flag is set, so resolving
+     * one sets the flag of the mirrored {@link Field}. That is visible to everyone sharing the field, such as the caller
+     * of {@link fade.mirror.Mirror#mirror(Field)}, so this method should only be called when the setter is actually
+     * needed.
+     * </p>
+     *
+     * @throws MismatchedArgumentsException if the field cannot be written as the given type.
+     * @throws InaccessibleException        if the field is inaccessible, or static and final.
+     */
+    @NotNull MethodHandle setter(@NotNull Class<?> type, @Nullable Object instance) {
+        int index = index(type);
+        MethodHandle setter = this.setters[index];
+        if (setter != null) return setter;
+
+        Class<?> fieldType = this.field.getType();
+        if (type.isPrimitive() && !(fieldType.isPrimitive() && Primitives.isWidening(type, fieldType)))
+            throw MismatchedArgumentsException.from("Could not write %s as '%s'; it is of type '%s'", this.describe(), type.getName(), fieldType.getName());
+
+        this.checkAccess(instance);
+        // setters of final instance fields can only be unreflected if the field's accessible flag is set
+        if (!this.isStatic && Modifier.isFinal(this.field.getModifiers())) this.field.trySetAccessible();
+        try {
+            setter = Handles.lookup(this.field.getDeclaringClass()).unreflectSetter(this.field);
+        } catch (IllegalAccessException exception) {
+            throw InaccessibleException.from("Could not write %s; it is inaccessible", this.describe());
+        }
+
+        if (this.isStatic) setter = MethodHandles.dropArguments(setter, 0, Object.class);
+        return this.setters[index] = setter.asType(MethodType.methodType(void.class, Object.class, type));
+    }
+
+    /**
+     * Returns the constant handle of the field, of the type {@code ()Object}. Final fields are read once and folded into
+     * a {@link MethodHandles#constant constant}; the handle of any other static field is the dynamic invoker of a
+     * {@link MutableCallSite}, which returns the value read when it was created or last {@link #invalidate()
+     * invalidated}. Either way, JIT-compiled callers holding the handle in a constant can fold the value.
+     *
+     * @return the constant handle.
+     * @throws MismatchedArgumentsException if the field is not static.
+     * @throws InaccessibleException        if the field is inaccessible.
+     */
+    @NotNull MethodHandle constant() {
+        MethodHandle constant = this.constant;
+        if (constant != null) return constant;
+        if (!this.isStatic)
+            throw MismatchedArgumentsException.from("Could not fold %s; it is not static", this.describe());
+
+        synchronized (this) {
+            if (this.constant != null) return this.constant;
+
+            MethodHandle value = MethodHandles.constant(Object.class, this.readStatic());
+            if (Modifier.isFinal(this.field.getModifiers())) return this.constant = value;
+
+            this.callSite = new MutableCallSite(value);
+            return this.constant = this.callSite.dynamicInvoker();
+        }
+    }
+
+    /**
+     * Checks if the {@link #constant() constant handle} of the field has been resolved.
+     *
+     * @return whether the constant handle has been resolved.
+     */
+    boolean isFolded() {
+        return this.constant != null;
+    }
+
+    /**
+     * Returns the value of a static final field, read once and then served from its {@link #constant() constant
+     * handle}.
+     *
+     * @return the value.
+     */
+    @Nullable Object constantValue() {
+        try {
+            return this.constant().invokeExact();
+        } catch (Throwable throwable) {
+            throw unchecked(throwable);
+        }
+    }
+
+    /**
+     * Re-reads the field and updates the target of its {@link #constant() constant handle}, if it is backed by a call
+     * site. Compiled code that folded the previous value is deoptimized.
+     */
+    synchronized void invalidate() {
+        MutableCallSite callSite = this.callSite;
+        if (callSite == null) return;
+
+        callSite.setTarget(MethodHandles.constant(Object.class, this.readStatic()));
+        MutableCallSite.syncAll(new MutableCallSite[]{callSite});
+    }
+
+    private @Nullable Object readStatic() {
+        try {
+            return this.getter(Object.class, null).invokeExact((Object) null);
+        } catch (Throwable throwable) {
+            throw unchecked(throwable);
+        }
+    }
+
+    /**
+     * Validates the given instance and returns the receiver to pass to the handles.
+     *
+     * @param instance the instance.
+     * @return the receiver.
+     * @throws MismatchedArgumentsException if the field is not static and the instance is not an instance of its
+     *                                      declaring class.
+     */
+    @Nullable Object receiver(@Nullable Object instance) {
+        if (this.isStatic) return null;
+        if (!this.field.getDeclaringClass().isInstance(instance))
+            throw MismatchedArgumentsException.from("Could not access %s; it is not static but no matching instance was provided", this.describe());
+        return instance;
+    }
+
+    /**
+     * Validates the given value and converts it to the field's type.
+     *
+     * @param value the value.
+     * @return the value to pass to the handles.
+     * @throws MismatchedArgumentsException if the value cannot be assigned to the field.
+     */
+    @Nullable Object value(@Nullable Object value) {
+        Class<?> type = this.field.getType();
+        if (this.wrappers == null) {
+            if (value == null || type.isInstance(value)) return value;
+        } else if (value != null) {
+            for (Class<?> wrapper : this.wrappers)
+                if (wrapper == value.getClass()) return Primitives.widen(value, type);
+        }
+
+        throw MismatchedArgumentsException.from("Mismatched value for %s; provided=%s, expected=%s", this.describe(), value, type.getName());
+    }
+
+    /**
+     * Checks that the field can be written through its var handle.
+     *
+     * @throws InaccessibleException if the field is final.
+     */
+    void checkWritable() {
+        if (Modifier.isFinal(this.field.getModifiers()))
+            throw InaccessibleException.from("Could not write %s; it is final", this.describe());
+    }
+
+    private void checkNumeric() {
+        Class<?> type = this.field.getType();
+        if (!type.isPrimitive() || type == boolean.class)
+            throw MismatchedArgumentsException.from("Could not add to %s; it is not numeric", this.describe());
+    }
+
+    private void checkAccess(@Nullable Object instance) {
+        if (!this.access.isGranted(instance))
+            throw InaccessibleException.from("Could not access %s; it is inaccessible", this.describe());
+    }
+
+    private @NotNull VarHandle varHandle() {
+        VarHandle varHandle = this.varHandle;
+        if (varHandle != null) return varHandle;
+
+        try {
+            return this.varHandle = Handles.varHandle(this.field);
+        } catch (IllegalAccessException exception) {
+            throw InaccessibleException.from("Could not access %s; it is inaccessible", this.describe());
+        }
+    }
+
+    @NotNull String describe() {
+        return "field '%s' from '%s'".formatted(this.field.getName(), this.field.getDeclaringClass().getName());
+    }
+
+    static int index(@NotNull Class<?> type) {
+        for (int i = 0; i < TYPES.length - 1; i++)
+            if (TYPES[i] == type) return i;
+        return TYPES.length - 1;
+    }
+
+    /**
+     * Converts a throwable thrown by a handle to an unchecked exception. Errors are rethrown as they are.
+     *
+     * @param throwable the throwable.
+     * @return the unchecked exception, to be thrown by the caller.
+     */
+    static @NotNull RuntimeException unchecked(@NotNull Throwable throwable) {
+        if (throwable instanceof RuntimeException exception) return exception;
+        if (throwable instanceof Error error) throw error;
+        return new UndeclaredThrowableException(throwable);
+    }
+}
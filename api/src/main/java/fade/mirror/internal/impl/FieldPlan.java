@@ -0,0 +1,240 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.MClass;
+import fade.mirror.MField;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A compiled plan for reading and writing the non-static fields of a class and its superclasses, in bulk.
+ * <p>
+ * For every field, the plan holds a generic getter and setter, and a move of the type
+ * {@code (Object target, Object source)void} that transfers the field's value from one instance to another. Moves are
+ * composed from the exact-typed getter and setter of the field, so primitive values are never boxed. The getters are
+ * resolved when the plan is compiled; the setters and moves only when the plan is first written through, or made
+ * {@link #writable()}, since users that only read fields must not require them to be writable. After that, using the
+ * plan involves no reflective lookups or accessibility checks.
+ * </p>
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+final class FieldPlan {
+
+    private final MField<?>[] fields;
+
+    /**
+     * The getters of the fields, of the type {@code (Object instance)Object}.
+     */
+    private final MethodHandle[] getters;
+
+    /**
+     * The setters of the fields, of the type {@code (Object instance, Object value)void}. Resolved together with
+     * {@link #moves}, and published through it.
+     */
+    private MethodHandle[] setters;
+
+    /**
+     * The moves of the fields, of the type {@code (Object target, Object source)void}. Resolved on first write.
+     */
+    private volatile MethodHandle[] moves;
+
+    private FieldPlan(@NotNull List<BasicMirrorField<?>> fields) {
+        this.fields = new MField<?>[fields.size()];
+        this.getters = new MethodHandle[fields.size()];
+
+        for (int i = 0; i < this.fields.length; i++) {
+            BasicMirrorField<?> field = fields.get(i);
+            this.fields[i] = field;
+            this.getters[i] = field.handles().getter(Object.class, null);
+        }
+    }
+
+    /**
+     * Compiles the plan for the non-static fields of the given class and its superclasses that match the given filter.
+     * Fields of superclasses come first.
+     *
+     * @param clazz  the class.
+     * @param filter the filter.
+     * @return the plan.
+     * @throws fade.mirror.exception.InaccessibleException if a matching field is inaccessible.
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    static @NotNull FieldPlan from(@NotNull Class<?> clazz, @NotNull Predicate<? super MField<?>> filter) {
+        return from(clazz, filter, MClass.IncludeSuperclasses.Yes);
+    }
+
+    /**
+     * Compiles the plan for the non-static fields of the given class, and optionally its superclasses, that match the
+     * given filter. Fields of superclasses come first.
+     *
+     * @param clazz               the class.
+     * @param filter              the filter.
+     * @param includeSuperclasses whether to include the fields of superclasses.
+     * @return the plan.
+     * @throws fade.mirror.exception.InaccessibleException if a matching field is inaccessible.
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    static @NotNull FieldPlan from(@NotNull Class<?> clazz, @NotNull Predicate<? super MField<?>> filter, @NotNull MClass.IncludeSuperclasses includeSuperclasses) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+            hierarchy.add(0, type);
+            if (!includeSuperclasses.asBoolean()) break;
+        }
+
+        List<BasicMirrorField<?>> fields = new ArrayList<>();
+        for (Class<?> type : hierarchy)
+            BasicMirrorClass.from(type)
+                    .getFields()
+                    .filter(field -> !field.isStatic() && filter.test(field))
+                    .forEach(field -> fields.add((BasicMirrorField<?>) field));
+        return new FieldPlan(fields);
+    }
+
+    /**
+     * Returns the number of fields in the plan.
+     *
+     * @return the number of fields.
+     */
+    @Contract(pure = true)
+    int size() {
+        return this.fields.length;
+    }
+
+    /**
+     * Returns the field at the given index.
+     *
+     * @param index the index.
+     * @return the field.
+     */
+    @Contract(pure = true)
+    @NotNull MField<?> field(int index) {
+        return this.fields[index];
+    }
+
+    /**
+     * Returns the getter of the field at the given index, of the type {@code (Object instance)T}, where {@code T} is the
+     * type of the field if it is primitive, or {@code Object} otherwise.
+     *
+     * @param index the index.
+     * @return the getter.
+     */
+    @NotNull MethodHandle exactGetter(int index) {
+        MField<?> field = this.fields[index];
+        return ((BasicMirrorField<?>) field).handles().getter(erasedType(field), null);
+    }
+
+    /**
+     * Resolves the setters and moves of the fields, unless they have been resolved already. Two threads racing on the
+     * first write may both resolve them, which is harmless since they are equivalent.
+     * <p>
+     * Resolving the setter of a final field sets the accessible flag of its {@link java.lang.reflect.Field}, see
+     * {@link FieldHandles#setter(Class, Object)}, so only users of the plan that write fields should call this method.
+     * </p>
+     *
+     * @return this plan.
+     * @throws fade.mirror.exception.InaccessibleException if a field cannot be written.
+     */
+    @NotNull FieldPlan writable() {
+        if (this.moves != null) return this;
+
+        MethodHandle[] setters = new MethodHandle[this.fields.length];
+        MethodHandle[] moves = new MethodHandle[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            FieldHandles handles = ((BasicMirrorField<?>) this.fields[i]).handles();
+            Class<?> type = erasedType(this.fields[i]);
+
+            setters[i] = handles.setter(Object.class, null);
+            moves[i] = MethodHandles.filterArguments(handles.setter(type, null), 1, handles.getter(type, null));
+        }
+
+        this.setters = setters;
+        this.moves = moves;
+        return this;
+    }
+
+    /**
+     * Reads the field at the given index, boxing primitive values.
+     *
+     * @param index    the index.
+     * @param instance the instance.
+     * @return the value.
+     */
+    @Nullable Object get(int index, @NotNull Object instance) {
+        try {
+            return this.getters[index].invokeExact(instance);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    /**
+     * Writes the field at the given index.
+     *
+     * @param index    the index.
+     * @param instance the instance.
+     * @param value    the value, which has to be assignable to the field.
+     */
+    void set(int index, @NotNull Object instance, @Nullable Object value) {
+        try {
+            this.writable().setters[index].invokeExact(instance, value);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    /**
+     * Copies the field at the given index from one instance to another.
+     *
+     * @param index  the index.
+     * @param source the instance to copy from.
+     * @param target the instance to copy to.
+     */
+    void move(int index, @NotNull Object source, @NotNull Object target) {
+        try {
+            this.writable().moves[index].invokeExact(target, source);
+        } catch (Throwable throwable) {
+            throw FieldHandles.unchecked(throwable);
+        }
+    }
+
+    /**
+     * Copies every field from one instance to another.
+     *
+     * @param source the instance to copy from.
+     * @param target the instance to copy to.
+     */
+    void copy(@NotNull Object source, @NotNull Object target) {
+        for (int i = 0; i < this.fields.length; i++) this.move(i, source, target);
+    }
+
+    /**
+     * Copies every primitive field, and every reference field that is not {@code null}, from one instance to another.
+     *
+     * @param source the instance to copy from.
+     * @param target the instance to copy to.
+     */
+    void merge(@NotNull Object source, @NotNull Object target) {
+        for (int i = 0; i < this.fields.length; i++) {
+            if (this.fields[i].getType().isPrimitive()) {
+                this.move(i, source, target);
+                continue;
+            }
+
+            Object value = this.get(i, source);
+            if (value != null) this.set(i, target, value);
+        }
+    }
+
+    private static @NotNull Class<?> erasedType(@NotNull MField<?> field) {
+        return field.getType().isPrimitive() ? field.getType() : Object.class;
+    }
+}
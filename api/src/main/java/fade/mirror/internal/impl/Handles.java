@@ -0,0 +1,184 @@
+package fade.mirror.internal.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Utilities for resolving and adapting the {@link MethodHandle}s the mirror implementations dispatch through.
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+final class Handles {
+
+    /**
+     * The lookup used to unreflect members. Members that are not accessible to this lookup have to be made accessible
+     * before they are unreflected.
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * The constructor {@link InvocationTargetException#InvocationTargetException(Throwable)}.
+     */
+    private static final MethodHandle WRAP_TARGET_EXCEPTION;
+
+    static {
+        try {
+            WRAP_TARGET_EXCEPTION = LOOKUP.findConstructor(InvocationTargetException.class, MethodType.methodType(void.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    @Contract(" -> fail")
+    private Handles() {
+        throw new UnsupportedOperationException("Instantiating '%s' is forbidden!".formatted(this.getClass()
+                .getName()));
+    }
+
+    /**
+     * Returns the lookup used to unreflect members of the given class. The mirror module is made to read the module of
+     * the class first, since a lookup cannot access members of modules its module does not read.
+     *
+     * @param clazz the class whose members are going to be unreflected.
+     * @return the lookup.
+     */
+    static @NotNull MethodHandles.Lookup lookup(@NotNull Class<?> clazz) {
+        Handles.class.getModule().addReads(clazz.getModule());
+        return LOOKUP;
+    }
+
+    /**
+     * Returns a lookup with private access to the given class if its package is open to this module, or the
+     * {@link #lookup(Class) regular lookup} otherwise.
+     *
+     * @param clazz the class whose members are going to be unreflected.
+     * @return the lookup.
+     */
+    static @NotNull MethodHandles.Lookup privateLookup(@NotNull Class<?> clazz) {
+        MethodHandles.Lookup lookup = lookup(clazz);
+        try {
+            return MethodHandles.privateLookupIn(clazz, lookup);
+        } catch (IllegalAccessException exception) {
+            return lookup;
+        }
+    }
+
+    /**
+     * Resolves a {@link VarHandle} for the given field. Unlike method handles, var handles ignore the accessible flag of
+     * the field, so non-public fields are only accessible if their package is open to this module.
+     *
+     * @param field the field.
+     * @return the var handle.
+     * @throws IllegalAccessException if the field is not accessible.
+     */
+    static @NotNull VarHandle varHandle(@NotNull Field field) throws IllegalAccessException {
+        return privateLookup(field.getDeclaringClass()).unreflectVarHandle(field);
+    }
+
+    /**
+     * Resolves an invoker for the given method. The invoker is of the generic type
+     * {@code (Object instance, Object argument0, ..., Object argumentN)Object}; for static methods, the instance argument
+     * is ignored.
+     *
+     * @param method the method.
+     * @return the invoker.
+     * @throws IllegalAccessException if the method is not accessible.
+     */
+    static @NotNull MethodHandle invoker(@NotNull Method method) throws IllegalAccessException {
+        return invoker(method, lookup(method.getDeclaringClass()).unreflect(method).asFixedArity());
+    }
+
+    /**
+     * Resolves an invoker for the given constructor. The invoker is of the generic type
+     * {@code (Object instance, Object argument0, ..., Object argumentN)Object}; the instance argument is ignored.
+     *
+     * @param constructor the constructor.
+     * @return the invoker.
+     * @throws IllegalAccessException if the constructor is not accessible.
+     */
+    static @NotNull MethodHandle invoker(@NotNull Constructor<?> constructor) throws IllegalAccessException {
+        return invoker(constructor, lookup(constructor.getDeclaringClass()).unreflectConstructor(constructor)
+                .asFixedArity());
+    }
+
+    /**
+     * Resolves an invoker for the given method, like {@link #invoker(Method)}, that wraps everything the method throws
+     * in an {@link InvocationTargetException}. Anything else the invoker throws is a failure of the adaptation of the
+     * arguments.
+     *
+     * @param method the method.
+     * @return the invoker.
+     * @throws IllegalAccessException if the method is not accessible.
+     */
+    static @NotNull MethodHandle guardedInvoker(@NotNull Method method) throws IllegalAccessException {
+        return invoker(method, guard(lookup(method.getDeclaringClass()).unreflect(method).asFixedArity()));
+    }
+
+    /**
+     * Resolves an invoker for the given constructor, like {@link #invoker(Constructor)}, that wraps everything the
+     * constructor throws in an {@link InvocationTargetException}.
+     *
+     * @param constructor the constructor.
+     * @return the invoker.
+     * @throws IllegalAccessException if the constructor is not accessible.
+     */
+    static @NotNull MethodHandle guardedInvoker(@NotNull Constructor<?> constructor) throws IllegalAccessException {
+        return invoker(constructor, guard(lookup(constructor.getDeclaringClass()).unreflectConstructor(constructor)
+                .asFixedArity()));
+    }
+
+    private static @NotNull MethodHandle invoker(@NotNull Executable member, @NotNull MethodHandle handle) {
+        if (member instanceof Constructor<?> || Modifier.isStatic(member.getModifiers()))
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        return handle.asType(MethodType.genericMethodType(member.getParameterCount() + 1));
+    }
+
+    /**
+     * Wraps everything the given handle throws in an {@link InvocationTargetException}.
+     */
+    private static @NotNull MethodHandle guard(@NotNull MethodHandle handle) {
+        MethodHandle thrower = MethodHandles.throwException(handle.type()
+                .returnType(), InvocationTargetException.class);
+        return MethodHandles.catchException(handle, Throwable.class, MethodHandles.filterArguments(thrower, 0, WRAP_TARGET_EXCEPTION));
+    }
+
+    /**
+     * Resolves the constructor of the given class with the given parameter types, as a handle of the generic type
+     * {@code (Object argument0, ..., Object argumentN)Object}. Non-public constructors are only accessible if the package
+     * of the class is open to this module.
+     *
+     * @param clazz          the class.
+     * @param parameterTypes the parameter types of the constructor.
+     * @return the constructor handle.
+     * @throws NoSuchMethodException  if the class has no such constructor.
+     * @throws IllegalAccessException if the constructor is not accessible.
+     */
+    static @NotNull MethodHandle constructor(@NotNull Class<?> clazz, @NotNull Class<?>... parameterTypes) throws NoSuchMethodException, IllegalAccessException {
+        return privateLookup(clazz).findConstructor(clazz, MethodType.methodType(void.class, parameterTypes))
+                .asType(MethodType.genericMethodType(parameterTypes.length));
+    }
+
+    /**
+     * Adapts an invoker to take its arguments as an array, i.e. to the type
+     * {@code (Object instance, Object[] arguments)Object}.
+     *
+     * @param invoker the invoker.
+     * @return the spreading invoker.
+     */
+    static @NotNull MethodHandle spread(@NotNull MethodHandle invoker) {
+        return invoker.asSpreader(Object[].class, invoker.type().parameterCount() - 1);
+    }
+}
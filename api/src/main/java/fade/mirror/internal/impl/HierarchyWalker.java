@@ -0,0 +1,131 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.HierarchyVisitor;
+import fade.mirror.MClass;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a class hierarchy depth-first, following the superclass, the interfaces and the inner classes of every class,
+ * in that order. Every class is visited once, so interfaces reached through several paths are only visited the first
+ * time. Classes are only discovered when the walk reaches them, so a walk that stops early does no work for the rest
+ * of the hierarchy.
+ *
+ * @author fade
+ */
+final class HierarchyWalker
+        extends Spliterators.AbstractSpliterator<MClass<?>> {
+
+    /**
+     * The classes that have been discovered but not yet visited, the next one first.
+     */
+    private final Deque<Step> pending = new ArrayDeque<>();
+
+    private final Set<Class<?>> visited = new HashSet<>();
+
+    private HierarchyWalker(@NotNull Class<?> root) {
+        super(Long.MAX_VALUE, Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.ORDERED);
+        this.pending.push(new Step(root, HierarchyVisitor.Relation.Self));
+    }
+
+    /**
+     * Returns a lazy stream of the given class and every class reachable from it.
+     *
+     * @param root the class to start at.
+     * @return the stream.
+     */
+    @Contract(value = "_ -> new", pure = true)
+    static @NotNull Stream<MClass<?>> stream(@NotNull Class<?> root) {
+        return StreamSupport.stream(new HierarchyWalker(root), false);
+    }
+
+    /**
+     * Walks the hierarchy of the given class with the given visitor.
+     *
+     * @param root    the class to start at.
+     * @param visitor the visitor.
+     * @return {@code false} if the visitor terminated the walk, {@code true} otherwise.
+     */
+    static boolean walk(@NotNull Class<?> root, @NotNull HierarchyVisitor visitor) {
+        HierarchyWalker walker = new HierarchyWalker(root);
+
+        Step step;
+        while ((step = walker.poll()) != null) {
+            BasicMirrorClass<?> clazz = BasicMirrorClass.from(step.type);
+
+            HierarchyVisitor.Result result = visitor.visitClass(clazz, step.relation);
+            if (result == HierarchyVisitor.Result.Terminate) return false;
+            if (result == HierarchyVisitor.Result.Prune) continue;
+
+            if (clazz.visitMembers(visitor) == HierarchyVisitor.Result.Terminate) return false;
+            walker.discover(step.type);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean tryAdvance(@NotNull Consumer<? super MClass<?>> action) {
+        Step step = this.poll();
+        if (step == null) return false;
+
+        this.discover(step.type);
+        action.accept(BasicMirrorClass.from(step.type));
+        return true;
+    }
+
+    private @Nullable Step poll() {
+        Step step;
+        while ((step = this.pending.poll()) != null)
+            if (this.visited.add(step.type)) return step;
+        return null;
+    }
+
+    /**
+     * Pushes the classes reached from the given class, so that they are visited in the order superclass, interfaces,
+     * inner classes.
+     *
+     * @param type the class.
+     */
+    private void discover(@NotNull Class<?> type) {
+        Class<?>[] innerClasses = BasicMirrorClass.from(type).rawInnerClasses();
+        for (int i = innerClasses.length - 1; i >= 0; i--)
+            this.push(innerClasses[i], HierarchyVisitor.Relation.InnerClass);
+
+        Class<?>[] interfaces = type.getInterfaces();
+        for (int i = interfaces.length - 1; i >= 0; i--)
+            this.push(interfaces[i], HierarchyVisitor.Relation.Interface);
+
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null) this.push(superclass, HierarchyVisitor.Relation.Superclass);
+    }
+
+    private void push(@NotNull Class<?> type, @NotNull HierarchyVisitor.Relation relation) {
+        if (!this.visited.contains(type)) this.pending.push(new Step(type, relation));
+    }
+
+    /**
+     * A discovered class and how it was reached.
+     */
+    private static final class Step {
+
+        private final Class<?> type;
+
+        private final HierarchyVisitor.Relation relation;
+
+        private Step(@NotNull Class<?> type, @NotNull HierarchyVisitor.Relation relation) {
+            this.type = type;
+            this.relation = relation;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.exception.InvocationException;
+import fade.mirror.exception.MismatchedArgumentsException;
+import fade.mirror.internal.impl.generate.Accessors;
+import fade.mirror.internal.impl.generate.Inflation;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.function.BiFunction;
+
+/**
+ * Dispatches the invocations of a method or constructor for its mirror.
+ * <p>
+ * Invocations with an argument array go through a spreading {@link MethodHandle} or, once the member has been invoked
+ * often enough, a generated accessor. The fixed-arity invocations ({@code invoke0} to {@code invoke6}) call a handle of
+ * the member's exact arity with their arguments as they are, and check the arguments slot by slot; they allocate
+ * nothing beyond what boxing the result requires. Calls they cannot serve directly, such as those with a different
+ * number of arguments than the member has parameters, fall back to the array-based invocation.
+ * </p>
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+final class Invoker {
+
+    private final Executable member;
+
+    /**
+     * The parameter types of the member.
+     */
+    private final Class<?>[] parameterTypes;
+
+    /**
+     * Whether the member is invoked on an instance, i.e. whether it is an instance method.
+     */
+    private final boolean hasReceiver;
+
+    /**
+     * The accessibility of the member, resolved before the invoker.
+     */
+    private final Access access;
+
+    /**
+     * The invoker of the member, of the generic type {@code (Object, Object...)Object} with one argument per
+     * parameter. Resolved on the first invocation, after the member has been made accessible.
+     */
+    private volatile MethodHandle invoker;
+
+    /**
+     * The {@link #invoker}, taking its arguments as an array.
+     */
+    private volatile MethodHandle spreader;
+
+    /**
+     * The plan validating the arguments of the member. Compiled on first use.
+     */
+    private volatile ArgumentPlan plan;
+
+    /**
+     * The generated invoker, which replaces the {@link #spreader} once the member has been invoked often enough.
+     */
+    private final Inflation<BiFunction<Object, Object[], Object>> generatedInvoker;
+
+    Invoker(@NotNull Executable member) {
+        this.member = member;
+        this.parameterTypes = member.getParameterTypes();
+        this.hasReceiver = member instanceof Method && !Modifier.isStatic(member.getModifiers());
+        this.access = new Access(member);
+        this.generatedInvoker = new Inflation<>(() -> Accessors.invoker(member));
+    }
+
+    /**
+     * Invokes the member with the given arguments.
+     *
+     * @param instance  the instance to invoke the member on; ignored for constructors.
+     * @param arguments the arguments.
+     * @return the result of the invocation.
+     */
+    @Nullable Object invoke(@Nullable Object instance, @Nullable Object[] arguments) {
+        this.checkReceiver(instance);
+        MethodHandle spreader = this.spreader(instance);
+
+        Object[] adapted = this.plan().adapt(arguments);
+        if (adapted == null) throw this.mismatched(arguments);
+
+        BiFunction<Object, Object[], Object> generatedInvoker = this.generatedInvoker.get();
+        if (generatedInvoker != null && Primitives.isExact(this.parameterTypes, adapted)) {
+            // the arguments are exact, so anything the generated invoker throws comes from the member
+            try {
+                return generatedInvoker.apply(instance, adapted);
+            } catch (Throwable throwable) {
+                throw this.failed(new InvocationTargetException(throwable));
+            }
+        }
+
+        try {
+            return spreader.invokeExact(instance, adapted);
+        } catch (Throwable throwable) {
+            throw this.failed(throwable);
+        }
+    }
+
+    /**
+     * Checks if the member can be invoked with the given arguments.
+     *
+     * @param arguments the arguments.
+     * @return {@code true} if the arguments are accepted, {@code false} otherwise.
+     */
+    boolean isInvokableWith(@Nullable Object[] arguments) {
+        return this.plan().accepts(arguments);
+    }
+
+    /**
+     * Discards the resolved accessibility and invokers, so that accessibility is checked again on the next invocation.
+     */
+    void refreshAccessibility() {
+        this.access.reset();
+        this.invoker = null;
+        this.spreader = null;
+    }
+
+    @Nullable Object invoke0(@Nullable Object instance) {
+        this.checkReceiver(instance);
+        MethodHandle invoker = this.invoker(instance);
+
+        if (this.parameterTypes.length != 0) return this.invoke(instance, new Object[0]);
+
+        try {
+            return invoker.invokeExact(instance);
+        } catch (Throwable throwable) {
+            throw this.failed(throwable);
+        }
+    }
+
+    @Nullable Object invoke1(@Nullable Object instance, @Nullable Object argument0) {
+        this.checkReceiver(instance);
+        MethodHandle invoker = this.invoker(instance);
+
+        if (this.parameterTypes.length != 1 || !this.accepts(0, argument0))
+            return this.invoke(instance, new Object[]{argument0});
+
+        try {
+            return invoker.invokeExact(instance, argument0);
+        } catch (Throwable throwable) {
+            throw this.failed(throwable);
+        }
+    }
+
+    @Nullable Object invoke2(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1) {
+        this.checkReceiver(instance);
+        MethodHandle invoker = this.invoker(instance);
+
+        if (this.parameterTypes.length != 2 || !this.accepts(0, argument0) || !this.accepts(1, argument1))
+            return this.invoke(instance, new Object[]{argument0, argument1});
+
+        try {
+            return invoker.invokeExact(instance, argument0, argument1);
+        } catch (Throwable throwable) {
+            throw this.failed(throwable);
+        }
+    }
+
+    @Nullable Object invoke3(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2) {
+        this.checkReceiver(instance);
+        MethodHandle invoker = this.invoker(instance);
+
+        if (this.parameterTypes.length != 3 || !this.accepts(0, argument0) || !this.accepts(1, argument1)
+                || !this.accepts(2, argument2))
+            return this.invoke(instance, new Object[]{argument0, argument1, argument2});
+
+        try {
+            return invoker.invokeExact(instance, argument0, argument1, argument2);
+        } catch (Throwable throwable) {
+            throw this.failed(throwable);
+        }
+    }
+
+    @Nullable Object invoke4(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3) {
+        this.checkReceiver(instance);
+        MethodHandle invoker = this.invoker(instance);
+
+        if (this.parameterTypes.length != 4 || !this.accepts(0, argument0) || !this.accepts(1, argument1)
+                || !this.accepts(2, argument2) || !this.accepts(3, argument3))
+            return this.invoke(instance, new Object[]{argument0, argument1, argument2, argument3});
+
+        try {
+            return invoker.invokeExact(instance, argument0, argument1, argument2, argument3);
+        } catch (Throwable throwable) {
+            throw this.failed(throwable);
+        }
+    }
+
+    @Nullable Object invoke5(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3, @Nullable Object argument4) {
+        this.checkReceiver(instance);
+        MethodHandle invoker = this.invoker(instance);
+
+        if (this.parameterTypes.length != 5 || !this.accepts(0, argument0) || !this.accepts(1, argument1)
+                || !this.accepts(2, argument2) || !this.accepts(3, argument3) || !this.accepts(4, argument4))
+            return this.invoke(instance, new Object[]{argument0, argument1, argument2, argument3, argument4});
+
+        try {
+            return invoker.invokeExact(instance, argument0, argument1, argument2, argument3, argument4);
+        } catch (Throwable throwable) {
+            throw this.failed(throwable);
+        }
+    }
+
+    @Nullable Object invoke6(@Nullable Object instance, @Nullable Object argument0, @Nullable Object argument1, @Nullable Object argument2, @Nullable Object argument3, @Nullable Object argument4, @Nullable Object argument5) {
+        this.checkReceiver(instance);
+        MethodHandle invoker = this.invoker(instance);
+
+        if (this.parameterTypes.length != 6 || !this.accepts(0, argument0) || !this.accepts(1, argument1)
+                || !this.accepts(2, argument2) || !this.accepts(3, argument3) || !this.accepts(4, argument4)
+                || !this.accepts(5, argument5))
+            return this.invoke(instance, new Object[]{argument0, argument1, argument2, argument3, argument4, argument5});
+
+        try {
+            return invoker.invokeExact(instance, argument0, argument1, argument2, argument3, argument4, argument5);
+        } catch (Throwable throwable) {
+            throw this.failed(throwable);
+        }
+    }
+
+    /**
+     * Checks that the given instance fits the member: static methods must not get one, instance methods must get an
+     * instance of their declaring class and constructors ignore it.
+     */
+    private void checkReceiver(@Nullable Object instance) {
+        if (this.member instanceof Constructor<?>) return;
+
+        if (!this.hasReceiver && instance != null)
+            throw InvocationException.from("Could not invoke %s; it is static but an instance was provided", this.describe());
+
+        if (this.hasReceiver && !this.member.getDeclaringClass().isInstance(instance))
+            throw InvocationException.from("Could not invoke %s; it is not static but no matching instance was provided", this.describe());
+    }
+
+    private boolean accepts(int index, @Nullable Object argument) {
+        return this.plan().accepts(index, argument);
+    }
+
+    private @NotNull ArgumentPlan plan() {
+        ArgumentPlan plan = this.plan;
+        if (plan != null) return plan;
+
+        return this.plan = ArgumentPlan.from(this.member);
+    }
+
+    /**
+     * Checks if the member is accessible, resolving its accessibility first if necessary.
+     *
+     * @param instance the instance the member is invoked on, if any.
+     * @throws InaccessibleException if the member is inaccessible.
+     */
+    void checkAccess(@Nullable Object instance) {
+        if (!this.access.isGranted(instance))
+            throw InaccessibleException.from("Could not invoke %s; it is inaccessible", this.describe());
+    }
+
+    /**
+     * Returns the invoker of the member, resolving it on first use. Accessibility is resolved as part of the
+     * resolution, so it is not checked again once the invoker exists.
+     */
+    private @NotNull MethodHandle invoker(@Nullable Object instance) {
+        MethodHandle invoker = this.invoker;
+        if (invoker != null) return invoker;
+
+        this.checkAccess(instance);
+
+        try {
+            return this.invoker = this.member instanceof Method method
+                    ? Handles.guardedInvoker(method)
+                    : Handles.guardedInvoker((Constructor<?>) this.member);
+        } catch (IllegalAccessException exception) {
+            throw InaccessibleException.from("Could not invoke %s; it is inaccessible", this.describe());
+        }
+    }
+
+    private @NotNull MethodHandle spreader(@Nullable Object instance) {
+        MethodHandle spreader = this.spreader;
+        if (spreader != null) return spreader;
+
+        return this.spreader = Handles.spread(this.invoker(instance));
+    }
+
+    private @NotNull MismatchedArgumentsException mismatched(@Nullable Object... arguments) {
+        return MismatchedArgumentsException.from("Mismatched argument types for %s; provided=%s, expected=%s", this.describe(), Arrays.toString(arguments), Arrays.toString(this.parameterTypes));
+    }
+
+    /**
+     * Translates a failed invocation through a {@link Handles#guardedInvoker(Method) guarded invoker}. Anything thrown
+     * by the member, errors included, arrives wrapped in an {@link InvocationTargetException} and is reported as an
+     * {@link InvocationException}, like {@link Method#invoke(Object, Object...)} reports it. Anything else failed in the
+     * adaptation of the arguments; errors raised there are rethrown as they are.
+     */
+    private @NotNull RuntimeException failed(@NotNull Throwable throwable) {
+        if (throwable instanceof InvocationTargetException)
+            return InvocationException.from(throwable, "Could not invoke %s", this.describe());
+        if (throwable instanceof Error error) throw error;
+        return MismatchedArgumentsException.from("Could not adapt the arguments of %s: %s", this.describe(), throwable);
+    }
+
+    private @NotNull String describe() {
+        String declaringClass = this.member.getDeclaringClass().getName();
+        if (this.member instanceof Method) return "method '%s' from '%s'".formatted(this.member.getName(), declaringClass);
+
+        StringBuilder builder = new StringBuilder().append(this.member.getName()).append('(');
+        for (Class<?> type : this.parameterTypes) builder.append(type.getSimpleName()).append(", ");
+        return "constructor '%s' from '%s'".formatted(builder.append(')'), declaringClass);
+    }
+}
@@ -0,0 +1,199 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.exception.MismatchedArgumentsException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilities for turning members into instances of functional interfaces. Instances are spun with
+ * {@link LambdaMetafactory} where possible, so they are as cheap to call as a hand-written lambda. Members the
+ * metafactory cannot link against fall back to {@link MethodHandleProxies}.
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+final class Lambdas {
+
+    @Contract(" -> fail")
+    private Lambdas() {
+        throw new UnsupportedOperationException("Instantiating '%s' is forbidden!".formatted(this.getClass()
+                .getName()));
+    }
+
+    /**
+     * Creates an instance of the given functional interface that delegates to the given member.
+     *
+     * @param type     the functional interface.
+     * @param member   the method or constructor to delegate to.
+     * @param instance the receiver to bind, or {@code null} if the receiver is passed as the first argument (or there
+     *                 is none).
+     * @param <F>      the functional interface type.
+     * @return the functional interface instance.
+     * @throws MismatchedArgumentsException if the interface is not a functional interface or its signature is not
+     *                                      compatible with the member.
+     */
+    static <F> @NotNull F create(@NotNull Class<F> type, @NotNull Executable member, @Nullable Object instance) {
+        Method sam = findSingleAbstractMethod(type);
+        MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        MethodType implType = implementationType(member, instance != null);
+
+        if (!isCompatible(samType, implType))
+            throw MismatchedArgumentsException.from("'%s' is not compatible with '%s'; expected=%s, provided=%s", type.getName(), member, samType, implType);
+
+        for (MethodHandles.Lookup caller : callers(member.getDeclaringClass())) {
+            MethodHandle factory;
+            try {
+                MethodHandle implementation = unreflect(caller, member);
+                MethodType factoryType = instance == null
+                        ? MethodType.methodType(type)
+                        : MethodType.methodType(type, member.getDeclaringClass());
+                factory = LambdaMetafactory.metafactory(caller, sam.getName(), factoryType, samType, implementation, instantiate(samType, implType))
+                        .getTarget();
+            } catch (LambdaConversionException | IllegalAccessException exception) {
+                // the caller cannot link against the member; try the next caller, and eventually fall back to a proxy
+                continue;
+            }
+
+            try {
+                return type.cast(instance == null ? factory.invoke() : factory.invoke(instance));
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                // the factory of a lambda does not throw checked exceptions
+                throw new IllegalStateException(throwable);
+            }
+        }
+
+        try {
+            MethodHandle handle = unreflect(Handles.lookup(member.getDeclaringClass()), member);
+            if (instance != null) handle = handle.bindTo(instance);
+            return MethodHandleProxies.asInterfaceInstance(type, handle.asType(samType));
+        } catch (IllegalAccessException | WrongMethodTypeException | IllegalArgumentException exception) {
+            throw MismatchedArgumentsException.from("Could not create '%s' from '%s': %s", type.getName(), member, exception.getMessage());
+        }
+    }
+
+    private static @NotNull Method findSingleAbstractMethod(@NotNull Class<?> type) {
+        if (!type.isInterface())
+            throw MismatchedArgumentsException.from("'%s' is not an interface", type.getName());
+
+        Method sam = null;
+        for (Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) continue;
+            if (sam != null && !(sam.getName().equals(method.getName()) && sam.getReturnType() == method.getReturnType()
+                    && MethodType.methodType(void.class, sam.getParameterTypes())
+                    .equals(MethodType.methodType(void.class, method.getParameterTypes()))))
+                throw MismatchedArgumentsException.from("'%s' is not a functional interface; it declares more than one abstract method", type.getName());
+            sam = method;
+        }
+
+        if (sam == null)
+            throw MismatchedArgumentsException.from("'%s' is not a functional interface; it declares no abstract method", type.getName());
+        return sam;
+    }
+
+    private static boolean isObjectMethod(@NotNull Method method) {
+        try {
+            return Modifier.isPublic(Object.class.getMethod(method.getName(), method.getParameterTypes())
+                    .getModifiers());
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the type of the member as seen by the functional interface; the receiver of an unbound instance method is
+     * its first parameter and a constructor returns its declaring class.
+     */
+    private static @NotNull MethodType implementationType(@NotNull Executable member, boolean bound) {
+        Class<?> returnType = member instanceof Method method ? method.getReturnType() : member.getDeclaringClass();
+        MethodType type = MethodType.methodType(returnType, member.getParameterTypes());
+
+        if (member instanceof Method && !Modifier.isStatic(member.getModifiers()) && !bound)
+            type = type.insertParameterTypes(0, member.getDeclaringClass());
+        return type;
+    }
+
+    /**
+     * Checks if values of the interface's parameter types can be passed to the member and the member's return value can
+     * be returned from the interface, using the conversions a lambda would apply.
+     */
+    private static boolean isCompatible(@NotNull MethodType samType, @NotNull MethodType implType) {
+        if (samType.parameterCount() != implType.parameterCount()) return false;
+        for (int i = 0; i < samType.parameterCount(); i++)
+            if (!isConvertible(samType.parameterType(i), implType.parameterType(i))) return false;
+
+        if (samType.returnType() == void.class) return true;
+        if (implType.returnType() == void.class) return false;
+        return isConvertible(implType.returnType(), samType.returnType());
+    }
+
+    private static boolean isConvertible(@NotNull Class<?> from, @NotNull Class<?> to) {
+        if (from == to) return true;
+        if (from.isPrimitive() && to.isPrimitive()) return Primitives.isWidening(from, to);
+        if (from.isPrimitive()) return to.isAssignableFrom(Primitives.wrap(from));
+        if (to.isPrimitive()) {
+            Class<?> unwrapped = Primitives.unwrap(from);
+            return unwrapped != from ? Primitives.isWidening(unwrapped, to) : from.isAssignableFrom(Primitives.wrap(to));
+        }
+        return from.isAssignableFrom(to) || to.isAssignableFrom(from);
+    }
+
+    /**
+     * Returns the type the metafactory should specialize the interface method to. This is the interface's type with
+     * every reference narrowed to the member's type, so that the generated class casts before calling the member.
+     */
+    private static @NotNull MethodType instantiate(@NotNull MethodType samType, @NotNull MethodType implType) {
+        MethodType type = samType;
+        for (int i = 0; i < samType.parameterCount(); i++) {
+            Class<?> samParameter = samType.parameterType(i);
+            Class<?> implParameter = Primitives.wrap(implType.parameterType(i));
+            if (!samParameter.isPrimitive() && samParameter.isAssignableFrom(implParameter))
+                type = type.changeParameterType(i, implParameter);
+        }
+
+        Class<?> samReturn = samType.returnType();
+        Class<?> implReturn = Primitives.wrap(implType.returnType());
+        if (!samReturn.isPrimitive() && samReturn.isAssignableFrom(implReturn))
+            type = type.changeReturnType(implReturn);
+        return type;
+    }
+
+    /**
+     * Returns the lookups to try as the caller of the metafactory, in order of preference. A private lookup in the
+     * declaring class can link against any member, but is only available if the class' package is open to this module.
+     */
+    private static @NotNull List<MethodHandles.Lookup> callers(@NotNull Class<?> declaringClass) {
+        List<MethodHandles.Lookup> callers = new ArrayList<>(2);
+        MethodHandles.Lookup lookup = Handles.lookup(declaringClass);
+        try {
+            callers.add(MethodHandles.privateLookupIn(declaringClass, lookup));
+        } catch (IllegalAccessException ignored) {
+            // the package is not open to us
+        }
+        callers.add(lookup);
+        return callers;
+    }
+
+    private static @NotNull MethodHandle unreflect(@NotNull MethodHandles.Lookup lookup, @NotNull Executable member) throws IllegalAccessException {
+        return member instanceof Method method
+                ? lookup.unreflect(method)
+                : lookup.unreflectConstructor((Constructor<?>) member);
+    }
+}
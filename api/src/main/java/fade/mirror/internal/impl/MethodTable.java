@@ -0,0 +1,103 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.MMethod;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The effective methods of a class, like a virtual method table: every non-private instance method that can be invoked
+ * on an instance of the class, once per signature, mapped to the implementation a virtual call dispatches to.
+ * <p>
+ * A table is derived from the table of the superclass and the tables of the direct interfaces, so every class of a
+ * hierarchy only resolves its own declarations. The methods of the class override those of the superclass. Methods of
+ * interfaces fill the signatures that no class in the superclass chain declares; where several interfaces declare a
+ * signature, the method of the most specific interface is used, and default methods are preferred over abstract
+ * methods of unrelated interfaces.
+ * </p>
+ *
+ * @author fade
+ */
+final class MethodTable {
+
+    private static final MethodTable EMPTY = new MethodTable(Map.of());
+
+    /**
+     * The effective methods by signature, in the order the signatures are first declared, starting at the root of the
+     * hierarchy. The map is never modified after the table is created.
+     */
+    private final Map<Signature, MMethod<?>> methods;
+
+    private MethodTable(@NotNull Map<Signature, MMethod<?>> methods) {
+        this.methods = methods;
+    }
+
+    /**
+     * Derives the table of a class.
+     *
+     * @param rawMethods      the declared methods of the class.
+     * @param methods         the mirrors of the declared methods, in the same order.
+     * @param superclassTable the table of the superclass, or {@code null} if the class has no superclass.
+     * @param interfaceTables the tables of the direct interfaces of the class.
+     * @return the table.
+     */
+    @Contract(value = "_, _, _, _ -> new", pure = true)
+    static @NotNull MethodTable from(@NotNull Method[] rawMethods, @NotNull MMethod<?>[] methods, @Nullable MethodTable superclassTable, @NotNull MethodTable[] interfaceTables) {
+        Map<Signature, MMethod<?>> table = new LinkedHashMap<>((superclassTable == null ? EMPTY : superclassTable).methods);
+
+        for (int i = 0; i < rawMethods.length; i++) {
+            Method method = rawMethods[i];
+            int modifiers = method.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers) || method.isBridge()) continue;
+            table.put(Signature.from(method.getName(), method.getParameterTypes()), methods[i]);
+        }
+
+        for (MethodTable interfaceTable : interfaceTables)
+            interfaceTable.methods.forEach((signature, method) -> table.merge(signature, method, MethodTable::mostSpecific));
+
+        return new MethodTable(table);
+    }
+
+    /**
+     * Chooses the method a virtual call dispatches to, between the method currently in a table and a method of an
+     * interface with the same signature.
+     *
+     * @param current   the method currently in the table.
+     * @param candidate the method of the interface.
+     * @return the method to keep in the table.
+     */
+    private static @NotNull MMethod<?> mostSpecific(@NotNull MMethod<?> current, @NotNull MMethod<?> candidate) {
+        Class<?> currentClass = current.getDeclaringClass().getRawClass();
+        if (!currentClass.isInterface()) return current;
+
+        Class<?> candidateClass = candidate.getDeclaringClass().getRawClass();
+        if (currentClass.isAssignableFrom(candidateClass)) return candidate;
+        if (candidateClass.isAssignableFrom(currentClass)) return current;
+        return Modifier.isAbstract(current.getModifiers()) && !Modifier.isAbstract(candidate.getModifiers()) ? candidate : current;
+    }
+
+    /**
+     * Returns the effective methods.
+     *
+     * @return the methods.
+     */
+    @NotNull Collection<MMethod<?>> methods() {
+        return this.methods.values();
+    }
+
+    /**
+     * Returns the effective method with the given signature.
+     *
+     * @param signature the signature.
+     * @return the method, or {@code null} if there is no method with the signature.
+     */
+    @Nullable MMethod<?> get(@NotNull Signature signature) {
+        return this.methods.get(signature);
+    }
+}
@@ -0,0 +1,120 @@
+package fade.mirror.internal.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Utilities for working with primitive types and their wrappers.
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+public final class Primitives {
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(boolean.class, Boolean.class, byte.class, Byte.class, char.class, Character.class, short.class, Short.class, int.class, Integer.class, long.class, Long.class, float.class, Float.class, double.class, Double.class, void.class, Void.class);
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(Boolean.class, boolean.class, Byte.class, byte.class, Character.class, char.class, Short.class, short.class, Integer.class, int.class, Long.class, long.class, Float.class, float.class, Double.class, double.class, Void.class, void.class);
+
+    @Contract(" -> fail")
+    private Primitives() {
+        throw new UnsupportedOperationException("Instantiating '%s' is forbidden!".formatted(this.getClass()
+                .getName()));
+    }
+
+    /**
+     * Returns the wrapper of the given type if it is primitive, or the type itself otherwise.
+     *
+     * @param type the type.
+     * @return the wrapped type.
+     */
+    @Contract(pure = true)
+    public static @NotNull Class<?> wrap(@NotNull Class<?> type) {
+        return type.isPrimitive() ? WRAPPERS.get(type) : type;
+    }
+
+    /**
+     * Returns the primitive of the given type if it is a wrapper, or the type itself otherwise.
+     *
+     * @param type the type.
+     * @return the unwrapped type.
+     */
+    @Contract(pure = true)
+    static @NotNull Class<?> unwrap(@NotNull Class<?> type) {
+        return PRIMITIVES.getOrDefault(type, type);
+    }
+
+    /**
+     * Checks if a value of the primitive type {@code from} can be converted to the primitive type {@code to} by an
+     * identity or widening primitive conversion (JLS 5.1.2).
+     *
+     * @param from the source type.
+     * @param to   the target type.
+     * @return {@code true} if the conversion exists, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    static boolean isWidening(@NotNull Class<?> from, @NotNull Class<?> to) {
+        if (from == to) return true;
+        if (from == byte.class) return to == short.class || to == int.class || to == long.class || to == float.class || to == double.class;
+        if (from == short.class || from == char.class) return to == int.class || to == long.class || to == float.class || to == double.class;
+        if (from == int.class) return to == long.class || to == float.class || to == double.class;
+        if (from == long.class) return to == float.class || to == double.class;
+        if (from == float.class) return to == double.class;
+        return false;
+    }
+
+    /**
+     * Returns the wrappers whose values can be passed for the given primitive type, i.e. those whose primitive widens to
+     * it. For example, {@code long} accepts {@link Byte}, {@link Short}, {@link Character}, {@link Integer} and
+     * {@link Long}.
+     *
+     * @param type the primitive type.
+     * @return the wrappers.
+     */
+    @Contract(pure = true)
+    static @NotNull Class<?>[] wideningWrappers(@NotNull Class<?> type) {
+        return PRIMITIVES.entrySet()
+                .stream()
+                .filter(entry -> isWidening(entry.getValue(), type))
+                .map(Map.Entry::getKey)
+                .toArray(Class<?>[]::new);
+    }
+
+    /**
+     * Converts a wrapper to the wrapper of the given primitive type by a widening primitive conversion. The value has to
+     * be an instance of one of the {@link #wideningWrappers(Class) widening wrappers} of the type.
+     *
+     * @param value the value.
+     * @param type  the primitive type.
+     * @return the converted value.
+     */
+    @Contract(pure = true)
+    static @NotNull Object widen(@NotNull Object value, @NotNull Class<?> type) {
+        if (value.getClass() == WRAPPERS.get(type)) return value;
+
+        Number number = value instanceof Character character ? (int) character : (Number) value;
+        if (type == short.class) return number.shortValue();
+        if (type == int.class) return number.intValue();
+        if (type == long.class) return number.longValue();
+        if (type == float.class) return number.floatValue();
+        return number.doubleValue();
+    }
+
+    /**
+     * Checks if every value passed for a primitive type is an instance of that type's exact wrapper, i.e. it can be
+     * unboxed without any widening conversion.
+     *
+     * @param types  the types.
+     * @param values the values, one per type.
+     * @return {@code true} if the values can be unboxed as they are, {@code false} otherwise.
+     */
+    @Contract(pure = true)
+    static boolean isExact(@NotNull Class<?>[] types, @NotNull Object[] values) {
+        for (int i = 0; i < types.length; i++)
+            if (types[i].isPrimitive() && (values[i] == null || values[i].getClass() != WRAPPERS.get(types[i])))
+                return false;
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package fade.mirror.internal.impl;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * The name and parameter types of a method, used as the key of the signature index of a class. The hash code is
+ * computed once, so that a lookup costs a single probe.
+ *
+ * @author fade
+ */
+final class Signature {
+
+    private final String name;
+
+    private final Class<?>[] parameterTypes;
+
+    private final int hash;
+
+    private Signature(@NotNull String name, @NotNull Class<?>[] parameterTypes) {
+        this.name = name;
+        this.parameterTypes = parameterTypes;
+        this.hash = 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+
+    /**
+     * Creates the signature with the given name and parameter types. The array is not copied; it must not be modified
+     * while the signature is in use.
+     *
+     * @param name           the name of the method.
+     * @param parameterTypes the parameter types of the method.
+     * @return the signature.
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    static @NotNull Signature from(@NotNull String name, @NotNull Class<?>[] parameterTypes) {
+        return new Signature(name, parameterTypes);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object object) {
+        if (this == object) return true;
+        if (!(object instanceof Signature other)) return false;
+        return this.hash == other.hash && this.name.equals(other.name) && Arrays.equals(this.parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "%s%s".formatted(this.name, Arrays.toString(this.parameterTypes));
+    }
+}
@@ -0,0 +1,137 @@
+package fade.mirror.internal.impl;
+
+import fade.mirror.MClass;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * The linearized supertypes of a class. The linearization starts with the class itself, followed by its superclasses
+ * from the nearest up to {@link Object}, followed by every superinterface exactly once: first the interfaces of the
+ * class itself, in declaration order, each followed by its own superinterfaces, then those inherited from the
+ * superclasses, in the order of the superclasses.
+ * <p>
+ * Superclasses are also kept by depth, like a display: the class at index {@code n} is the superclass at depth
+ * {@code n}, with {@link Object} at depth 0, so checking whether a class is a subclass of another class is a single
+ * array access. Superinterfaces are kept in a set.
+ * </p>
+ *
+ * @author fade
+ */
+final class Supertypes {
+
+    /**
+     * The linearization, starting with the class itself.
+     */
+    private final MClass<?>[] types;
+
+    /**
+     * The number of classes at the start of {@link #types}: the class itself and its superclasses.
+     */
+    private final int classCount;
+
+    /**
+     * The superclasses by depth, ending with the class itself. For an interface, this contains only {@link Object}.
+     */
+    private final Class<?>[] display;
+
+    /**
+     * The superinterfaces, including the class itself if it is an interface.
+     */
+    private final Set<Class<?>> interfaces;
+
+    private Supertypes(@NotNull MClass<?>[] types, int classCount, @NotNull Class<?>[] display, @NotNull Set<Class<?>> interfaces) {
+        this.types = types;
+        this.classCount = classCount;
+        this.display = display;
+        this.interfaces = interfaces;
+    }
+
+    /**
+     * Linearizes the supertypes of a class from those of its superclass and its direct interfaces.
+     *
+     * @param clazz      the class.
+     * @param superclass the supertypes of the superclass, or {@code null} if the class has no superclass.
+     * @param interfaces the supertypes of the direct interfaces of the class.
+     * @return the supertypes.
+     */
+    @Contract(value = "_, _, _ -> new", pure = true)
+    static @NotNull Supertypes from(@NotNull MClass<?> clazz, @Nullable Supertypes superclass, @NotNull Supertypes[] interfaces) {
+        Set<MClass<?>> types = new LinkedHashSet<>();
+        types.add(clazz);
+        if (superclass != null) types.addAll(Arrays.asList(superclass.types).subList(0, superclass.classCount));
+
+        int classCount = types.size();
+        for (Supertypes type : interfaces)
+            Collections.addAll(types, type.types);
+        if (superclass != null)
+            types.addAll(Arrays.asList(superclass.types).subList(superclass.classCount, superclass.types.length));
+
+        Class<?> raw = clazz.getRawClass();
+        Class<?>[] display;
+        if (raw.isInterface()) display = new Class<?>[]{Object.class};
+        else if (superclass == null) display = new Class<?>[]{raw};
+        else {
+            display = Arrays.copyOf(superclass.display, superclass.display.length + 1);
+            display[superclass.display.length] = raw;
+        }
+
+        return new Supertypes(types.toArray(MClass<?>[]::new), classCount, display, Set.copyOf(types.stream()
+                .<Class<?>>map(MClass::getRawClass)
+                .filter(Class::isInterface)
+                .toList()));
+    }
+
+    /**
+     * Returns the depth of the class: 0 for {@link Object}, the interfaces and classes without a superclass, and one
+     * more than the depth of the superclass otherwise.
+     *
+     * @return the depth.
+     */
+    int depth() {
+        return this.display.length - 1;
+    }
+
+    /**
+     * Checks whether the given class or interface is a supertype of the class, or the class itself. The given class
+     * must be neither primitive nor an array class.
+     *
+     * @param type       the class or interface.
+     * @param supertypes the supertypes of the class or interface.
+     * @return whether the type is a supertype.
+     */
+    boolean contains(@NotNull Class<?> type, @NotNull Supertypes supertypes) {
+        if (type.isInterface()) return this.interfaces.contains(type);
+
+        int depth = supertypes.depth();
+        return depth < this.display.length && this.display[depth] == type;
+    }
+
+    /**
+     * Returns all supertypes.
+     *
+     * @param includeSelf whether to include the class itself.
+     * @return the supertypes, in linearization order.
+     */
+    @NotNull Stream<MClass<?>> all(boolean includeSelf) {
+        return Arrays.stream(this.types, includeSelf ? 0 : 1, this.types.length);
+    }
+
+    /**
+     * Returns the superclasses, from the nearest to the farthest. {@link Object} is not included, unless it is the
+     * class itself.
+     *
+     * @param includeSelf whether to include the class itself.
+     * @return the superclasses.
+     */
+    @NotNull Stream<MClass<?>> superclasses(boolean includeSelf) {
+        int end = this.classCount > 1 && this.types[this.classCount - 1].getRawClass() == Object.class ? this.classCount - 1 : this.classCount;
+        return Arrays.stream(this.types, includeSelf ? 0 : Math.min(1, end), end);
+    }
+}
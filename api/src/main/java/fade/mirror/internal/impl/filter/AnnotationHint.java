@@ -0,0 +1,47 @@
+package fade.mirror.internal.impl.filter;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+
+/**
+ * A filter that can tell which annotation types every element it accepts is annotated with at least one of. Classes
+ * use the hint to look members up in their annotation index, and only test the members annotated with one of those
+ * types against the filter.
+ * <p>
+ * Filters match annotations by assignability, while the index is keyed by the exact annotation types. The hint is thus
+ * only used if every type is an annotation interface, which is the exact type of all of its annotations; a hint such as
+ * {@link Annotation} itself falls back to a linear scan.
+ * </p>
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+public interface AnnotationHint {
+
+    /**
+     * Returns the annotation hint of the given filter.
+     *
+     * @param filter the filter.
+     * @return the annotation types, or {@code null} if the filter is not an {@link AnnotationHint}, does not
+     * constrain the annotations, or constrains them by types that are not annotation interfaces.
+     */
+    static @Nullable Collection<? extends Class<?>> of(@Nullable Object filter) {
+        if (!(filter instanceof AnnotationHint hint)) return null;
+
+        Collection<? extends Class<?>> types = hint.getAnnotationHint();
+        if (types == null) return null;
+        for (Class<?> type : types)
+            if (!type.isAnnotation()) return null;
+        return types;
+    }
+
+    /**
+     * Returns the annotation types of which every element this filter accepts is annotated with at least one.
+     *
+     * @return the annotation types, or {@code null} if this filter does not constrain the annotations.
+     */
+    @Nullable Collection<? extends Class<?>> getAnnotationHint();
+}
@@ -10,7 +10,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Basic implementation of {@link ConstructorFilter}.
@@ -18,13 +20,18 @@ import java.util.List;
  * @author fade
  */
 public final class BasicConstructorFilter
-        implements ConstructorFilter {
+        implements ConstructorFilter, AnnotationHint, ParameterHint {
 
     /**
      * The parameter types to filter by. If {@code null}, no filtering will be done.
      */
     private @Nullable List<Class<?>> parameterTypes;
 
+    /**
+     * The exact parameter types to filter by. If {@code null}, no filtering will be done.
+     */
+    private @Nullable List<Class<?>> exactParameterTypes;
+
     /**
      * The annotations to filter by. If {@code null}, no filtering will be done.
      */
@@ -37,8 +44,9 @@ public final class BasicConstructorFilter
         super();
     }
 
-    private BasicConstructorFilter(@Nullable List<Class<?>> parameterTypes, @Nullable List<Class<? extends Annotation>> annotations) {
+    private BasicConstructorFilter(@Nullable List<Class<?>> parameterTypes, @Nullable List<Class<?>> exactParameterTypes, @Nullable List<Class<? extends Annotation>> annotations) {
         this.parameterTypes = parameterTypes;
+        this.exactParameterTypes = exactParameterTypes;
         this.annotations = annotations;
     }
 
@@ -65,6 +73,17 @@ public final class BasicConstructorFilter
         return this;
     }
 
+    @Override
+    public @NotNull ConstructorFilter withExactParameters(@NotNull List<Class<?>> parameterTypes) {
+        this.exactParameterTypes = List.copyOf(parameterTypes);
+        return this;
+    }
+
+    @Override
+    public @Nullable List<Class<?>> getExactParametersHint() {
+        return this.exactParameterTypes;
+    }
+
     @Override
     public @NotNull ConstructorFilter withNoAnnotations() {
         this.annotations = new ArrayList<>(0);
@@ -84,6 +103,9 @@ public final class BasicConstructorFilter
                 .map(MParameter::getType)
                 .allMatch(parameterType -> this.parameterTypes.stream().anyMatch(parameterType::isAssignableFrom)))
             return false;
+        if (this.exactParameterTypes != null && !this.exactParameterTypes.equals(constructor.getParameters()
+                .map(MParameter::getType)
+                .toList())) return false;
 
         return this.annotations == null || (constructor.getAnnotations()
                 .findAny()
@@ -92,8 +114,18 @@ public final class BasicConstructorFilter
                         .anyMatch(annotationType -> annotationType.isAssignableFrom(annotation.getClass()))));
     }
 
+    @Override
+    public @Nullable Collection<? extends Class<?>> getAnnotationHint() {
+        return this.annotations;
+    }
+
     @Override
     public @NotNull ConstructorFilter copy() {
-        return new BasicConstructorFilter(this.parameterTypes, this.annotations);
+        return new BasicConstructorFilter(this.parameterTypes == null ? null : new ArrayList<>(this.parameterTypes), this.exactParameterTypes, this.annotations == null ? null : new ArrayList<>(this.annotations));
+    }
+
+    @Override
+    public @NotNull Predicate<MConstructor<?>> compile() {
+        return CompiledConstructorFilter.from(this.annotations, this.parameterTypes, this.exactParameterTypes);
     }
 }
@@ -9,7 +9,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Basic implementation of {@link FieldFilter}.
@@ -18,7 +20,7 @@ import java.util.List;
  * @author fade
  */
 public final class BasicFieldFilter<Type>
-        implements FieldFilter<Type> {
+        implements FieldFilter<Type>, NameHint, AnnotationHint {
 
     /**
      * The annotations to filter by. If {@code null}, no filtering will be done.
@@ -75,8 +77,6 @@ public final class BasicFieldFilter<Type>
     public @NotNull FieldFilter<Type> withAnnotations(@NotNull List<Class<? extends Annotation>> annotations, @NotNull RewriteOperation operation) {
         if (this.annotations == null) this.annotations = new ArrayList<>(annotations.size());
         operation.apply(this.annotations, annotations);
-        this.annotations.addAll(annotations);
-
         return this;
     }
 
@@ -103,8 +103,23 @@ public final class BasicFieldFilter<Type>
         return this.type == null || this.type.isAssignableFrom(field.getType());
     }
 
+    @Override
+    public @Nullable Collection<? extends Class<?>> getAnnotationHint() {
+        return this.annotations;
+    }
+
+    @Override
+    public @Nullable String getNameHint() {
+        return this.name;
+    }
+
     @Override
     public @NotNull FieldFilter<Type> copy() {
-        return new BasicFieldFilter<>(this.annotations, this.name, this.type);
+        return new BasicFieldFilter<>(this.annotations == null ? null : new ArrayList<>(this.annotations), this.name, this.type);
+    }
+
+    @Override
+    public @NotNull Predicate<MField<Type>> compile() {
+        return CompiledFieldFilter.from(this.annotations, this.name, this.type);
     }
 }
@@ -10,7 +10,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Basic implementation of {@link MethodFilter}.
@@ -18,13 +20,18 @@ import java.util.List;
  * @author fade
  */
 public final class BasicMethodFilter<Type>
-        implements MethodFilter<Type> {
+        implements MethodFilter<Type>, NameHint, AnnotationHint, ParameterHint {
 
     /**
      * The parameter types to filter by. If {@code null}, no filtering will be done.
      */
     private @Nullable List<Class<?>> parameterTypes;
 
+    /**
+     * The exact parameter types to filter by. If {@code null}, no filtering will be done.
+     */
+    private @Nullable List<Class<?>> exactParameterTypes;
+
     /**
      * The annotations to filter by. If {@code null}, no filtering will be done.
      */
@@ -50,13 +57,15 @@ public final class BasicMethodFilter<Type>
     /**
      * Creates a new {@link BasicMethodFilter} with the given parameters.
      *
-     * @param parameterTypes The parameter types to filter by.
+     * @param parameterTypes      The parameter types to filter by.
+     * @param exactParameterTypes The exact parameter types to filter by.
      * @param annotations    The annotations to filter by.
      * @param name           The name to filter by.
      * @param returnType     The return type to filter by.
      */
-    private BasicMethodFilter(@Nullable List<Class<?>> parameterTypes, @Nullable List<Class<? extends Annotation>> annotations, @Nullable String name, @Nullable Class<?> returnType) {
+    private BasicMethodFilter(@Nullable List<Class<?>> parameterTypes, @Nullable List<Class<?>> exactParameterTypes, @Nullable List<Class<? extends Annotation>> annotations, @Nullable String name, @Nullable Class<?> returnType) {
         this.parameterTypes = parameterTypes;
+        this.exactParameterTypes = exactParameterTypes;
         this.annotations = annotations;
         this.name = name;
         this.returnType = returnType;
@@ -79,6 +88,9 @@ public final class BasicMethodFilter<Type>
                 .map(MParameter::getType)
                 .allMatch(parameterType -> this.parameterTypes.stream().anyMatch(parameterType::isAssignableFrom)))
             return false;
+        if (this.exactParameterTypes != null && !this.exactParameterTypes.equals(method.getParameters()
+                .map(MParameter::getType)
+                .toList())) return false;
 
         if (this.annotations != null && (method.getAnnotations().findAny().isEmpty() || !method.getAnnotations()
                 .allMatch(annotation -> this.annotations.stream()
@@ -120,14 +132,40 @@ public final class BasicMethodFilter<Type>
         return this;
     }
 
+    @Override
+    public @NotNull MethodFilter<Type> withExactParameters(@NotNull List<Class<?>> parameterTypes) {
+        this.exactParameterTypes = List.copyOf(parameterTypes);
+        return this;
+    }
+
+    @Override
+    public @Nullable List<Class<?>> getExactParametersHint() {
+        return this.exactParameterTypes;
+    }
+
     @Override
     public @NotNull MethodFilter<Type> withName(@NotNull String name) {
         this.name = name;
         return this;
     }
 
+    @Override
+    public @Nullable Collection<? extends Class<?>> getAnnotationHint() {
+        return this.annotations;
+    }
+
+    @Override
+    public @Nullable String getNameHint() {
+        return this.name;
+    }
+
     @Override
     public @NotNull MethodFilter<Type> copy() {
-        return new BasicMethodFilter<>(this.parameterTypes, this.annotations, this.name, this.returnType);
+        return new BasicMethodFilter<>(this.parameterTypes == null ? null : new ArrayList<>(this.parameterTypes), this.exactParameterTypes, this.annotations == null ? null : new ArrayList<>(this.annotations), this.name, this.returnType);
+    }
+
+    @Override
+    public @NotNull Predicate<MMethod<Type>> compile() {
+        return CompiledMethodFilter.from(this.name, this.annotations, this.parameterTypes, this.exactParameterTypes, this.returnType);
     }
 }
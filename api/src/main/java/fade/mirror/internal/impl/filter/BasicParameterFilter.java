@@ -8,7 +8,9 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Basic implementation of {@link ParameterFilter}.
@@ -16,7 +18,7 @@ import java.util.List;
  * @author fade
  */
 public final class BasicParameterFilter
-        implements ParameterFilter {
+        implements ParameterFilter, NameHint, AnnotationHint {
 
     /**
      * The annotations to filter by. If {@code null}, no filtering will be done.
@@ -80,9 +82,24 @@ public final class BasicParameterFilter
         return this.type == null || this.type.isAssignableFrom(parameter.getType());
     }
 
+    @Override
+    public @Nullable Collection<? extends Class<?>> getAnnotationHint() {
+        return this.annotations;
+    }
+
+    @Override
+    public @Nullable String getNameHint() {
+        return this.name;
+    }
+
     @Override
     public @NotNull ParameterFilter copy() {
-        return new BasicParameterFilter(this.annotations, this.name, this.type);
+        return new BasicParameterFilter(this.annotations == null ? null : new ArrayList<>(this.annotations), this.name, this.type);
+    }
+
+    @Override
+    public @NotNull Predicate<MParameter<?>> compile() {
+        return CompiledParameterFilter.from(this.annotations, this.name, this.type);
     }
 
     @Override
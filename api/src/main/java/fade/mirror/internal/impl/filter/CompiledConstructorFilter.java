@@ -0,0 +1,30 @@
+package fade.mirror.internal.impl.filter;
+
+import fade.mirror.MConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * The compiled form of {@link BasicConstructorFilter}.
+ *
+ * @author fade
+ */
+final class CompiledConstructorFilter
+        extends CompiledFilter<MConstructor<?>> {
+
+    private CompiledConstructorFilter(@Nullable List<Class<? extends Annotation>> annotations, @Nullable List<Class<?>> parameterTypes, @Nullable List<Class<?>> exactParameterTypes) {
+        super(null, annotations, parameterTypes, exactParameterTypes, null);
+    }
+
+    static @NotNull CompiledConstructorFilter from(@Nullable List<Class<? extends Annotation>> annotations, @Nullable List<Class<?>> parameterTypes, @Nullable List<Class<?>> exactParameterTypes) {
+        return new CompiledConstructorFilter(annotations, parameterTypes, exactParameterTypes);
+    }
+
+    @Override
+    public boolean test(MConstructor<?> constructor) {
+        return this.hasMatchingParameters(constructor) && this.hasExactParameters(constructor) && this.isAnnotatedOnlyWithin(constructor);
+    }
+}
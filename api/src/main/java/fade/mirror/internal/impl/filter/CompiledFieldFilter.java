@@ -0,0 +1,31 @@
+package fade.mirror.internal.impl.filter;
+
+import fade.mirror.MField;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * The compiled form of {@link BasicFieldFilter}.
+ *
+ * @param <Type> the type of the fields.
+ * @author fade
+ */
+final class CompiledFieldFilter<Type>
+        extends CompiledFilter<MField<Type>> {
+
+    private CompiledFieldFilter(@Nullable List<Class<? extends Annotation>> annotations, @Nullable String name, @Nullable Class<?> type) {
+        super(name, annotations, null, null, type);
+    }
+
+    static <Type> @NotNull CompiledFieldFilter<Type> from(@Nullable List<Class<? extends Annotation>> annotations, @Nullable String name, @Nullable Class<?> type) {
+        return new CompiledFieldFilter<>(annotations, name, type);
+    }
+
+    @Override
+    public boolean test(MField<Type> field) {
+        return this.hasMatchingName(field.getName()) && this.isAnnotatedOnlyWithin(field) && this.hasMatchingType(field.getType());
+    }
+}
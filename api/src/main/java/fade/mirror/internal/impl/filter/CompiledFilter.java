@@ -0,0 +1,228 @@
+package fade.mirror.internal.impl.filter;
+
+import fade.mirror.Annotated;
+import fade.mirror.Invokable;
+import fade.mirror.MParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The immutable form of a filter, created by {@link fade.mirror.filter.Filter#compile()}. The constraints of the filter
+ * are snapshotted into sets and arrays, so that testing an element does not allocate when the element is a
+ * {@link FilterTarget}. Two compiled filters of the same kind with the same constraints are equal.
+ *
+ * @param <Type> the type of the elements to test.
+ * @author fade
+ */
+abstract sealed class CompiledFilter<Type>
+        implements Predicate<Type>, NameHint, AnnotationHint, ParameterHint
+        permits CompiledMethodFilter, CompiledConstructorFilter, CompiledFieldFilter, CompiledParameterFilter {
+
+    /**
+     * The interned name to match, or {@code null} if the filter has no name constraint.
+     */
+    final @Nullable String name;
+
+    /**
+     * The annotation types to match, or {@code null} if the filter has no annotation constraint.
+     */
+    final @Nullable Set<Class<?>> annotations;
+
+    /**
+     * The elements of {@link #annotations} as an array, for the assignability checks.
+     */
+    final @NotNull Class<?>[] annotationTable;
+
+    /**
+     * The parameter types to match, or {@code null} if the filter has no parameter constraint.
+     */
+    final @Nullable Set<Class<?>> parameterTypes;
+
+    /**
+     * The elements of {@link #parameterTypes} as an array, for the assignability checks.
+     */
+    final @NotNull Class<?>[] parameterTable;
+
+    /**
+     * The exact parameter types to match, or {@code null} if the filter has no exact parameter constraint.
+     */
+    final @Nullable List<Class<?>> exactParameterTypes;
+
+    /**
+     * The elements of {@link #exactParameterTypes} as an array, for the comparisons.
+     */
+    final @Nullable Class<?>[] exactParameterTable;
+
+    /**
+     * The type to match, or {@code null} if the filter has no type constraint.
+     */
+    final @Nullable Class<?> type;
+
+    /**
+     * The hash code of the filter, computed once since compiled filters are meant to be used as keys.
+     */
+    private final int hash;
+
+    CompiledFilter(@Nullable String name, @Nullable List<? extends Class<?>> annotations, @Nullable List<Class<?>> parameterTypes, @Nullable List<Class<?>> exactParameterTypes, @Nullable Class<?> type) {
+        this.name = name == null ? null : name.intern();
+        this.annotations = annotations == null ? null : Set.copyOf(annotations);
+        this.annotationTable = this.annotations == null ? FilterTarget.NO_TYPES : this.annotations.toArray(FilterTarget.NO_TYPES);
+        this.parameterTypes = parameterTypes == null ? null : Set.copyOf(parameterTypes);
+        this.parameterTable = this.parameterTypes == null ? FilterTarget.NO_TYPES : this.parameterTypes.toArray(FilterTarget.NO_TYPES);
+        this.exactParameterTypes = exactParameterTypes == null ? null : List.copyOf(exactParameterTypes);
+        this.exactParameterTable = this.exactParameterTypes == null ? null : this.exactParameterTypes.toArray(FilterTarget.NO_TYPES);
+        this.type = type;
+        this.hash = Objects.hash(this.getClass(), this.name, this.annotations, this.parameterTypes, this.exactParameterTypes, type);
+    }
+
+    /**
+     * Checks whether the given element has at least one annotation, and only annotations of the types of this filter.
+     *
+     * @param element the element.
+     * @return whether the annotations match.
+     */
+    final boolean isAnnotatedOnlyWithin(@NotNull Annotated element) {
+        if (this.annotations == null) return true;
+
+        Class<? extends Annotation>[] types = annotationTypes(element);
+        if (types.length == 0) return false;
+        for (Class<? extends Annotation> type : types) {
+            if (this.annotations.contains(type)) continue;
+            if (!isAssignableToAny(this.annotationTable, type)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given element has an annotation of one of the types of this filter.
+     *
+     * @param element the element.
+     * @return whether the annotations match.
+     */
+    final boolean isAnnotatedWithAny(@NotNull Annotated element) {
+        if (this.annotations == null) return true;
+
+        for (Class<? extends Annotation> type : annotationTypes(element))
+            if (this.annotations.contains(type) || isAssignableToAny(this.annotationTable, type)) return true;
+        return false;
+    }
+
+    /**
+     * Checks whether every parameter type of the given element is assignable from one of the parameter types of this
+     * filter.
+     *
+     * @param element the element.
+     * @return whether the parameters match.
+     */
+    final boolean hasMatchingParameters(@NotNull Invokable<?> element) {
+        if (this.parameterTypes == null) return true;
+
+        for (Class<?> parameterType : parameterTypes(element)) {
+            if (this.parameterTypes.contains(parameterType)) continue;
+            if (!isAnyAssignableTo(this.parameterTable, parameterType)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the parameter types of the given element are exactly the exact parameter types of this filter.
+     *
+     * @param element the element.
+     * @return whether the parameters match.
+     */
+    final boolean hasExactParameters(@NotNull Invokable<?> element) {
+        return this.exactParameterTable == null || Arrays.equals(this.exactParameterTable, parameterTypes(element));
+    }
+
+    /**
+     * Checks whether the given type is assignable to one of the given types.
+     */
+    private static boolean isAssignableToAny(@NotNull Class<?>[] types, @NotNull Class<?> type) {
+        for (Class<?> candidate : types)
+            if (candidate.isAssignableFrom(type)) return true;
+        return false;
+    }
+
+    /**
+     * Checks whether one of the given types is assignable to the given type.
+     */
+    private static boolean isAnyAssignableTo(@NotNull Class<?>[] types, @NotNull Class<?> type) {
+        for (Class<?> candidate : types)
+            if (type.isAssignableFrom(candidate)) return true;
+        return false;
+    }
+
+    /**
+     * Checks whether the given name matches the name of this filter.
+     *
+     * @param name the name.
+     * @return whether the name matches.
+     */
+    final boolean hasMatchingName(@NotNull String name) {
+        return this.name == null || this.name.equals(name);
+    }
+
+    /**
+     * Checks whether the given type is assignable to the type of this filter.
+     *
+     * @param type the type.
+     * @return whether the type matches.
+     */
+    final boolean hasMatchingType(@NotNull Class<?> type) {
+        return this.type == null || this.type.isAssignableFrom(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Class<? extends Annotation>[] annotationTypes(@NotNull Annotated element) {
+        if (element instanceof FilterTarget target) return target.annotationTypes();
+        return element.getAnnotations().map(Annotation::annotationType).toArray(Class[]::new);
+    }
+
+    private static @NotNull Class<?>[] parameterTypes(@NotNull Invokable<?> element) {
+        if (element instanceof FilterTarget target) return target.parameterTypes();
+        return element.getParameters().map(MParameter::getType).toArray(Class<?>[]::new);
+    }
+
+    @Override
+    public @Nullable Collection<? extends Class<?>> getAnnotationHint() {
+        return this.annotations;
+    }
+
+    @Override
+    public @Nullable List<Class<?>> getExactParametersHint() {
+        return this.exactParameterTypes;
+    }
+
+    @Override
+    public @Nullable String getNameHint() {
+        return this.name;
+    }
+
+    @Override
+    public final boolean equals(@Nullable Object object) {
+        if (this == object) return true;
+        if (object == null || this.getClass() != object.getClass()) return false;
+
+        CompiledFilter<?> other = (CompiledFilter<?>) object;
+        return this.hash == other.hash && Objects.equals(this.name, other.name) && Objects.equals(this.annotations, other.annotations) && Objects.equals(this.parameterTypes, other.parameterTypes) && Objects.equals(this.exactParameterTypes, other.exactParameterTypes) && this.type == other.type;
+    }
+
+    @Override
+    public final int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "%s[name=%s, annotations=%s, parameterTypes=%s, exactParameterTypes=%s, type=%s]".formatted(this.getClass()
+                .getSimpleName(), this.name, this.annotations, this.parameterTypes, this.exactParameterTypes, this.type);
+    }
+}
@@ -0,0 +1,31 @@
+package fade.mirror.internal.impl.filter;
+
+import fade.mirror.MMethod;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * The compiled form of {@link BasicMethodFilter}.
+ *
+ * @param <Type> the return type of the methods.
+ * @author fade
+ */
+final class CompiledMethodFilter<Type>
+        extends CompiledFilter<MMethod<Type>> {
+
+    private CompiledMethodFilter(@Nullable String name, @Nullable List<Class<? extends Annotation>> annotations, @Nullable List<Class<?>> parameterTypes, @Nullable List<Class<?>> exactParameterTypes, @Nullable Class<?> returnType) {
+        super(name, annotations, parameterTypes, exactParameterTypes, returnType);
+    }
+
+    static <Type> @NotNull CompiledMethodFilter<Type> from(@Nullable String name, @Nullable List<Class<? extends Annotation>> annotations, @Nullable List<Class<?>> parameterTypes, @Nullable List<Class<?>> exactParameterTypes, @Nullable Class<?> returnType) {
+        return new CompiledMethodFilter<>(name, annotations, parameterTypes, exactParameterTypes, returnType);
+    }
+
+    @Override
+    public boolean test(MMethod<Type> method) {
+        return this.hasMatchingName(method.getName()) && this.hasMatchingParameters(method) && this.hasExactParameters(method) && this.isAnnotatedOnlyWithin(method) && this.hasMatchingType(method.getReturnType());
+    }
+}
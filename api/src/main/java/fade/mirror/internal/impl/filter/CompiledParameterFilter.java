@@ -0,0 +1,30 @@
+package fade.mirror.internal.impl.filter;
+
+import fade.mirror.MParameter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * The compiled form of {@link BasicParameterFilter}.
+ *
+ * @author fade
+ */
+final class CompiledParameterFilter
+        extends CompiledFilter<MParameter<?>> {
+
+    private CompiledParameterFilter(@Nullable List<Class<? extends Annotation>> annotations, @Nullable String name, @Nullable Class<?> type) {
+        super(name, annotations, null, null, type);
+    }
+
+    static @NotNull CompiledParameterFilter from(@Nullable List<Class<? extends Annotation>> annotations, @Nullable String name, @Nullable Class<?> type) {
+        return new CompiledParameterFilter(annotations, name, type);
+    }
+
+    @Override
+    public boolean test(MParameter<?> parameter) {
+        return this.hasMatchingName(parameter.getName()) && this.isAnnotatedWithAny(parameter) && this.hasMatchingType(parameter.getType());
+    }
+}
@@ -0,0 +1,51 @@
+package fade.mirror.internal.impl.filter;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * An element that exposes the properties compiled filters test as cached arrays, so that testing it does not
+ * allocate. The mirrors of methods, constructors, fields and parameters implement this interface.
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+public interface FilterTarget {
+
+    /**
+     * An empty array of types, for elements without annotations or parameters.
+     */
+    Class<?>[] NO_TYPES = new Class<?>[0];
+
+    /**
+     * Returns the types of the given annotations, in the same order.
+     *
+     * @param annotations the annotations.
+     * @return the annotation types.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static @NotNull Class<? extends Annotation>[] typesOf(@NotNull Annotation[] annotations) {
+        Class<? extends Annotation>[] types = new Class[annotations.length];
+        for (int i = 0; i < annotations.length; i++)
+            types[i] = annotations[i].annotationType();
+        return types;
+    }
+
+    /**
+     * Returns the types of the annotations of the element, in declaration order. The array is shared and must not be
+     * modified.
+     *
+     * @return the annotation types.
+     */
+    @NotNull Class<? extends Annotation>[] annotationTypes();
+
+    /**
+     * Returns the types of the parameters of the element, in declaration order, or an empty array if the element has no
+     * parameters. The array is shared and must not be modified.
+     *
+     * @return the parameter types.
+     */
+    @NotNull Class<?>[] parameterTypes();
+}
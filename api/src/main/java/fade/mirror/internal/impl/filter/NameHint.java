@@ -0,0 +1,32 @@
+package fade.mirror.internal.impl.filter;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A filter that can tell which name every element it accepts must have. Classes use the hint to look members up in
+ * their name index, and only test the members with that name against the filter.
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+public interface NameHint {
+
+    /**
+     * Returns the name hint of the given filter.
+     *
+     * @param filter the filter.
+     * @return the name every element the filter accepts must have, or {@code null} if the filter is not a
+     * {@link NameHint} or does not constrain the name.
+     */
+    static @Nullable String of(@Nullable Object filter) {
+        return filter instanceof NameHint hint ? hint.getNameHint() : null;
+    }
+
+    /**
+     * Returns the name every element this filter accepts must have.
+     *
+     * @return the name, or {@code null} if this filter does not constrain the name.
+     */
+    @Nullable String getNameHint();
+}
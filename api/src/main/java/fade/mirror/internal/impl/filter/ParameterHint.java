@@ -0,0 +1,34 @@
+package fade.mirror.internal.impl.filter;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A filter that can tell the exact parameter types every element it accepts has. Together with a {@link NameHint},
+ * classes use the hint to resolve methods with a single lookup in their signature index.
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+public interface ParameterHint {
+
+    /**
+     * Returns the parameter hint of the given filter.
+     *
+     * @param filter the filter.
+     * @return the exact parameter types, or {@code null} if the filter is not a {@link ParameterHint} or does not
+     * require exact parameter types.
+     */
+    static @Nullable List<Class<?>> of(@Nullable Object filter) {
+        return filter instanceof ParameterHint hint ? hint.getExactParametersHint() : null;
+    }
+
+    /**
+     * Returns the exact parameter types every element this filter accepts has, in order.
+     *
+     * @return the parameter types, or {@code null} if this filter does not require exact parameter types.
+     */
+    @Nullable List<Class<?>> getExactParametersHint();
+}
@@ -0,0 +1,259 @@
+package fade.mirror.internal.impl.generate;
+
+import fade.mirror.internal.impl.Primitives;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Generates accessor classes for fields, methods and constructors. Each accessor is a tiny hidden class, defined as a
+ * nestmate of the member's declaring class so that it can access private members directly, and implements one of the
+ * {@code java.util.function} interfaces so that it can be called without reflection:
+ * <ul>
+ *     <li>field getters implement {@link Function}, taking the instance and returning the (boxed) value;</li>
+ *     <li>field setters implement {@link BiConsumer}, taking the instance and the (boxed) value;</li>
+ *     <li>invokers implement {@link BiFunction}, taking the instance and the argument array and returning the (boxed)
+ *     result.</li>
+ * </ul>
+ * <p>
+ * Accessors perform no conversions beyond unboxing; callers have to make sure every primitive value is passed as an
+ * instance of its exact wrapper type. Every method returns {@code null} if the member is not supported, and throws if
+ * the accessor could not be defined.
+ * </p>
+ * <p>
+ * Defining a nestmate requires a lookup with full privilege access to the declaring class, which this class only has
+ * for classes of its own module. Accessors are thus only generated when the mirror API runs on the class path, where
+ * it shares the unnamed module with the classes it reflects on, or for classes of the mirror module itself. Members
+ * of other modules keep being accessed reflectively.
+ * </p>
+ * <p>
+ * Members are first accessed reflectively and switch to a generated accessor once they have been used
+ * {@link #THRESHOLD} times; see {@link Inflation}.
+ * </p>
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+public final class Accessors {
+
+    /**
+     * The number of reflective accesses after which a member switches to a generated accessor. It can be configured
+     * with the {@code fade.mirror.inflationThreshold} system property; a negative value disables generation.
+     */
+    public static final int THRESHOLD = Integer.getInteger("fade.mirror.inflationThreshold", 15);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+
+    @Contract(" -> fail")
+    private Accessors() {
+        throw new UnsupportedOperationException("Instantiating '%s' is forbidden!".formatted(this.getClass()
+                .getName()));
+    }
+
+    /**
+     * Generates a getter for the given field.
+     *
+     * @param field the field.
+     * @return the getter, or {@code null} if generation is disabled.
+     * @throws ReflectiveOperationException if the getter could not be defined.
+     */
+    @SuppressWarnings("unchecked")
+    public static @Nullable Function<Object, Object> getter(@NotNull Field field) throws ReflectiveOperationException {
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        String owner = internalName(field.getDeclaringClass());
+
+        return (Function<Object, Object>) define(field.getDeclaringClass(), new Class<?>[]{field.getType()}, "java/util/function/Function", writer -> {
+            ClassFileWriter.Code code = writer.method("apply", "(" + OBJECT_DESCRIPTOR + ")" + OBJECT_DESCRIPTOR, 3, 2);
+            if (isStatic) code.field(ClassFileWriter.GETSTATIC, owner, field.getName(), field.getType()
+                    .descriptorString());
+            else code.load(1)
+                    .type(ClassFileWriter.CHECKCAST, owner)
+                    .field(ClassFileWriter.GETFIELD, owner, field.getName(), field.getType().descriptorString());
+            box(code, field.getType());
+            code.instruction(ClassFileWriter.ARETURN).end();
+        });
+    }
+
+    /**
+     * Generates a setter for the given field. Final fields cannot be set by generated code.
+     *
+     * @param field the field.
+     * @return the setter, or {@code null} if the field is final or generation is disabled.
+     * @throws ReflectiveOperationException if the setter could not be defined.
+     */
+    @SuppressWarnings("unchecked")
+    public static @Nullable BiConsumer<Object, Object> setter(@NotNull Field field) throws ReflectiveOperationException {
+        if (Modifier.isFinal(field.getModifiers())) return null;
+
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        String owner = internalName(field.getDeclaringClass());
+
+        return (BiConsumer<Object, Object>) define(field.getDeclaringClass(), new Class<?>[]{field.getType()}, "java/util/function/BiConsumer", writer -> {
+            ClassFileWriter.Code code = writer.method("accept", "(" + OBJECT_DESCRIPTOR + OBJECT_DESCRIPTOR + ")V", 4, 3);
+            if (!isStatic) code.load(1).type(ClassFileWriter.CHECKCAST, owner);
+            code.load(2);
+            unbox(code, field.getType());
+            code.field(isStatic ? ClassFileWriter.PUTSTATIC : ClassFileWriter.PUTFIELD, owner, field.getName(), field.getType()
+                            .descriptorString())
+                    .instruction(ClassFileWriter.RETURN)
+                    .end();
+        });
+    }
+
+    /**
+     * Generates an invoker for the given method or constructor. The invoker ignores the instance if the member is static
+     * or a constructor.
+     *
+     * @param member the method or constructor.
+     * @return the invoker, or {@code null} if the member is a constructor of an abstract class or generation is
+     * disabled.
+     * @throws ReflectiveOperationException if the invoker could not be defined.
+     */
+    @SuppressWarnings("unchecked")
+    public static @Nullable BiFunction<Object, Object[], Object> invoker(@NotNull Executable member) throws ReflectiveOperationException {
+        Class<?> declaringClass = member.getDeclaringClass();
+        if (member instanceof Constructor<?> && Modifier.isAbstract(declaringClass.getModifiers())) return null;
+
+        String owner = internalName(declaringClass);
+        Class<?>[] parameterTypes = member.getParameterTypes();
+        Class<?> returnType = member instanceof Method method ? method.getReturnType() : void.class;
+
+        Class<?>[] referencedTypes = new Class<?>[parameterTypes.length + 1];
+        System.arraycopy(parameterTypes, 0, referencedTypes, 0, parameterTypes.length);
+        referencedTypes[parameterTypes.length] = returnType;
+
+        int maxStack = 4;
+        for (Class<?> type : parameterTypes) maxStack += type == long.class || type == double.class ? 2 : 1;
+        int stack = maxStack;
+
+        return (BiFunction<Object, Object[], Object>) define(declaringClass, referencedTypes, "java/util/function/BiFunction", writer -> {
+            ClassFileWriter.Code code = writer.method("apply", "(" + OBJECT_DESCRIPTOR + OBJECT_DESCRIPTOR + ")" + OBJECT_DESCRIPTOR, stack, 3);
+            boolean isStatic = Modifier.isStatic(member.getModifiers());
+
+            if (member instanceof Constructor<?>)
+                code.type(ClassFileWriter.NEW, owner).instruction(ClassFileWriter.DUP);
+            else if (!isStatic) code.load(1).type(ClassFileWriter.CHECKCAST, owner);
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                code.load(2).type(ClassFileWriter.CHECKCAST, "[" + OBJECT_DESCRIPTOR).push(i)
+                        .instruction(ClassFileWriter.AALOAD);
+                unbox(code, parameterTypes[i]);
+            }
+
+            String descriptor = MethodType.methodType(returnType, parameterTypes).toMethodDescriptorString();
+            boolean isInterface = declaringClass.isInterface();
+            if (member instanceof Constructor<?>)
+                code.invoke(ClassFileWriter.INVOKESPECIAL, owner, "<init>", descriptor, false);
+            else if (isStatic) code.invoke(ClassFileWriter.INVOKESTATIC, owner, member.getName(), descriptor, isInterface);
+            else if (isInterface) code.invokeInterface(owner, member.getName(), descriptor, parameterTypes);
+            else code.invoke(ClassFileWriter.INVOKEVIRTUAL, owner, member.getName(), descriptor, false);
+
+            if (returnType == void.class) {
+                if (!(member instanceof Constructor<?>)) code.instruction(ClassFileWriter.ACONST_NULL);
+            } else box(code, returnType);
+            code.instruction(ClassFileWriter.ARETURN).end();
+        });
+    }
+
+    /**
+     * Defines an accessor class in the nest of the given class and returns a new instance of it.
+     *
+     * @param host            the class to define the accessor next to.
+     * @param referencedTypes the types the accessor refers to, which all have to be accessible from the host.
+     * @param interfaceName   the internal name of the interface the accessor implements.
+     * @param body            writes the interface method.
+     * @return the accessor, or {@code null} if generation is disabled or the host cannot have nestmates.
+     * @throws ReflectiveOperationException if there is no lookup with full privilege access to the host, or one of the
+     *                                      referenced types is not accessible from it.
+     */
+    private static @Nullable Object define(@NotNull Class<?> host, @NotNull Class<?>[] referencedTypes, @NotNull String interfaceName, @NotNull Body body) throws ReflectiveOperationException {
+        if (THRESHOLD < 0 || host.isHidden() || host.isArray() || host.isPrimitive()) return null;
+
+        MethodHandles.Lookup lookup = hostLookup(host);
+        for (Class<?> type : referencedTypes) {
+            while (type.isArray()) type = type.getComponentType();
+            if (!type.isPrimitive()) lookup.accessClass(type);
+        }
+
+        String name = internalName(host) + "$$MirrorAccessor";
+        ClassFileWriter writer = new ClassFileWriter(name, OBJECT, interfaceName);
+        writer.method("<init>", "()V", 1, 1)
+                .load(0)
+                .invoke(ClassFileWriter.INVOKESPECIAL, OBJECT, "<init>", "()V", false)
+                .instruction(ClassFileWriter.RETURN)
+                .end();
+        body.write(writer);
+
+        MethodHandles.Lookup accessor = lookup.defineHiddenClass(writer.toByteArray(), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+        MethodHandle constructor = accessor.findConstructor(accessor.lookupClass(), MethodType.methodType(void.class));
+        try {
+            return constructor.invoke();
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            // the constructor of the accessor only calls the constructor of Object
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Returns a lookup with full privilege access to the given class, which is required to define a nestmate of it.
+     * The lookup of this class only has full privilege access to classes of its own module.
+     *
+     * @param host the class.
+     * @return the lookup.
+     * @throws IllegalAccessException if there is no lookup with full privilege access to the class.
+     */
+    private static @NotNull MethodHandles.Lookup hostLookup(@NotNull Class<?> host) throws IllegalAccessException {
+        Accessors.class.getModule().addReads(host.getModule());
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(host, LOOKUP);
+        if (!lookup.hasFullPrivilegeAccess())
+            throw new IllegalAccessException("No full privilege access to '%s' in %s; it is not in the module of the mirror API".formatted(host.getName(), host.getModule()));
+        return lookup;
+    }
+
+    private static void box(@NotNull ClassFileWriter.Code code, @NotNull Class<?> type) {
+        if (!type.isPrimitive()) return;
+
+        String wrapper = internalName(Primitives.wrap(type));
+        code.invoke(ClassFileWriter.INVOKESTATIC, wrapper, "valueOf", "(" + type.descriptorString() + ")L" + wrapper + ";", false);
+    }
+
+    private static void unbox(@NotNull ClassFileWriter.Code code, @NotNull Class<?> type) {
+        if (!type.isPrimitive()) {
+            if (type != Object.class) code.type(ClassFileWriter.CHECKCAST, internalName(type));
+            return;
+        }
+
+        String wrapper = internalName(Primitives.wrap(type));
+        code.type(ClassFileWriter.CHECKCAST, wrapper)
+                .invoke(ClassFileWriter.INVOKEVIRTUAL, wrapper, type.getName() + "Value", "()" + type.descriptorString(), false);
+    }
+
+    private static @NotNull String internalName(@NotNull Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    @FunctionalInterface
+    private interface Body {
+
+        void write(@NotNull ClassFileWriter writer);
+    }
+}
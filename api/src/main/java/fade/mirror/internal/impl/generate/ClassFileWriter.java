@@ -0,0 +1,344 @@
+package fade.mirror.internal.impl.generate;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal class file writer. It supports exactly what the generated accessors need: a single class with methods
+ * made of straight-line code. Since the code never branches, no stack map frames have to be emitted.
+ *
+ * @author fade
+ */
+@ApiStatus.Internal
+final class ClassFileWriter {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    static final int ACONST_NULL = 0x01;
+    static final int ICONST_0 = 0x03;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int ALOAD = 0x19;
+    static final int AALOAD = 0x32;
+    static final int DUP = 0x59;
+    static final int ARETURN = 0xb0;
+    static final int RETURN = 0xb1;
+    static final int GETSTATIC = 0xb2;
+    static final int PUTSTATIC = 0xb3;
+    static final int GETFIELD = 0xb4;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+    static final int NEW = 0xbb;
+    static final int CHECKCAST = 0xc0;
+
+    /**
+     * The class file version; Java 17.
+     */
+    private static final int VERSION = 61;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    private final DataOutputStream poolOutput = new DataOutputStream(this.pool);
+    private final Map<String, Integer> poolIndices = new HashMap<>();
+    private int poolCount = 1;
+
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private final List<byte[]> methods = new ArrayList<>();
+
+    /**
+     * Creates a new writer for a public final class.
+     *
+     * @param name       the internal name of the class.
+     * @param superName  the internal name of the superclass.
+     * @param interfaces the internal names of the implemented interfaces.
+     */
+    ClassFileWriter(@NotNull String name, @NotNull String superName, @NotNull String... interfaces) {
+        this.thisClass = this.classConstant(name);
+        this.superClass = this.classConstant(superName);
+        this.interfaces = new int[interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) this.interfaces[i] = this.classConstant(interfaces[i]);
+    }
+
+    /**
+     * Starts a new public method. The method is added to the class when {@link Code#end()} is called.
+     *
+     * @param name       the name of the method.
+     * @param descriptor the descriptor of the method.
+     * @param maxStack   the maximum depth of the operand stack.
+     * @param maxLocals  the number of local variable slots, including the parameters.
+     * @return the code of the method.
+     */
+    @NotNull Code method(@NotNull String name, @NotNull String descriptor, int maxStack, int maxLocals) {
+        return new Code(this.utf8Constant(name), this.utf8Constant(descriptor), maxStack, maxLocals);
+    }
+
+    /**
+     * Returns the bytes of the class file.
+     *
+     * @return the class file.
+     */
+    byte @NotNull [] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        try {
+            output.writeInt(0xCAFEBABE);
+            output.writeShort(0);
+            output.writeShort(VERSION);
+            output.writeShort(this.poolCount);
+            this.pool.writeTo(output);
+            output.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            output.writeShort(this.thisClass);
+            output.writeShort(this.superClass);
+            output.writeShort(this.interfaces.length);
+            for (int index : this.interfaces) output.writeShort(index);
+            output.writeShort(0); // fields
+            output.writeShort(this.methods.size());
+            for (byte[] method : this.methods) output.write(method);
+            output.writeShort(0); // attributes
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return bytes.toByteArray();
+    }
+
+    private int utf8Constant(@NotNull String value) {
+        return this.constant("U" + value, output -> {
+            output.writeByte(CONSTANT_UTF8);
+            output.writeUTF(value);
+        });
+    }
+
+    private int classConstant(@NotNull String internalName) {
+        int name = this.utf8Constant(internalName);
+        return this.constant("C" + internalName, output -> {
+            output.writeByte(CONSTANT_CLASS);
+            output.writeShort(name);
+        });
+    }
+
+    private int integerConstant(int value) {
+        return this.constant("I" + value, output -> {
+            output.writeByte(CONSTANT_INTEGER);
+            output.writeInt(value);
+        });
+    }
+
+    private int memberConstant(int tag, @NotNull String owner, @NotNull String name, @NotNull String descriptor) {
+        int ownerIndex = this.classConstant(owner);
+        int nameIndex = this.utf8Constant(name);
+        int descriptorIndex = this.utf8Constant(descriptor);
+        int nameAndType = this.constant("N" + name + ' ' + descriptor, output -> {
+            output.writeByte(CONSTANT_NAME_AND_TYPE);
+            output.writeShort(nameIndex);
+            output.writeShort(descriptorIndex);
+        });
+        return this.constant("M" + tag + owner + '.' + name + ' ' + descriptor, output -> {
+            output.writeByte(tag);
+            output.writeShort(ownerIndex);
+            output.writeShort(nameAndType);
+        });
+    }
+
+    private int constant(@NotNull String key, @NotNull ConstantWriter writer) {
+        Integer index = this.poolIndices.get(key);
+        if (index != null) return index;
+
+        try {
+            writer.write(this.poolOutput);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        this.poolIndices.put(key, this.poolCount);
+        return this.poolCount++;
+    }
+
+    @FunctionalInterface
+    private interface ConstantWriter {
+
+        void write(@NotNull DataOutputStream output) throws IOException;
+    }
+
+    /**
+     * The code of a method under construction.
+     */
+    final class Code {
+
+        private final int name;
+        private final int descriptor;
+        private final int maxStack;
+        private final int maxLocals;
+        private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+
+        private Code(int name, int descriptor, int maxStack, int maxLocals) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.maxStack = maxStack;
+            this.maxLocals = maxLocals;
+        }
+
+        /**
+         * Emits an instruction without operands.
+         *
+         * @param opcode the opcode.
+         * @return this code.
+         */
+        @NotNull Code instruction(int opcode) {
+            this.code.write(opcode);
+            return this;
+        }
+
+        /**
+         * Emits an {@code aload} of the given local variable slot.
+         *
+         * @param slot the slot.
+         * @return this code.
+         */
+        @NotNull Code load(int slot) {
+            if (slot <= 3) return this.instruction(0x2a + slot);
+            this.code.write(ALOAD);
+            this.code.write(slot);
+            return this;
+        }
+
+        /**
+         * Emits the shortest instruction that pushes the given int constant.
+         *
+         * @param value the constant.
+         * @return this code.
+         */
+        @NotNull Code push(int value) {
+            if (value >= -1 && value <= 5) return this.instruction(ICONST_0 + value);
+            if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                this.code.write(BIPUSH);
+                this.code.write(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                this.code.write(SIPUSH);
+                this.u2(value);
+            } else {
+                this.code.write(0x13); // ldc_w
+                this.u2(ClassFileWriter.this.integerConstant(value));
+            }
+            return this;
+        }
+
+        /**
+         * Emits an instruction that takes a class operand, such as {@code new} or {@code checkcast}.
+         *
+         * @param opcode       the opcode.
+         * @param internalName the internal name of the class.
+         * @return this code.
+         */
+        @NotNull Code type(int opcode, @NotNull String internalName) {
+            this.code.write(opcode);
+            this.u2(ClassFileWriter.this.classConstant(internalName));
+            return this;
+        }
+
+        /**
+         * Emits a field instruction.
+         *
+         * @param opcode     the opcode.
+         * @param owner      the internal name of the class declaring the field.
+         * @param name       the name of the field.
+         * @param descriptor the descriptor of the field.
+         * @return this code.
+         */
+        @NotNull Code field(int opcode, @NotNull String owner, @NotNull String name, @NotNull String descriptor) {
+            this.code.write(opcode);
+            this.u2(ClassFileWriter.this.memberConstant(CONSTANT_FIELDREF, owner, name, descriptor));
+            return this;
+        }
+
+        /**
+         * Emits a method invocation instruction other than {@link #INVOKEINTERFACE}, see
+         * {@link #invokeInterface(String, String, String, Class[])}.
+         *
+         * @param opcode      the opcode.
+         * @param owner       the internal name of the class declaring the method.
+         * @param name        the name of the method.
+         * @param descriptor  the descriptor of the method.
+         * @param isInterface whether the owner is an interface.
+         * @return this code.
+         */
+        @NotNull Code invoke(int opcode, @NotNull String owner, @NotNull String name, @NotNull String descriptor, boolean isInterface) {
+            int tag = isInterface ? CONSTANT_INTERFACE_METHODREF : CONSTANT_METHODREF;
+            this.code.write(opcode);
+            this.u2(ClassFileWriter.this.memberConstant(tag, owner, name, descriptor));
+            return this;
+        }
+
+        /**
+         * Emits an {@link #INVOKEINTERFACE} instruction. Its operand counts the argument slots, which are taken from the
+         * parameter types rather than resolved from the descriptor, since the types may not be visible to this class'
+         * loader.
+         *
+         * @param owner          the internal name of the interface declaring the method.
+         * @param name           the name of the method.
+         * @param descriptor     the descriptor of the method.
+         * @param parameterTypes the parameter types of the method.
+         * @return this code.
+         */
+        @NotNull Code invokeInterface(@NotNull String owner, @NotNull String name, @NotNull String descriptor, @NotNull Class<?>[] parameterTypes) {
+            this.invoke(INVOKEINTERFACE, owner, name, descriptor, true);
+
+            int slots = 1;
+            for (Class<?> type : parameterTypes) slots += type == long.class || type == double.class ? 2 : 1;
+            this.code.write(slots);
+            this.code.write(0);
+            return this;
+        }
+
+        /**
+         * Finishes the method and adds it to the class.
+         */
+        void end() {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            try {
+                output.writeShort(ACC_PUBLIC);
+                output.writeShort(this.name);
+                output.writeShort(this.descriptor);
+                output.writeShort(1); // attributes
+                output.writeShort(ClassFileWriter.this.utf8Constant("Code"));
+                output.writeInt(12 + this.code.size());
+                output.writeShort(this.maxStack);
+                output.writeShort(this.maxLocals);
+                output.writeInt(this.code.size());
+                this.code.writeTo(output);
+                output.writeShort(0); // exception table
+                output.writeShort(0); // attributes
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            ClassFileWriter.this.methods.add(bytes.toByteArray());
+        }
+
+        private void u2(int value) {
+            this.code.write(value >>> 8);
+            this.code.write(value);
+        }
+    }
+}
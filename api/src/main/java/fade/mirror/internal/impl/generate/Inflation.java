@@ -0,0 +1,91 @@
+package fade.mirror.internal.impl.generate;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tracks how often a member has been accessed reflectively and switches it to a generated accessor once it has been
+ * accessed {@link Accessors#THRESHOLD} times, similar to the inflation of the JDK's own reflection.
+ * <p>
+ * The access counter is deliberately not synchronized; a few lost increments only delay the switch. The accessor is
+ * generated at most once, and if generation fails the member keeps using reflection for good; the reason is kept and
+ * can be queried with {@link #getFailure()}.
+ * </p>
+ *
+ * @param <Accessor> the type of the generated accessor.
+ * @author fade
+ */
+@ApiStatus.Internal
+public final class Inflation<Accessor> {
+
+    private final @NotNull Generator<Accessor> generator;
+
+    private int accesses;
+
+    private volatile @Nullable Accessor accessor;
+
+    private volatile boolean inflated;
+
+    private volatile @Nullable Throwable failure;
+
+    /**
+     * Creates a new {@link Inflation}.
+     *
+     * @param generator generates the accessor, returning {@code null} if the member is not supported.
+     */
+    public Inflation(@NotNull Generator<Accessor> generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Records an access and returns the generated accessor, if there is one yet.
+     *
+     * @return the generated accessor, or {@code null} if the member should still be accessed reflectively.
+     */
+    public @Nullable Accessor get() {
+        Accessor accessor = this.accessor;
+        if (accessor != null || this.inflated) return accessor;
+        if (Accessors.THRESHOLD < 0 || this.accesses++ < Accessors.THRESHOLD) return null;
+
+        synchronized (this) {
+            if (!this.inflated) {
+                try {
+                    this.accessor = this.generator.generate();
+                } catch (ReflectiveOperationException | LinkageError | RuntimeException exception) {
+                    // anything else generation runs into, such as a type that is not present, is a failure as well
+                    this.failure = exception;
+                }
+                this.inflated = true;
+            }
+            return this.accessor;
+        }
+    }
+
+    /**
+     * Returns why the accessor could not be generated.
+     *
+     * @return the failure, or {@code null} if the accessor has not been generated yet, or has been generated
+     * successfully.
+     */
+    public @Nullable Throwable getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Generates an accessor.
+     *
+     * @param <Accessor> the type of the accessor.
+     */
+    @FunctionalInterface
+    public interface Generator<Accessor> {
+
+        /**
+         * Generates the accessor.
+         *
+         * @return the accessor, or {@code null} if the member is not supported.
+         * @throws ReflectiveOperationException if the accessor could not be defined.
+         */
+        @Nullable Accessor generate() throws ReflectiveOperationException;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains the runtime generation of accessor classes, which the mirror implementations switch to once a
+ * member has been used often enough. The classes in this package are not intended to be used directly.
+ */
+package fade.mirror.internal.impl.generate;
@@ -1,15 +1,29 @@
 package fade.mirror;
 
+import fade.mirror.exception.InvocationException;
+import fade.mirror.exception.MismatchedArgumentsException;
+import fade.mirror.filter.FieldFilter;
 import fade.mirror.filter.Filter;
+import fade.mirror.filter.MethodFilter;
+import fade.mirror.filter.RewriteOperation;
 import fade.mirror.mock.MockAnnotation;
 import fade.mirror.mock.MockClass;
+import fade.mirror.mock.MockInitializer;
+import fade.mirror.mock.MockRecord;
+import fade.mirror.mock.MockSettings;
 import fade.mirror.mock.MockUser;
 import fade.mirror.mock.MockUserSubClass;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
-import java.util.Optional;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static fade.mirror.Mirror.mirror;
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +44,14 @@ class MirrorTest {
         assertEquals(MockClass.class, mockClass.getRawClass(), "'mockClass.getRawClass()' should return 'MockClass.class'");
     }
 
+    @Test
+    @DisplayName("mirror of class is canonical")
+    void testMirrorOfClassIsCanonical() {
+        MClass<MockUserSubClass> mockClass = mirror(MockUserSubClass.class);
+        assertSame(mockClass, mirror(MockUserSubClass.class), "'mirror(MockUserSubClass.class)' should return the same instance");
+        assertSame(mirror(MockUser.class), mockClass.getSuperclass().orElseThrow(), "'mockClass.getSuperclass()' should return the canonical mirror");
+    }
+
     @Test
     @DisplayName("mirror of class has correct number of constructors")
     void testMirrorOfClassHasCorrectNumberOfConstructors() {
@@ -59,6 +81,14 @@ class MirrorTest {
         assertEquals(expected, mockClass.getMethodCount(), "'mockClass.getMethodCount()' should return '" + expected + "'");
     }
 
+    @Test
+    @DisplayName("mirror of class reuses its member mirrors")
+    void testMirrorOfClassReusesMemberMirrors() {
+        MClass<MockClass> mockClass = mirror(MockClass.class);
+        assertEquals(mockClass.getMethods().toList(), mockClass.getMethods().toList(), "'mockClass.getMethods()' should return the same mirrors");
+        assertSame(mockClass.getConstructor().orElseThrow(), mockClass.getConstructor().orElseThrow(), "'mockClass.getConstructor()' should return the same mirror");
+    }
+
     @Test
     @DisplayName("mirror of class has methods")
     void testMirrorOfClassHasMethods() {
@@ -180,6 +210,204 @@ class MirrorTest {
         assertFalse(mockClassParameters.isEmpty(), "'mockClassParameters' shouldn't be empty");
     }
 
+    @Test
+    @DisplayName("compiled filters match like their filters")
+    void testCompiledFilters() {
+        MethodFilter<?> filter = Filter.forMethods().withName("mockMethod").withParameters(List.of(int.class, String.class));
+        Predicate<?> compiled = filter.compile();
+        assertEquals(4, mirror(MockClass.class).getMethods(filter.compile()).count(), "compiled method filter did not match");
+
+        filter.withName("mockMethodWithReturn");
+        assertEquals(compiled, Filter.forMethods()
+                .withParameters(List.of(String.class, int.class))
+                .withName("mockMethod")
+                .compile(), "compiled filters with the same constraints should be equal");
+        assertEquals(compiled.hashCode(), Filter.forMethods()
+                .withName("mockMethod")
+                .withParameters(List.of(int.class, String.class))
+                .compile()
+                .hashCode(), "compiled filters with the same constraints should have the same hash");
+        assertNotEquals(compiled, filter.compile(), "'compile' should snapshot the filter");
+
+        assertEquals(1, mirror(MockClass.class).getConstructors(Filter.forConstructors()
+                .withAnnotation(MockAnnotation.class)
+                .compile()::test).count(), "compiled constructor filter did not match");
+        assertEquals(1, mirror(MockClass.class).getMethods()
+                .flatMap(MMethod::getParameters)
+                .filter(Filter.forParameters().withAnnotation(MockAnnotation.class).compile())
+                .count(), "compiled parameter filter did not match");
+
+        FieldFilter<?> fieldFilter = Filter.forFields().withName("role").withAnnotation(MockAnnotation.class);
+        Filter<?> copy = fieldFilter.copy();
+        fieldFilter.withNoAnnotations();
+        assertEquals(Filter.forFields().withName("role").withAnnotation(MockAnnotation.class).compile(), copy.compile(), "'copy' should not share the annotations of the filter");
+        assertEquals(1, mirror(MockUserSubClass.class).getFields(Filter.forFields()
+                .withName("role")
+                .withAnnotation(MockAnnotation.class)
+                .compile()).count(), "compiled field filter did not match");
+
+        assertEquals(1, mirror(MockUserSubClass.class).getFields(Filter.forFields()
+                .withAnnotation(Annotation.class)
+                .compile()).count(), "compiled field filter should match annotations by supertype");
+        MethodFilter<?> bySupertype = Filter.forMethods().withAnnotation(Annotation.class);
+        assertEquals(mirror(MockClass.class).getMethods(bySupertype).count(), mirror(MockClass.class).getMethods(bySupertype.compile())
+                .count(), "compiled method filter should match annotations by supertype");
+    }
+
+    @Test
+    @DisplayName("look up members by annotation")
+    void testLookUpMembersByAnnotation() {
+        MClass<MockClass> mockClass = mirror(MockClass.class);
+        assertEquals(List.of("mockMethod"), mockClass.getMethodsAnnotatedWith(MockAnnotation.class)
+                .map(MMethod::getName)
+                .toList(), "only 'mockMethod(String)' should be annotated");
+        assertEquals(1, mockClass.getConstructorsAnnotatedWith(MockAnnotation.class)
+                .count(), "only 'MockClass(String)' should be annotated");
+        assertEquals(0, mockClass.getMethodsAnnotatedWith(Deprecated.class).count(), "no method should be deprecated");
+
+        MClass<MockUserSubClass> subClass = mirror(MockUserSubClass.class);
+        assertEquals(List.of("role"), subClass.getFieldsAnnotatedWith(MockAnnotation.class, MClass.IncludeSuperclasses.Yes)
+                .map(MField::getName)
+                .toList(), "only 'role' should be annotated");
+        assertEquals(1, subClass.getFields(Filter.forFields()
+                .withAnnotation(MockAnnotation.class)).count(), "field filter should find 'role' through the index");
+        assertEquals(1, mockClass.getMethods(Filter.forMethods()
+                .withAnnotations(List.of(MockAnnotation.class, Deprecated.class))).count(), "method filter should find 'mockMethod(String)' through the index");
+        assertEquals(1, subClass.getFields(Filter.forFields()
+                .withAnnotation(Annotation.class)).count(), "field filter should match annotations by supertype");
+        assertEquals(mockClass.getMethods(method -> method.getAnnotations().findAny().isPresent()).count(), mockClass.getMethods(Filter.forMethods()
+                .withAnnotations(List.of(Annotation.class), RewriteOperation.Append)).count(), "method filter should match annotations by supertype");
+    }
+
+    @Test
+    @DisplayName("look up methods by exact signature")
+    void testLookUpMethodsBySignature() {
+        MClass<MockClass> mockClass = mirror(MockClass.class);
+        MMethod<Void> method = mockClass.<Void>getMethod("mockMethod", int.class, String.class).orElseThrow();
+        assertEquals(2, method.getParameterCount(), "'mockMethod(int, String)' should be found");
+        assertSame(method, mockClass.getMethod("mockMethod", int.class, String.class)
+                .orElseThrow(), "the signature index should return the cached mirror");
+        assertTrue(mockClass.getMethod("mockMethod", String.class, int.class).isEmpty(), "parameter order should matter");
+        assertTrue(mockClass.getMethod("mockMethod", Object.class).isEmpty(), "parameter types should match exactly");
+        assertEquals(0, mockClass.getMethod("mockMethod").orElseThrow().getParameterCount(), "'mockMethod()' should be found");
+
+        assertSame(method, mockClass.getMethod(Filter.forMethods()
+                .withName("mockMethod")
+                .withExactParameters(int.class, String.class)).orElseThrow(), "exact filter should find the same method");
+        assertEquals(1, mockClass.getMethods(Filter.forMethods()
+                .withExactParameters(String.class)
+                .compile()).count(), "compiled exact filter should only match 'mockMethod(String)'");
+        assertEquals(1, mockClass.getConstructors(Filter.forConstructors()
+                .withExactParameters(int.class)::test).count(), "exact filter should only match 'MockClass(int)'");
+
+        class Text implements Supplier<String> {
+            @Override
+            public String get() {
+                return "text";
+            }
+        }
+        MClass<Text> text = mirror(Text.class);
+        assertEquals(String.class, text.getMethod("get").orElseThrow().getReturnType(), "the bridged method should be found");
+        assertEquals(2, text.getMethods(Filter.forMethods().withName("get").withExactParameters().compile()).count(), "bridge methods should be listed");
+        assertEquals(text.getMethods().filter(candidate -> candidate.getName().equals("get")).count(), text.getMethods(Filter.forMethods()
+                .withName("get")
+                .withExactParameters()
+                .compile()).count(), "the signature index should match like a scan");
+    }
+
+    @Test
+    @DisplayName("resolve effective methods")
+    void testEffectiveMethods() {
+        MClass<MockUserSubClass> subClass = mirror(MockUserSubClass.class);
+        assertEquals(MockUser.class, subClass.getEffectiveMethod("getUsername")
+                .orElseThrow()
+                .getDeclaringClass()
+                .getRawClass(), "'getUsername' should be inherited from 'MockUser'");
+        assertEquals(Object.class, subClass.getEffectiveMethod("toString")
+                .orElseThrow()
+                .getDeclaringClass()
+                .getRawClass(), "'toString' should be inherited from 'Object'");
+        assertTrue(subClass.getEffectiveMethod("mockMethod").isEmpty(), "'mockMethod' is not a method of 'MockUserSubClass'");
+
+        MClass<?> list = mirror(ArrayList.class);
+        assertEquals(Collection.class, list.getEffectiveMethod("stream")
+                .orElseThrow()
+                .getDeclaringClass()
+                .getRawClass(), "'stream' should resolve to the default method of 'Collection'");
+        assertEquals(ArrayList.class, list.getEffectiveMethod("forEach", Consumer.class)
+                .orElseThrow()
+                .getDeclaringClass()
+                .getRawClass(), "'forEach' should resolve to the override in 'ArrayList'");
+
+        List<MMethod<?>> methods = list.getEffectiveMethods().toList();
+        assertEquals(1, methods.stream().filter(method -> method.getName().equals("size")).count(), "every signature should be listed once");
+        assertTrue(methods.stream().noneMatch(MMethod::isStatic), "static methods should not be listed");
+    }
+
+    @Test
+    @DisplayName("linearize supertypes")
+    void testSupertypes() {
+        List<Class<?>> supertypes = mirror(ArrayList.class).getSupertypes().<Class<?>>map(MClass::getRawClass).toList();
+        assertEquals(List.of(AbstractList.class, AbstractCollection.class, Object.class, List.class), supertypes.subList(0, 4), "superclasses should come before the interfaces");
+        assertEquals(supertypes.size(), new HashSet<>(supertypes).size(), "every supertype should be listed once");
+        assertTrue(supertypes.contains(Iterable.class), "inherited superinterfaces should be listed");
+
+        MClass<MockUserSubClass> subClass = mirror(MockUserSubClass.class);
+        assertEquals(List.of(mirror(MockUser.class)), subClass.getSuperclasses().toList(), "'Object' should not be a listed superclass");
+        assertTrue(mirror(MockUser.class).getSuperclasses().findAny().isEmpty(), "'Object' should not be a listed superclass");
+        assertEquals(List.of(subClass), subClass.getSuperclasses(MClass.IncludeSelf.Yes).toList().subList(0, 1), "the class itself should come first");
+        assertEquals(4, subClass.getRawFields(MClass.IncludeSuperclasses.Yes).count(), "raw fields should include the class itself");
+
+        assertTrue(subClass.isSubtypeOf(MockUser.class), "'MockUserSubClass' should be a subtype of 'MockUser'");
+        assertTrue(subClass.isSubtypeOf(Object.class), "'MockUserSubClass' should be a subtype of 'Object'");
+        assertFalse(mirror(MockUser.class).isSubtypeOf(subClass), "'MockUser' should not be a subtype of 'MockUserSubClass'");
+        assertTrue(mirror(ArrayList.class).isSubtypeOf(Collection.class), "'ArrayList' should be a subtype of 'Collection'");
+        assertTrue(mirror(List.class).isSubtypeOf(Object.class), "interfaces should be subtypes of 'Object'");
+        assertFalse(mirror(List.class).isSubtypeOf(RandomAccess.class), "'List' should not be a subtype of 'RandomAccess'");
+        assertTrue(mirror(MockUser.class).isSuperclassOf(subClass), "'MockUser' should be a superclass of 'MockUserSubClass'");
+        assertFalse(subClass.isSuperclassOf(mirror(MockUser.class)), "'MockUserSubClass' should not be a superclass of 'MockUser'");
+        assertTrue(mirror(MockUser.class).isSuperclassOf(MockUserSubClass.class), "'MockUser' should be a superclass of 'MockUserSubClass'");
+        assertFalse(subClass.isSuperclassOf(MockUser.class), "'MockUserSubClass' should not be a superclass of 'MockUser'");
+    }
+
+    @Test
+    @DisplayName("walk class hierarchies")
+    void testWalk() {
+        List<MClass<?>> hierarchy = mirror(ArrayList.class).walk().toList();
+        assertEquals(mirror(ArrayList.class), hierarchy.get(0), "the walk should start at the class itself");
+        assertEquals(hierarchy.size(), new HashSet<>(hierarchy).size(), "every class should be visited once");
+        assertTrue(hierarchy.contains(mirror(Collection.class)), "inherited interfaces should be visited");
+        assertEquals(mirror(AbstractList.class), mirror(ArrayList.class).walk()
+                .filter(clazz -> clazz.getRawClass().getSimpleName().startsWith("Abstract"))
+                .findFirst()
+                .orElseThrow(), "the superclass should be visited before the interfaces");
+
+        List<Class<?>> superclasses = new ArrayList<>();
+        assertTrue(mirror(ArrayList.class).walk(new HierarchyVisitor() {
+            @Override
+            public @NotNull Result visitClass(@NotNull MClass<?> clazz, @NotNull Relation relation) {
+                if (relation == Relation.Interface || relation == Relation.InnerClass) return Result.Prune;
+                superclasses.add(clazz.getRawClass());
+                return Result.Continue;
+            }
+        }), "the walk should not have been terminated");
+        assertEquals(List.of(ArrayList.class, AbstractList.class, AbstractCollection.class, Object.class), superclasses, "pruned classes should not be visited");
+
+        List<String> methods = new ArrayList<>();
+        assertFalse(mirror(MockUserSubClass.class).walk(new HierarchyVisitor() {
+            @Override
+            public @NotNull Result visitMethod(@NotNull MMethod<?> method) {
+                methods.add(method.getName());
+                return Result.Terminate;
+            }
+        }), "the walk should have been terminated");
+        assertEquals(1, methods.size(), "no method should be visited after terminating");
+
+        List<MClass<?>> innerClasses = mirror(ArrayList.class).getInnerClasses(MClass.RecurseInnerClasses.Yes).toList();
+        assertTrue(innerClasses.stream().anyMatch(clazz -> clazz.getRawClass().getSimpleName().equals("SubList")), "'SubList' should be an inner class of 'ArrayList'");
+        assertEquals(mirror(ArrayList.class), mirror(ArrayList.class).getInnerClasses(MClass.IncludeSelf.Yes).findFirst().orElseThrow(), "the class itself should come first");
+    }
+
     @Test
     @DisplayName("allow subclasses of restricted types to be used")
     void testWithParametersAllowsSubclasses() {
@@ -187,4 +415,215 @@ class MirrorTest {
                 .withName("mockMethodWithClassParameter")
                 .withParameter(MockUser.class)).ifPresent(m -> m.invokeWithNoInstance(new MockUserSubClass()));
     }
+
+    @Test
+    @DisplayName("invoke with boxed and variable arity arguments")
+    void testInvokeWithBoxedAndVariableArityArguments() throws NoSuchMethodException {
+        MMethod<Long> abs = mirror(Math.class.getMethod("abs", long.class));
+        assertTrue(abs.isInvokableWith((short) -1), "'abs' should accept a widened argument");
+        assertFalse(abs.isInvokableWith(1.0), "'abs' should reject a narrowed argument");
+        assertEquals(3L, (long) abs.invokeWithNoInstance(-3), "'abs' did not match");
+
+        MMethod<String> format = mirror(String.class.getMethod("format", String.class, Object[].class));
+        assertEquals("1-2", format.invokeWithNoInstance("%s-%s", 1, 2), "'format' did not match");
+        assertEquals("1-2", format.invokeWithNoInstance("%s-%s", new Object[]{1, 2}), "'format' did not match");
+        assertEquals("none", format.invokeWithNoInstance("none"), "'format' did not match");
+    }
+
+    @Test
+    @DisplayName("report exceptions thrown by invoked members")
+    void testInvocationExceptions() throws NoSuchMethodException {
+        MMethod<Integer> parseInt = mirror(Integer.class.getMethod("parseInt", String.class));
+        InvocationException fixedArity = assertThrows(InvocationException.class, () -> parseInt.invoke1(null, "x"), "'invoke1' should report the exception of 'parseInt'");
+        assertInstanceOf(NumberFormatException.class, fixedArity.getCause().getCause(), "the cause should be the exception of 'parseInt'");
+
+        for (int i = 0; i < 32; i++) { // past the inflation threshold, so the generated invoker is covered as well
+            InvocationException spread = assertThrows(InvocationException.class, () -> parseInt.invokeWithNoInstance("x"), "'invoke' should report the exception of 'parseInt'");
+            assertInstanceOf(NumberFormatException.class, spread.getCause().getCause(), "the cause should be the exception of 'parseInt'");
+        }
+
+        MMethod<Integer> overflow = mirror(MirrorTest.class.getDeclaredMethod("overflow", String.class));
+        for (int i = 0; i < 32; i++) {
+            InvocationException error = assertThrows(InvocationException.class, () -> overflow.invokeWithNoInstance("x"), "'invoke' should report the error of 'overflow'");
+            assertInstanceOf(StackOverflowError.class, error.getCause().getCause(), "the cause should be the error of 'overflow'");
+        }
+        InvocationException fixedArityError = assertThrows(InvocationException.class, () -> overflow.invoke1(null, "x"), "'invoke1' should report the error of 'overflow'");
+        assertInstanceOf(StackOverflowError.class, fixedArityError.getCause().getCause(), "the cause should be the error of 'overflow'");
+    }
+
+    private static int overflow(String value) {
+        throw new StackOverflowError(value);
+    }
+
+    @Test
+    @DisplayName("deep copy object graph")
+    @SuppressWarnings("unchecked")
+    void testDeepCopy() {
+        MockUserSubClass user = new MockUserSubClass("fade", "fade@example.com", "admin");
+        user.setScore(3);
+        Object[] cycle = new Object[1];
+        cycle[0] = cycle;
+        Map<String, Object> graph = new HashMap<>(Map.of("users", new ArrayList<>(List.of(user, user)), "cycle", cycle));
+
+        Map<String, Object> copy = Mirror.deepCopier(Map.class).copy(graph);
+        List<MockUserSubClass> users = (List<MockUserSubClass>) copy.get("users");
+        assertNotSame(graph.get("users"), users, "'users' should have been copied");
+        assertNotSame(user, users.get(0), "'user' should have been copied");
+        assertSame(users.get(0), users.get(1), "shared references should stay shared");
+        assertEquals("admin", users.get(0).getRole(), "'role' did not match");
+        assertEquals(3, users.get(0).getScore(), "'score' did not match");
+
+        Object[] copiedCycle = (Object[]) copy.get("cycle");
+        assertSame(copiedCycle, copiedCycle[0], "cycles should be preserved");
+
+        MockUserSubClass skipped = Mirror.deepCopier(MockUserSubClass.class)
+                .skip(field -> field.getName().equals("score"))
+                .copy(user);
+        assertEquals(0, skipped.getScore(), "'score' should have been skipped");
+        assertSame(user.getRole(), skipped.getRole(), "strings should be shared");
+
+        MockUserSubClass shared = Mirror.deepCopier(MockUserSubClass.class)
+                .share(Filter.forFields().withName("role"))
+                .skip(Filter.forFields().ofType(int.class))
+                .copy(user);
+        assertSame(user.getRole(), shared.getRole(), "'role' should have been shared");
+        assertEquals(0, shared.getScore(), "'score' should have been skipped");
+    }
+
+    @Test
+    @DisplayName("deep copy unmodifiable collections and records")
+    @SuppressWarnings("unchecked")
+    void testDeepCopyViewsAndRecords() {
+        record Team(String name, List<MockUserSubClass> members) {}
+
+        MockUserSubClass user = new MockUserSubClass("fade", "fade@example.com", "admin");
+        Map<String, Object> graph = new HashMap<>(Map.of("of", List.of(user), "asList", Arrays.asList(user, null), "unmodifiable", Collections.unmodifiableList(new ArrayList<>(List.of(user))), "team", new Team("core", new ArrayList<>(List.of(user)))));
+
+        Map<String, Object> copy = Mirror.deepCopier(Map.class).copy(graph);
+        for (String key : List.of("of", "asList", "unmodifiable")) {
+            List<MockUserSubClass> source = (List<MockUserSubClass>) graph.get(key);
+            List<MockUserSubClass> copied = (List<MockUserSubClass>) copy.get(key);
+            assertNotSame(source, copied, "'" + key + "' should have been copied");
+            assertEquals(source.size(), copied.size(), "size of '" + key + "' did not match");
+            assertNotSame(user, copied.get(0), "elements of '" + key + "' should have been copied");
+            assertThrows(UnsupportedOperationException.class, () -> copied.add(user), "'" + key + "' should stay unmodifiable");
+        }
+        assertSame(((List<?>) copy.get("of")).get(0), ((List<?>) copy.get("asList")).get(0), "shared references should stay shared");
+        assertNull(((List<?>) copy.get("asList")).get(1), "null elements should be kept");
+
+        Team team = (Team) graph.get("team");
+        Team copiedTeam = (Team) copy.get("team");
+        assertNotSame(team, copiedTeam, "'team' should have been copied");
+        assertEquals("core", copiedTeam.name(), "'name' did not match");
+        assertNotSame(team.members(), copiedTeam.members(), "'members' should have been copied");
+        assertSame(((List<?>) copy.get("of")).get(0), copiedTeam.members().get(0), "shared references should stay shared");
+
+        record Node(int value, Node next) {}
+
+        Node chain = null;
+        for (int i = 0; i < 200_000; i++) chain = new Node(i, chain);
+        Node copiedChain = Mirror.deepCopier(Node.class).copy(chain);
+        int length = 0;
+        for (Node node = copiedChain; node != null; node = node.next(), length++)
+            assertEquals(199_999 - length, node.value(), "'value' did not match");
+        assertEquals(200_000, length, "deep record chains should be copied without recursion");
+
+        List<MockUserSubClass> members = new ArrayList<>();
+        Team loop = new Team("loop", members);
+        ((List<Object>) (List<?>) members).add(loop);
+        List<Object> copiedMembers = Mirror.deepCopier(List.class).copy(members);
+        assertSame(copiedMembers, ((Team) copiedMembers.get(0)).members(), "cycles through lists should be preserved");
+        assertThrows(InvocationException.class, () -> Mirror.deepCopier(Team.class)
+                .copy(loop), "records reachable from their own components cannot be copied");
+    }
+
+    @Test
+    @DisplayName("construct and copy record")
+    void testConstructAndCopyRecord() {
+        assertTrue(mirror(MockClass.class).asRecord().isEmpty(), "'MockClass' is not a record");
+
+        MRecord<MockRecord> record = mirror(MockRecord.class).asRecord().orElseThrow();
+        assertEquals(2, record.getComponentCount(), "component count did not match");
+
+        MockRecord fromArray = record.construct(new Object[]{"fade", (short) 3});
+        assertEquals(new MockRecord("fade", 3), fromArray, "record did not match");
+
+        Object[] values = {"fade", 3};
+        MockRecord fromFunction = record.construct(index -> values[index]);
+        assertEquals(fromArray, fromFunction, "record did not match");
+
+        MRecordComponent<Integer> level = record.<Integer>getComponent("level").orElseThrow();
+        assertEquals(3, (int) level.getValue(fromFunction), "'level' did not match");
+        assertEquals(new MockRecord("fade", 7), record.with(fromFunction, level, 7), "copy did not match");
+        assertThrows(MismatchedArgumentsException.class, () -> record.with(fromFunction, level, null), "'with' should reject null for a primitive component");
+
+        MRecordComponent<Object> anyLevel = record.getComponent("level").orElseThrow();
+        assertEquals(new MockRecord("fade", 9), record.with(fromFunction, anyLevel, (short) 9), "'with' should widen like 'construct'");
+        assertThrows(MismatchedArgumentsException.class, () -> record.with(fromFunction, anyLevel, 9L), "'with' should reject narrowing");
+    }
+
+    @Test
+    @DisplayName("look up enum constants")
+    void testLookUpEnumConstants() {
+        assertTrue(mirror(MockClass.class).asEnum().isEmpty(), "'MockClass' is not an enum");
+
+        MEnum<DayOfWeek> days = mirror(DayOfWeek.class).asEnum().orElseThrow();
+        assertSame(days.getConstants(), days.getConstants(), "constants should be cached");
+        assertEquals(DayOfWeek.FRIDAY, days.getConstant(4), "constant did not match");
+        assertEquals(DayOfWeek.FRIDAY, days.getConstantOrNull("FRIDAY"), "constant did not match");
+        assertNull(days.getConstantOrNull("friday"), "lookup by name should be case-sensitive");
+        assertEquals(DayOfWeek.FRIDAY, days.getConstantIgnoreCaseOrNull("friday"), "constant did not match");
+
+        Set<DayOfWeek> weekend = days.fromBitMask(days.toBitMask(List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)));
+        assertEquals(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), weekend, "weekend did not match");
+    }
+
+    @Test
+    @DisplayName("access array elements")
+    void testAccessArrayElements() {
+        assertTrue(mirror(MockClass.class).asArray().isEmpty(), "'MockClass' is not an array class");
+
+        MArray<int[]> ints = mirror(int[].class).asArray().orElseThrow();
+        int[] array = ints.newInstance(5);
+        ints.setInt(array, 0, 7).set(array, 1, (short) 8);
+        assertEquals(7, ints.getInt(array, 0), "element did not match");
+        assertEquals(8L, ints.getLong(array, 1), "element should widen to long");
+        assertThrows(MismatchedArgumentsException.class, () -> ints.getShort(array, 0), "'getShort' should reject a narrowing read");
+        assertThrows(MismatchedArgumentsException.class, () -> ints.set(array, 0, "7"), "'set' should reject a string");
+
+        ints.fill(array, 2, 5, 9);
+        assertArrayEquals(new int[]{7, 8, 9, 9, 9}, array, "elements did not match");
+        assertArrayEquals(new int[]{7, 8, 9}, ints.copyOf(array, 3), "copy did not match");
+
+        MArray<String[]> strings = mirror(String[].class).asArray().orElseThrow();
+        String[] names = strings.newInstance(2);
+        strings.fill(names, "fade");
+        assertEquals("fade", strings.get(names, 1), "element did not match");
+        assertEquals(2, strings.getLength(names), "length did not match");
+    }
+
+    @Test
+    @DisplayName("fold static fields into constants")
+    void testFoldStaticFields() throws Throwable {
+        MClass<MockSettings> clazz = mirror(MockSettings.class);
+        MField<String> name = clazz.getField(Filter.forFields().ofType(String.class).withName("NAME")).orElseThrow();
+        assertEquals("mock", name.getValue(null).orElseThrow(), "'NAME' did not match");
+        assertEquals("mock", (Object) name.getConstantHandle().invokeExact(), "'NAME' did not match");
+
+        MockSettings.level = 1;
+        MField<Integer> level = clazz.getField(Filter.forFields().ofType(int.class).withName("level")).orElseThrow();
+        MethodHandle handle = level.getConstantHandle();
+        MockSettings.level = 2;
+        assertEquals(1, (Object) handle.invokeExact(), "'level' should keep the folded value");
+        level.invalidateConstant();
+        assertEquals(2, (Object) handle.invokeExact(), "'level' should have been refreshed");
+        assertEquals(2, (int) level.getValue(null).orElseThrow(), "'getValue' should read the current value");
+
+        MField<String> role = mirror(MockUserSubClass.class).getField(Filter.forFields().ofType(String.class).withName("role")).orElseThrow();
+        assertThrows(MismatchedArgumentsException.class, role::getConstantHandle, "'getConstantHandle' should reject an instance field");
+
+        MField<?> value = mirror(MockInitializer.class).getField(Filter.forFields().withName("VALUE")).orElseThrow();
+        assertNull(MockInitializer.SEEN, "'VALUE' should not have been assigned while initializing");
+        assertSame(MockInitializer.VALUE, value.getValueOrNull(null), "a read while initializing should not have been folded");
+    }
 }
@@ -1,13 +1,21 @@
 package fade.mirror;
 
+import fade.mirror.exception.InaccessibleException;
+import fade.mirror.exception.MismatchedArgumentsException;
 import fade.mirror.filter.Filter;
+import fade.mirror.mock.MockRecord;
 import fade.mirror.mock.MockUser;
 import fade.mirror.mock.MockUserSubClass;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static fade.mirror.Mirror.mirror;
 import static org.junit.jupiter.api.Assertions.*;
@@ -63,6 +71,7 @@ class MockUserTest {
         Optional<String> value = field.getValue(user);
         assertTrue(value.isPresent(), "'value' is absent");
         assertEquals("bob", value.get(), "'username' did not match");
+        assertTrue(field.refreshAccessibility().hasValue(user), "'hasValue' should be true after refreshing");
     }
 
     @Test
@@ -77,4 +86,235 @@ class MockUserTest {
         assertTrue(roleField.isPresent(), "'roleField' is absent"); // test own field
         assertTrue(usernameField.isPresent(), "'usernameField' is absent"); // test inherited field
     }
+
+    @Test
+    @DisplayName("hand out new raw members")
+    void testRawMembersAreNotShared() {
+        MClass<MockUser> clazz = mirror(MockUser.class);
+        Field username = clazz.getRawFields().filter(field -> field.getName().equals("username")).findFirst().orElseThrow();
+        username.setAccessible(true);
+
+        assertFalse(clazz.getRawFields()
+                .filter(field -> field.getName().equals("username"))
+                .findFirst()
+                .orElseThrow()
+                .canAccess(new MockUser("bob", "bob@example.com")), "raw fields should not share their accessibility");
+        assertNotSame(clazz.getRawMethods().findFirst().orElseThrow(), clazz.getRawMethods().findFirst().orElseThrow(), "raw methods should not be shared");
+        assertNotSame(clazz.getRawConstructors().findFirst().orElseThrow(), clazz.getRawConstructors().findFirst().orElseThrow(), "raw constructors should not be shared");
+    }
+
+    @Test
+    @DisplayName("method as function")
+    @SuppressWarnings("unchecked")
+    void testMethodAsFunction() throws NoSuchMethodException {
+        Function<MockUser, String> getUsername = mirror(MockUser.class).getMethod(Filter.forMethods().withName("getUsername"))
+                .orElseThrow()
+                .asFunction(Function.class);
+
+        assertEquals("bob", getUsername.apply(new MockUser("bob", "bob@example.com")), "'username' did not match");
+        assertThrows(MismatchedArgumentsException.class, () -> mirror(MockUser.class).getMethod(Filter.forMethods().withName("getUsername"))
+                .orElseThrow()
+                .asFunction(Supplier.class), "'asFunction' should reject incompatible interfaces");
+
+        MMethod<Boolean> isLatin1 = mirror(String.class.getDeclaredMethod("isLatin1"));
+        assertThrows(InaccessibleException.class, () -> isLatin1.asFunction(Predicate.class), "'asFunction' should reject inaccessible methods");
+        assertThrows(InaccessibleException.class, () -> isLatin1.invoke0("x"), "'invoke' should reject inaccessible methods");
+    }
+
+    @Test
+    @DisplayName("constructor as factory")
+    @SuppressWarnings("unchecked")
+    void testConstructorAsFactory() {
+        BiFunction<String, String, MockUser> factory = mirror(MockUser.class).getConstructor()
+                .orElseThrow()
+                .asFactory(BiFunction.class);
+
+        assertEquals("bob", factory.apply("bob", "bob@example.com").getUsername(), "'username' did not match");
+        assertNotNull(mirror(MockUserSubClass.class).getConstructor(Filter.forConstructors().withNoParameters()::test)
+                .orElseThrow()
+                .asSupplier()
+                .get(), "'supplier.get()' is null");
+    }
+
+    @Test
+    @DisplayName("count inherited methods")
+    void testCountInheritedMethods() {
+        MClass<MockUser> user = mirror(MockUser.class);
+        MClass<MockUserSubClass> subClass = mirror(MockUserSubClass.class);
+
+        // Object is not a superclass for these queries, so only 'getUsername' and 'getEmail' are counted
+        assertEquals(2, user.getMethodCount(MClass.IncludeSuperclasses.Yes), "method count did not match");
+        assertEquals(subClass.getMethodCount() + 2, subClass.getMethodCount(MClass.IncludeSuperclasses.Yes), "method count did not match");
+        assertTrue(user.getMethods(MClass.IncludeSuperclasses.Yes)
+                .noneMatch(method -> method.getName().equals("toString")), "methods of 'Object' should not be included");
+        assertTrue(user.getEffectiveMethod("toString").isPresent(), "'toString' should be resolved from 'Object'");
+    }
+
+    @Test
+    @DisplayName("access field repeatedly")
+    void testAccessFieldRepeatedly() {
+        MockUserSubClass user = new MockUserSubClass();
+        MField<Integer> field = mirror(MockUserSubClass.class).getField(Filter.forFields().ofType(int.class).withName("score"))
+                .orElseThrow();
+
+        // well past the inflation threshold, so the field switches to generated accessors midway
+        for (int score = 0; score < 64; score++) {
+            field.setValue(user, score);
+            assertEquals(score, user.getScore(), "'score' did not match");
+            assertEquals(score, (int) field.getValue(user).orElseThrow(), "'value' did not match");
+        }
+    }
+
+    @Test
+    @DisplayName("invoke with fixed arity")
+    void testInvokeWithFixedArity() {
+        MockUserSubClass user = new MockUserSubClass();
+        MClass<MockUserSubClass> clazz = mirror(MockUserSubClass.class);
+        MMethod<Void> setScore = clazz.getMethod(Filter.forMethods().withName("setScore").ofType(void.class))
+                .orElseThrow();
+
+        setScore.invoke1(user, 42);
+        assertEquals(42, user.getScore(), "'score' did not match");
+        assertEquals("admin", clazz.getConstructor(Filter.forConstructors()
+                        .withParameters(List.of(String.class, String.class, String.class))::test)
+                .orElseThrow()
+                .invoke3(null, "bob", "bob@example.com", "admin")
+                .getRole(), "'role' did not match");
+        assertThrows(MismatchedArgumentsException.class, () -> setScore.invoke1(user, "42"), "'invoke1' should reject mismatched arguments");
+        assertThrows(MismatchedArgumentsException.class, () -> setScore.invoke2(user, 1, 2), "'invoke2' should reject a mismatched arity");
+    }
+
+    @Test
+    @DisplayName("access field with memory ordering")
+    void testAccessFieldWithMemoryOrdering() {
+        MockUserSubClass user = new MockUserSubClass();
+        MField<Integer> score = mirror(MockUserSubClass.class).getField(Filter.forFields().ofType(int.class).withName("score"))
+                .orElseThrow();
+
+        score.setRelease(user, 7);
+        assertEquals(7, (int) score.getAcquire(user), "'score' did not match");
+        score.setVolatile(user, 8);
+        assertEquals(8, user.getScore(), "'score' did not match");
+        assertEquals(8, score.refreshAccessibility().getInt(user), "handles should be resolved again after refreshing");
+        assertThrows(MismatchedArgumentsException.class, () -> score.getPlain(new MockUser("bob", "bob@example.com")), "'getPlain' should reject a foreign instance");
+
+        MField<String> role = mirror(MockUserSubClass.class).getField(Filter.forFields().ofType(String.class).withName("role"))
+                .orElseThrow();
+        assertEquals("role", role.getOpaque(user), "'role' did not match");
+        assertThrows(InaccessibleException.class, () -> role.setRelease(user, "admin"), "'setRelease' should reject a final field");
+    }
+
+    @Test
+    @DisplayName("access primitive field without boxing")
+    void testAccessPrimitiveField() {
+        MockUserSubClass user = new MockUserSubClass();
+        MClass<MockUserSubClass> clazz = mirror(MockUserSubClass.class);
+        MField<Integer> score = clazz.getField(Filter.forFields().ofType(int.class).withName("score")).orElseThrow();
+
+        score.setInt(user, 5);
+        assertEquals(5, score.getInt(user), "'score' did not match");
+        assertEquals(5L, score.getLong(user), "'score' should widen to long");
+        assertThrows(MismatchedArgumentsException.class, () -> score.getShort(user), "'getShort' should reject a narrowing read");
+
+        MField<String> role = clazz.getField(Filter.forFields().ofType(String.class).withName("role")).orElseThrow();
+        assertEquals("role", role.getValueOrNull(user), "'role' did not match");
+        assertThrows(MismatchedArgumentsException.class, () -> role.getInt(user), "'getInt' should reject a reference field");
+    }
+
+    @Test
+    @DisplayName("update field atomically")
+    void testUpdateFieldAtomically() {
+        MockUserSubClass user = new MockUserSubClass();
+        MClass<MockUserSubClass> clazz = mirror(MockUserSubClass.class);
+        MField<Integer> score = clazz.getField(Filter.forFields().ofType(int.class).withName("score")).orElseThrow();
+
+        assertTrue(score.compareAndSetInt(user, 0, 10), "'compareAndSetInt' should succeed");
+        assertFalse(score.compareAndSet(user, 0, 20), "'compareAndSet' should fail");
+        assertEquals(10, score.getAndAddInt(user, 5), "'getAndAddInt' did not match");
+        assertEquals(15, (int) score.getAndSet(user, 3), "'getAndSet' did not match");
+        assertEquals(6, (int) score.accumulateAndGet(user, 2, (a, b) -> a * b), "'accumulateAndGet' did not match");
+        assertEquals(6, user.getScore(), "'score' did not match");
+        assertThrows(MismatchedArgumentsException.class, () -> score.getAndAddLong(user, 1L), "'getAndAddLong' should reject an int field");
+
+        MField<String> role = clazz.getField(Filter.forFields().ofType(String.class).withName("role")).orElseThrow();
+        assertThrows(InaccessibleException.class, () -> role.compareAndSet(user, "role", "admin"), "'compareAndSet' should reject a final field");
+    }
+
+    @Test
+    @DisplayName("copy fields")
+    void testCopyFields() {
+        MockUserSubClass user = new MockUserSubClass("fade", "fade@example.com", "admin");
+        user.setScore(7);
+        MClass<MockUserSubClass> clazz = mirror(MockUserSubClass.class);
+
+        MockUserSubClass copy = clazz.copier().copy(user);
+        assertNotSame(user, copy, "'copy' should create a new instance");
+        assertEquals("fade", copy.getUsername(), "'username' did not match");
+        assertEquals("admin", copy.getRole(), "'role' did not match");
+        assertEquals(7, copy.getScore(), "'score' did not match");
+        assertSame(clazz.copier(), clazz.copier(), "'copier' should be cached");
+        assertThrows(MismatchedArgumentsException.class, () -> mirror(MockUser.class).copier()
+                .copy(user), "'copy' should reject an instance of a subclass");
+
+        MockUserSubClass target = new MockUserSubClass();
+        clazz.copier(Filter.forFields().ofType(int.class)).copy(user, target);
+        assertEquals(7, target.getScore(), "'score' did not match");
+        assertEquals("role", target.getRole(), "'role' should not have been copied");
+
+        MockUserSubClass empty = new MockUserSubClass(null, null, null);
+        clazz.copier().merge(empty, target);
+        assertEquals(0, target.getScore(), "'score' did not match");
+        assertEquals("role", target.getRole(), "'merge' should not copy null values");
+    }
+
+    @Test
+    @DisplayName("compare and describe by fields")
+    void testCompareAndDescribeByFields() {
+        MClass<MockUserSubClass> clazz = mirror(MockUserSubClass.class);
+        MockUserSubClass user = new MockUserSubClass("fade", "fade@example.com", "admin");
+        MockUserSubClass same = new MockUserSubClass("fade", "fade@example.com", "admin");
+        MockUserSubClass other = new MockUserSubClass("fade", "fade@example.com", "admin");
+        other.setScore(1);
+
+        Equivalence<MockUserSubClass> equivalence = clazz.equivalence();
+        assertTrue(equivalence.equivalent(user, same), "equal users should be equivalent");
+        assertEquals(equivalence.hash(user), equivalence.hash(same), "equivalent users should have the same hash");
+        assertFalse(equivalence.equivalent(user, other), "users with different scores should not be equivalent");
+        assertTrue(clazz.equivalence(Filter.forFields().ofType(String.class), MClass.IncludeSuperclasses.No)
+                .equivalent(user, other), "users should be equivalent by role");
+
+        assertEquals("MockUserSubClass[username=fade, email=fade@example.com, role=admin, score=1]", clazz.stringifier()
+                .stringify(other), "description did not match");
+        assertEquals("MockUserSubClass[score=1]", clazz.stringifier(Filter.forFields()
+                .ofType(int.class), MClass.IncludeSuperclasses.No).stringify(other), "description did not match");
+
+        MClass<MockRecord> record = mirror(MockRecord.class);
+        assertTrue(record.equivalence()
+                .equivalent(new MockRecord("fade", 1), new MockRecord("fade", 1)), "equal records should be equivalent");
+        assertFalse(record.equivalence()
+                .equivalent(new MockRecord("fade", 1), new MockRecord("fade", 2)), "records with different levels should not be equivalent");
+        assertEquals("MockRecord[name=fade, level=1]", record.stringifier()
+                .stringify(new MockRecord("fade", 1)), "description did not match");
+        assertThrows(InaccessibleException.class, () -> mirror(String.class).stringifier(), "fields of 'String' are not open to the library");
+    }
+
+    @Test
+    @DisplayName("look up members by name")
+    void testLookUpMembersByName() {
+        MClass<MockUserSubClass> clazz = mirror(MockUserSubClass.class);
+
+        assertEquals(clazz.getMethods(method -> method.getName().equals("getScore")).toList(), clazz.getMethods(Filter.forMethods()
+                .withName("getScore")).toList(), "indexed lookup should find the same methods as a scan");
+        assertTrue(clazz.getMethod(Filter.forMethods().withName("getUsername")).isEmpty(), "'getUsername' is not declared by the subclass");
+        assertTrue(clazz.getMethod(Filter.forMethods()
+                .withName("getUsername"), MClass.IncludeSuperclasses.Yes).isPresent(), "'getUsername' should be found in the superclass");
+        assertTrue(clazz.getMethod(Filter.forMethods().withName("getScore").ofType(String.class)).isEmpty(), "the filter should still be applied");
+
+        assertEquals("score", clazz.getField(Filter.forFields().withName("score").compile())
+                .orElseThrow()
+                .getName(), "'score' should be found by name");
+        assertTrue(clazz.getField(Filter.forFields().withName("email")).isEmpty(), "'email' is not declared by the subclass");
+        assertEquals(1, clazz.getFields(Filter.forFields()
+                .withName("email"), MClass.IncludeSuperclasses.Yes).count(), "'email' should be found in the superclass");
+    }
 }
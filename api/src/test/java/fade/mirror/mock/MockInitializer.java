@@ -0,0 +1,19 @@
+package fade.mirror.mock;
+
+import fade.mirror.filter.Filter;
+
+import static fade.mirror.Mirror.mirror;
+
+public class MockInitializer {
+
+    public static final Object SEEN;
+
+    public static final Object VALUE;
+
+    static {
+        SEEN = mirror(MockInitializer.class).getField(Filter.forFields().withName("VALUE"))
+                .orElseThrow()
+                .getValueOrNull(null);
+        VALUE = new Object();
+    }
+}
@@ -0,0 +1,4 @@
+package fade.mirror.mock;
+
+public record MockRecord(String name, int level) {
+}
@@ -0,0 +1,8 @@
+package fade.mirror.mock;
+
+public class MockSettings {
+
+    public static final String NAME = "mock";
+
+    public static int level;
+}